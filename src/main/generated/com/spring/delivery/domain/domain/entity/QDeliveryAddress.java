@@ -40,6 +40,10 @@ public class QDeliveryAddress extends EntityPathBase<DeliveryAddress> {
 
     public final ComparablePath<java.util.UUID> id = createComparable("id", java.util.UUID.class);
 
+    public final NumberPath<Double> latitude = createNumber("latitude", Double.class);
+
+    public final NumberPath<Double> longitude = createNumber("longitude", Double.class);
+
     public final StringPath request = createString("request");
 
     //inherited
@@ -0,0 +1,67 @@
+package com.spring.delivery.domain.domain.entity;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+
+
+/**
+ * QIdempotencyRecord is a Querydsl query type for IdempotencyRecord
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QIdempotencyRecord extends EntityPathBase<IdempotencyRecord> {
+
+    private static final long serialVersionUID = -1002041923L;
+
+    public static final QIdempotencyRecord idempotencyRecord = new QIdempotencyRecord("idempotencyRecord");
+
+    public final QBaseEntity _super = new QBaseEntity(this);
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> createdAt = _super.createdAt;
+
+    //inherited
+    public final StringPath createdBy = _super.createdBy;
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> deletedAt = _super.deletedAt;
+
+    //inherited
+    public final StringPath deletedBy = _super.deletedBy;
+
+    public final DateTimePath<java.time.LocalDateTime> expiresAt = createDateTime("expiresAt", java.time.LocalDateTime.class);
+
+    public final StringPath key = createString("key");
+
+    public final ComparablePath<java.util.UUID> orderId = createComparable("orderId", java.util.UUID.class);
+
+    public final StringPath requestHash = createString("requestHash");
+
+    public final StringPath responseMessage = createString("responseMessage");
+
+    public final NumberPath<Integer> responseStatus = createNumber("responseStatus", Integer.class);
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> updatedAt = _super.updatedAt;
+
+    //inherited
+    public final StringPath updatedBy = _super.updatedBy;
+
+    public QIdempotencyRecord(String variable) {
+        super(IdempotencyRecord.class, forVariable(variable));
+    }
+
+    public QIdempotencyRecord(Path<? extends IdempotencyRecord> path) {
+        super(path.getType(), path.getMetadata());
+    }
+
+    public QIdempotencyRecord(PathMetadata metadata) {
+        super(IdempotencyRecord.class, metadata);
+    }
+
+}
+
@@ -44,6 +44,8 @@ public class QMenuOrder extends EntityPathBase<MenuOrder> {
 
     public final QOrder order;
 
+    public final NumberPath<Long> unitPrice = createNumber("unitPrice", Long.class);
+
     //inherited
     public final DateTimePath<java.time.LocalDateTime> updatedAt = _super.updatedAt;
 
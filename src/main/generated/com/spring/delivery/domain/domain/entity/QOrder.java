@@ -40,12 +40,18 @@ public class QOrder extends EntityPathBase<Order> {
 
     public final ComparablePath<java.util.UUID> id = createComparable("id", java.util.UUID.class);
 
+    public final NumberPath<Integer> itemCount = createNumber("itemCount", Integer.class);
+
     public final ListPath<MenuOrder, QMenuOrder> menuOrderList = this.<MenuOrder, QMenuOrder>createList("menuOrderList", MenuOrder.class, QMenuOrder.class, PathInits.DIRECT2);
 
-    public final StringPath orderStatus = createString("orderStatus");
+    public final EnumPath<com.spring.delivery.domain.domain.entity.enumtype.OrderStatus> orderStatus = createEnum("orderStatus", com.spring.delivery.domain.domain.entity.enumtype.OrderStatus.class);
 
     public final StringPath orderType = createString("orderType");
 
+    public final QStore store;
+
+    public final StringPath storeName = createString("storeName");
+
     public final NumberPath<Long> totalPrice = createNumber("totalPrice", Long.class);
 
     //inherited
@@ -74,6 +80,7 @@ public class QOrder extends EntityPathBase<Order> {
 
     public QOrder(Class<? extends Order> type, PathMetadata metadata, PathInits inits) {
         super(type, metadata, inits);
+        this.store = inits.isInitialized("store") ? new QStore(forProperty("store"), inits.get("store")) : null;
         this.user = inits.isInitialized("user") ? new QUser(forProperty("user")) : null;
     }
 
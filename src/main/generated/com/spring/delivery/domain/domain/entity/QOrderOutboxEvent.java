@@ -0,0 +1,75 @@
+package com.spring.delivery.domain.domain.entity;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+
+
+/**
+ * QOrderOutboxEvent is a Querydsl query type for OrderOutboxEvent
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QOrderOutboxEvent extends EntityPathBase<OrderOutboxEvent> {
+
+    private static final long serialVersionUID = 1525461396L;
+
+    public static final QOrderOutboxEvent orderOutboxEvent = new QOrderOutboxEvent("orderOutboxEvent");
+
+    public final QBaseEntity _super = new QBaseEntity(this);
+
+    public final NumberPath<Integer> attempts = createNumber("attempts", Integer.class);
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> createdAt = _super.createdAt;
+
+    //inherited
+    public final StringPath createdBy = _super.createdBy;
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> deletedAt = _super.deletedAt;
+
+    //inherited
+    public final StringPath deletedBy = _super.deletedBy;
+
+    public final DateTimePath<java.time.LocalDateTime> dispatchedAt = createDateTime("dispatchedAt", java.time.LocalDateTime.class);
+
+    public final EnumPath<com.spring.delivery.domain.domain.entity.enumtype.OrderStatus> fromStatus = createEnum("fromStatus", com.spring.delivery.domain.domain.entity.enumtype.OrderStatus.class);
+
+    public final ComparablePath<java.util.UUID> id = createComparable("id", java.util.UUID.class);
+
+    public final DateTimePath<java.time.LocalDateTime> nextAttemptAt = createDateTime("nextAttemptAt", java.time.LocalDateTime.class);
+
+    public final DateTimePath<java.time.LocalDateTime> occurredAt = createDateTime("occurredAt", java.time.LocalDateTime.class);
+
+    public final ComparablePath<java.util.UUID> orderId = createComparable("orderId", java.util.UUID.class);
+
+    public final DateTimePath<java.time.LocalDateTime> parkedAt = createDateTime("parkedAt", java.time.LocalDateTime.class);
+
+    public final ComparablePath<java.util.UUID> storeId = createComparable("storeId", java.util.UUID.class);
+
+    public final EnumPath<com.spring.delivery.domain.domain.entity.enumtype.OrderStatus> toStatus = createEnum("toStatus", com.spring.delivery.domain.domain.entity.enumtype.OrderStatus.class);
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> updatedAt = _super.updatedAt;
+
+    //inherited
+    public final StringPath updatedBy = _super.updatedBy;
+
+    public QOrderOutboxEvent(String variable) {
+        super(OrderOutboxEvent.class, forVariable(variable));
+    }
+
+    public QOrderOutboxEvent(Path<? extends OrderOutboxEvent> path) {
+        super(path.getType(), path.getMetadata());
+    }
+
+    public QOrderOutboxEvent(PathMetadata metadata) {
+        super(OrderOutboxEvent.class, metadata);
+    }
+
+}
+
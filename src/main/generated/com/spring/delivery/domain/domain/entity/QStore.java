@@ -42,12 +42,20 @@ public class QStore extends EntityPathBase<Store> {
 
     public final ComparablePath<java.util.UUID> id = createComparable("id", java.util.UUID.class);
 
+    public final NumberPath<Double> latitude = createNumber("latitude", Double.class);
+
+    public final NumberPath<Double> longitude = createNumber("longitude", Double.class);
+
     public final ListPath<Menu, QMenu> menus = this.<Menu, QMenu>createList("menus", Menu.class, QMenu.class, PathInits.DIRECT2);
 
     public final StringPath name = createString("name");
 
     public final BooleanPath openStatus = createBoolean("openStatus");
 
+    public final NumberPath<Long> ratingCount = createNumber("ratingCount", Long.class);
+
+    public final NumberPath<Double> ratingSum = createNumber("ratingSum", Double.class);
+
     public final ListPath<Review, QReview> reviews = this.<Review, QReview>createList("reviews", Review.class, QReview.class, PathInits.DIRECT2);
 
     public final TimePath<java.time.LocalTime> startTime = createTime("startTime", java.time.LocalTime.class);
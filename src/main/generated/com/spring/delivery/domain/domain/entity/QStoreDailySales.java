@@ -0,0 +1,45 @@
+package com.spring.delivery.domain.domain.entity;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+
+
+/**
+ * QStoreDailySales is a Querydsl query type for StoreDailySales
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QStoreDailySales extends EntityPathBase<StoreDailySales> {
+
+    private static final long serialVersionUID = -1103101777L;
+
+    public static final QStoreDailySales storeDailySales = new QStoreDailySales("storeDailySales");
+
+    public final ComparablePath<java.util.UUID> id = createComparable("id", java.util.UUID.class);
+
+    public final NumberPath<Long> orderCount = createNumber("orderCount", Long.class);
+
+    public final NumberPath<Long> salesAmount = createNumber("salesAmount", Long.class);
+
+    public final DatePath<java.time.LocalDate> salesDate = createDate("salesDate", java.time.LocalDate.class);
+
+    public final ComparablePath<java.util.UUID> storeId = createComparable("storeId", java.util.UUID.class);
+
+    public QStoreDailySales(String variable) {
+        super(StoreDailySales.class, forVariable(variable));
+    }
+
+    public QStoreDailySales(Path<? extends StoreDailySales> path) {
+        super(path.getType(), path.getMetadata());
+    }
+
+    public QStoreDailySales(PathMetadata metadata) {
+        super(StoreDailySales.class, metadata);
+    }
+
+}
+
@@ -4,14 +4,19 @@ import com.spring.delivery.domain.controller.dto.ApiResponseDto;
 import com.spring.delivery.domain.controller.dto.category.CategoryDeleteResponseDto;
 import com.spring.delivery.domain.controller.dto.category.CategoryListResponseDto;
 import com.spring.delivery.domain.controller.dto.category.CategoryRequestDto;
+import com.spring.delivery.domain.controller.dto.category.CategoryTopStoreResponseDto;
 import com.spring.delivery.domain.controller.dto.category.CategoryUpdateResponseDto;
 import com.spring.delivery.domain.service.CategoryService;
 import com.spring.delivery.global.security.UserDetailsImpl;
+import com.spring.delivery.global.util.ResourceVersion;
 import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @RestController
@@ -37,12 +42,29 @@ public class CategoryController {
             @RequestParam(value = "page") int page,
             @RequestParam(value = "size") int size,
             @RequestParam(value = "sortBy") String sortBy,
-            @RequestParam(value = "isAsc") boolean isAsc) {
+            @RequestParam(value = "isAsc") boolean isAsc,
+            WebRequest webRequest) {
+        // 변경이 없으면 DTO 생성/직렬화 없이 304
+        Optional<ResourceVersion> version = categoryService.getCategoriesVersion(userDetails);
+        if (version.isPresent() && webRequest.checkNotModified(version.get().etag(), version.get().lastModified())) {
+            return null;
+        }
+
         ApiResponseDto<Page<CategoryListResponseDto>> responseDto = categoryService.getAllCategories(userDetails, page - 1, size, sortBy, isAsc);
 
         return ResponseEntity.status(responseDto.getStatus()).body(responseDto);
     }
 
+    @GetMapping("/{id}/top-stores") // 카테고리별 인기 가게 (rankBy: rating | orders)
+    public ResponseEntity<ApiResponseDto<List<CategoryTopStoreResponseDto>>> getTopStores(
+            @PathVariable UUID id,
+            @RequestParam(value = "limit", defaultValue = "10") int limit,
+            @RequestParam(value = "rankBy", defaultValue = "rating") String rankBy) {
+        ApiResponseDto<List<CategoryTopStoreResponseDto>> response = categoryService.getTopStores(id, limit, rankBy);
+
+        return ResponseEntity.status(response.getStatus()).body(response);
+    }
+
     @PatchMapping("/{id}")
     public ResponseEntity<ApiResponseDto<CategoryUpdateResponseDto>> updateCategory(@AuthenticationPrincipal UserDetailsImpl userDetails, @PathVariable UUID id, @RequestBody CategoryRequestDto requestDto) {
         ApiResponseDto<CategoryUpdateResponseDto> response = categoryService.updateCategory(userDetails, id, requestDto);
@@ -6,14 +6,17 @@ import com.spring.delivery.domain.controller.dto.menu.MenuRequestDto;
 import com.spring.delivery.domain.controller.dto.menu.MenuResponseDto;
 import com.spring.delivery.domain.service.MenuService;
 import com.spring.delivery.global.security.UserDetailsImpl;
+import com.spring.delivery.global.util.ResourceVersion;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 
@@ -64,8 +67,21 @@ public class MenuController {
     @GetMapping("/{menuId}")
     public ResponseEntity<ApiResponseDto<MenuResponseDto>> getMenuDetail(
             @AuthenticationPrincipal UserDetailsImpl userDetails,
-            @PathVariable UUID menuId
+            @PathVariable UUID menuId,
+            WebRequest webRequest
     ) {
+        // 권한이 없으면 304 대신 403
+        ApiResponseDto<MenuResponseDto> denied = menuService.checkReadAccess(userDetails);
+        if (denied != null) {
+            return ResponseEntity.status(denied.getStatus()).body(denied);
+        }
+
+        // 변경이 없으면 DTO 생성/직렬화 없이 304
+        Optional<ResourceVersion> version = menuService.getMenuVersion(menuId);
+        if (version.isPresent() && webRequest.checkNotModified(version.get().etag(), version.get().lastModified())) {
+            return null;
+        }
+
         ApiResponseDto<MenuResponseDto> responseDto = menuService.getMenuDetail(userDetails, menuId);
 
         return ResponseEntity.status(responseDto.getStatus()).body(responseDto);
@@ -79,8 +95,18 @@ public class MenuController {
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "30") int size,
             @RequestParam(defaultValue = "createdAt") String sort,
-            @RequestParam(defaultValue = "desc") String order
+            @RequestParam(defaultValue = "desc") String order,
+            WebRequest webRequest
     ) {
+        ApiResponseDto<Map<String, Object>> denied = menuService.checkReadAccess(userDetails);
+        if (denied != null) {
+            return ResponseEntity.status(denied.getStatus()).body(denied);
+        }
+
+        ResourceVersion version = menuService.getMenuListVersion();
+        if (webRequest.checkNotModified(version.etag(), version.lastModified())) {
+            return null;
+        }
 
         ApiResponseDto<Map<String, Object>> responseDto = menuService.getMenusByStore(userDetails, store_id, page, size, sort, order);
 
@@ -96,7 +122,17 @@ public class MenuController {
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "30") int size,
             @RequestParam(defaultValue = "createdAt") String sort,
-            @RequestParam(defaultValue = "desc") String order) {
+            @RequestParam(defaultValue = "desc") String order,
+            WebRequest webRequest) {
+        ApiResponseDto<Map<String, Object>> denied = menuService.checkReadAccess(userDetails);
+        if (denied != null) {
+            return ResponseEntity.status(denied.getStatus()).body(denied);
+        }
+
+        ResourceVersion version = menuService.getMenuListVersion();
+        if (webRequest.checkNotModified(version.etag(), version.lastModified())) {
+            return null;
+        }
 
         ApiResponseDto<Map<String, Object>> responseDto = menuService.searchMenus(userDetails, storeId, keyword, page, size, sort, order);
 
@@ -1,17 +1,34 @@
 package com.spring.delivery.domain.controller;
 
 import com.spring.delivery.domain.controller.dto.ApiResponseDto;
+import com.spring.delivery.domain.controller.dto.order.OrderHistoryCursorResponseDto;
+import com.spring.delivery.domain.controller.dto.order.OrderIntakeResponseDto;
 import com.spring.delivery.domain.controller.dto.order.OrderMenuResponseDto;
 import com.spring.delivery.domain.controller.dto.order.OrderRequestDto;
 import com.spring.delivery.domain.controller.dto.order.OrderResponseDto;
+import com.spring.delivery.domain.controller.dto.order.OrderStatusRequestDto;
+import com.spring.delivery.domain.service.OrderExportService;
+import com.spring.delivery.domain.service.OrderIdempotencyService;
+import com.spring.delivery.domain.service.OrderIntakeService;
 import com.spring.delivery.domain.service.OrderService;
+import com.spring.delivery.domain.service.OrderStreamService;
 import com.spring.delivery.global.security.UserDetailsImpl;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.net.URI;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
@@ -22,22 +39,52 @@ import java.util.UUID;
 public class OrderController {
     // 의존성 주입
     private final OrderService orderService;
+    private final OrderIdempotencyService orderIdempotencyService;
+    private final OrderIntakeService orderIntakeService;
+    private final OrderStreamService orderStreamService;
+    private final OrderExportService orderExportService;
+
+    @Value("${order.intake.async-enabled:false}")
+    private boolean asyncIntake;
 
     // 주문 생성 controller
     @PostMapping("/")
     // 주문의 관한 dto를 반환하기 위해 반환 데이터를 responseDto로 선언
-    public ResponseEntity<ApiResponseDto<OrderResponseDto>> createOrder(
+    // 비동기 접수 모드면 검증 후 큐에 넣고 202 (처리 상태는 statusUrl 로 조회), 큐가 가득 차면 429
+    public ResponseEntity<? extends ApiResponseDto<?>> createOrder(
             // 생성에 필요한 데이터를 requestbody를 통해 받아옴
-            @RequestBody OrderRequestDto orderRequestDto
+            @RequestBody OrderRequestDto orderRequestDto,
+            // 재시도 시 같은 값을 보내면 주문이 한 번만 생성됨 (선택)
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey
     ){
         // 잘들어왔니??
         log.info(orderRequestDto);
 
+        if (asyncIntake) {
+            ApiResponseDto<OrderIntakeResponseDto> intakeResponseDto = orderIntakeService.accept(idempotencyKey, orderRequestDto);
+            ResponseEntity.BodyBuilder builder = ResponseEntity.status(intakeResponseDto.getStatus());
+            if (intakeResponseDto.getStatus() == 202) {
+                builder.location(URI.create(intakeResponseDto.getData().getStatusUrl()));
+            } else if (intakeResponseDto.getStatus() == 429) {
+                builder.header(HttpHeaders.RETRY_AFTER, "1");
+            }
+            return builder.body(intakeResponseDto);
+        }
+
         // orderService 에 주문생성기능 사용후 client 로 return
-        ApiResponseDto<OrderResponseDto> orderResponseDto = orderService.createOrder(orderRequestDto);
+        ApiResponseDto<OrderResponseDto> orderResponseDto = orderIdempotencyService.createOrder(idempotencyKey, orderRequestDto);
         return ResponseEntity.status(orderResponseDto.getStatus()).body(orderResponseDto);
     }
 
+    // 비동기 접수 상태 조회
+    @GetMapping("/intake/{intakeId}")
+    public ResponseEntity<ApiResponseDto<OrderIntakeResponseDto>> getIntake(
+            @PathVariable UUID intakeId
+    ){
+        ApiResponseDto<OrderIntakeResponseDto> intakeResponseDto = orderIntakeService.getIntake(intakeId);
+        return ResponseEntity.status(intakeResponseDto.getStatus()).body(intakeResponseDto);
+    }
+
     // 주문 수정 controller
     @PatchMapping("/{id}")
     public ResponseEntity<ApiResponseDto<OrderResponseDto>> updateOrder(
@@ -57,6 +104,26 @@ public class OrderController {
         return ResponseEntity.status(orderResponseDto.getStatus()).body(orderResponseDto);
     }
 
+    // 주문 상태 변경 api
+    @PatchMapping("/{id}/status")
+    public ResponseEntity<ApiResponseDto<OrderResponseDto>> changeOrderStatus(
+            @PathVariable UUID id,
+            @RequestBody OrderStatusRequestDto requestDto,
+            @AuthenticationPrincipal UserDetailsImpl userDetails
+    ){
+        ApiResponseDto<OrderResponseDto> orderResponseDto = orderService.changeOrderStatus(id, requestDto, userDetails);
+        return ResponseEntity.status(orderResponseDto.getStatus()).body(orderResponseDto);
+    }
+
+    // 주문 상태 실시간 구독 (SSE) - 구독 직후 현재 상태, 이후 상태가 바뀔 때마다 order-status 이벤트
+    @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeOrderEvents(
+            @PathVariable UUID id,
+            @AuthenticationPrincipal UserDetailsImpl userDetails
+    ){
+        return orderStreamService.subscribeOrder(id, userDetails);
+    }
+
     // 주문삭제 api
     @DeleteMapping("/{id}")
     public ResponseEntity<ApiResponseDto<OrderResponseDto>> deleteOrder(
@@ -76,6 +143,35 @@ public class OrderController {
         return ResponseEntity.ok(orderResponseDto);
     }
 
+    // 주문 CSV 내보내기 (from ~ to 포함, yyyy-MM-dd) - 조회한 행을 바로 응답 스트림에 씀
+    @GetMapping("/export")
+    public void exportOrders(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            HttpServletResponse response
+    ) throws IOException {
+        orderExportService.checkExport(from, to, userDetails);
+
+        response.setContentType("text/csv; charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("orders_" + from + "_" + to + ".csv")
+                .build()
+                .toString());
+        orderExportService.writeCsv(from, to, response.getOutputStream());
+    }
+
+    // 내 주문 내역 - 최신순 커서 페이지 (첫 페이지는 cursor 없이, 다음 페이지는 응답의 nextCursor)
+    @GetMapping("/me")
+    public ResponseEntity<ApiResponseDto<OrderHistoryCursorResponseDto>> getMyOrders(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ){
+        ApiResponseDto<OrderHistoryCursorResponseDto> responseDto = orderService.getMyOrders(cursor, size, userDetails);
+        return ResponseEntity.ok(responseDto);
+    }
+
     // 주문 검색기능
     @GetMapping("/")
     public ResponseEntity<ApiResponseDto<List<OrderMenuResponseDto>>> getOrders(
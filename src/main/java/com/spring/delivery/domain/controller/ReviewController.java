@@ -77,4 +77,13 @@ public class ReviewController {
         return ResponseEntity.ok(apiResponseDto);
 
     }
+
+    //가게 평점 집계 재계산 (집계 불일치가 의심될 때 수동 실행)
+    @PostMapping("/reviews/ratings/rebuild")
+    @PreAuthorize("hasAnyRole('MASTER')")
+    public ResponseEntity<ApiResponseDto> rebuildStoreRatings(){
+        ApiResponseDto apiResponseDto = ApiResponseDto.success(reviewService.rebuildStoreRatings());
+
+        return ResponseEntity.ok(apiResponseDto);
+    }
 }
@@ -1,17 +1,34 @@
 package com.spring.delivery.domain.controller;
 
 import com.spring.delivery.domain.controller.dto.ApiResponseDto;
+import com.spring.delivery.domain.controller.dto.order.IncomingOrdersResponseDto;
+import com.spring.delivery.domain.controller.dto.store.StoreBulkImportResponseDto;
+import com.spring.delivery.domain.controller.dto.store.StoreCacheStatsResponseDto;
 import com.spring.delivery.domain.controller.dto.store.StoreCreateRequestDto;
 import com.spring.delivery.domain.controller.dto.store.StoreDetailResponseDto;
-import com.spring.delivery.domain.controller.dto.store.StoreListResponseDto;
+import com.spring.delivery.domain.controller.dto.store.StoreSalesResponseDto;
 import com.spring.delivery.domain.controller.dto.store.StoreUpdateRequestDto;
+import com.spring.delivery.domain.domain.repository.search.StoreSearchCondition;
+import com.spring.delivery.domain.service.OrderStreamService;
+import com.spring.delivery.domain.service.StoreImportService;
+import com.spring.delivery.domain.service.StoreSalesService;
 import com.spring.delivery.domain.service.StoreService;
 import com.spring.delivery.global.security.UserDetailsImpl;
-import org.springframework.data.domain.Page;
+import com.spring.delivery.global.util.ResourceVersion;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
-
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @RestController
@@ -19,9 +36,16 @@ import java.util.UUID;
 public class StoreController {
 
     private final StoreService storeService;
+    private final StoreImportService storeImportService;
+    private final OrderStreamService orderStreamService;
+    private final StoreSalesService storeSalesService;
 
-    public StoreController(StoreService storeService) {
+    public StoreController(StoreService storeService, StoreImportService storeImportService, OrderStreamService orderStreamService,
+                           StoreSalesService storeSalesService) {
         this.storeService = storeService;
+        this.storeImportService = storeImportService;
+        this.orderStreamService = orderStreamService;
+        this.storeSalesService = storeSalesService;
     }
 
     @PostMapping
@@ -31,19 +55,47 @@ public class StoreController {
         return ResponseEntity.status(responseDto.getStatus()).body(responseDto);
     }
 
+    // 일괄 등록 - 요청 본문을 메모리에 올리지 않고 줄 단위로 읽음 (NDJSON 또는 헤더가 있는 CSV)
+    @PostMapping(value = "/bulk", consumes = {"application/x-ndjson", "text/csv"})
+    public ResponseEntity<ApiResponseDto<StoreBulkImportResponseDto>> importStores(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream body) {
+        ApiResponseDto<StoreBulkImportResponseDto> responseDto = storeImportService.importStores(userDetails, body, contentType);
+
+        return ResponseEntity.status(responseDto.getStatus()).body(responseDto);
+    }
+
+    // cursor 파라미터가 있으면 커서 기반(첫 페이지는 빈 값), 없으면 기존 offset 기반으로 조회
     @GetMapping
-    public ResponseEntity<ApiResponseDto<Page<StoreListResponseDto>>> getAllStores(
-            @RequestParam(value = "page") int page,
+    public ResponseEntity<ApiResponseDto<?>> getAllStores(
+            @RequestParam(value = "page", defaultValue = "1") int page,
             @RequestParam(value = "size") int size,
-            @RequestParam(value = "sortBy") String sortBy,
-            @RequestParam(value = "isAsc") boolean isAsc) {
-        ApiResponseDto<Page<StoreListResponseDto>> responseDto = storeService.getAllStores(page - 1, size, sortBy, isAsc);
+            @RequestParam(value = "sortBy", defaultValue = "createdAt") String sortBy,
+            @RequestParam(value = "isAsc", defaultValue = "false") boolean isAsc,
+            @RequestParam(value = "cursor", required = false) String cursor) {
+        ApiResponseDto<?> responseDto = (cursor != null)
+                ? storeService.getStoresByCursor(null, null, cursor, size, isAsc)
+                : storeService.getAllStores(page - 1, size, sortBy, isAsc);
+
+        return ResponseEntity.status(responseDto.getStatus()).body(responseDto);
+    }
+
+    @GetMapping("/cache/stats") // 가게 단건 조회 캐시 통계 (MASTER)
+    public ResponseEntity<ApiResponseDto<StoreCacheStatsResponseDto>> getCacheStats(@AuthenticationPrincipal UserDetailsImpl userDetails) {
+        ApiResponseDto<StoreCacheStatsResponseDto> responseDto = storeService.getCacheStats(userDetails);
 
         return ResponseEntity.status(responseDto.getStatus()).body(responseDto);
     }
 
     @GetMapping("/{id}") // 단건 조회를 위한 메서드
-    public ResponseEntity<ApiResponseDto<StoreDetailResponseDto>> getStoreById(@PathVariable UUID id) {
+    public ResponseEntity<ApiResponseDto<StoreDetailResponseDto>> getStoreById(@PathVariable UUID id, WebRequest webRequest) {
+        // 변경이 없으면 DTO 생성/직렬화 없이 304 (ETag, Last-Modified 헤더는 checkNotModified가 설정)
+        Optional<ResourceVersion> version = storeService.getStoreVersion(id);
+        if (version.isPresent() && webRequest.checkNotModified(version.get().etag(), version.get().lastModified())) {
+            return null;
+        }
+
         ApiResponseDto<StoreDetailResponseDto> responseDto = storeService.getStoreById(id);
 
         return ResponseEntity.status(responseDto.getStatus()).body(responseDto);
@@ -63,16 +115,77 @@ public class StoreController {
         return ResponseEntity.status(responseDto.getStatus()).body(responseDto);
     }
 
+    // 가게 주문 상태 실시간 구독 (SSE) - 새 주문과 상태 변경마다 order-status 이벤트
+    @GetMapping(value = "/{id}/orders/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeOrderEvents(@AuthenticationPrincipal UserDetailsImpl userDetails, @PathVariable UUID id) {
+        return orderStreamService.subscribeStore(id, userDetails);
+    }
+
+    // 가게 새 주문 long-polling - 응답의 cursor 를 다음 요청의 after 로 넘김, 새 주문이 없으면 waitMs 동안 대기
+    @GetMapping("/{id}/orders/incoming")
+    public DeferredResult<ApiResponseDto<IncomingOrdersResponseDto>> pollIncomingOrders(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @PathVariable UUID id,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "25000") long waitMs) {
+        return orderStreamService.pollIncoming(id, after, waitMs, userDetails);
+    }
+
+    // 가게 일 매출 (from ~ to 포함, yyyy-MM-dd) - 일 매출 집계만 조회
+    @GetMapping("/{id}/sales")
+    public ResponseEntity<ApiResponseDto<StoreSalesResponseDto>> getDailySales(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @PathVariable UUID id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        ApiResponseDto<StoreSalesResponseDto> responseDto = storeSalesService.getDailySales(id, from, to, userDetails);
+
+        return ResponseEntity.status(responseDto.getStatus()).body(responseDto);
+    }
+
     @GetMapping("/search")
-    public ResponseEntity<ApiResponseDto<Page<StoreListResponseDto>>> searchStores(
+    public ResponseEntity<ApiResponseDto<?>> searchStores(
             @RequestParam(required = false) String storeName,    // 지점 이름 (선택적)
             @RequestParam(required = false) String categoryName, // 카테고리 (선택적)
-            @RequestParam(value = "page") int page,
+            @RequestParam(value = "page", defaultValue = "0") int page,
             @RequestParam(value = "size") int size,
-            @RequestParam(value = "sortBy") String sortBy,
-            @RequestParam(value = "isAsc") boolean isAsc) {
-
-        ApiResponseDto<Page<StoreListResponseDto>> responseDto = storeService.searchStores(storeName, categoryName, page, size, sortBy, isAsc);
+            @RequestParam(value = "sortBy", defaultValue = "createdAt") String sortBy,
+            @RequestParam(value = "isAsc", defaultValue = "false") boolean isAsc,
+            @RequestParam(value = "cursor", required = false) String cursor, // 커서 기반 조회 (선택적)
+            @RequestParam(value = "slice", defaultValue = "false") boolean slice, // 전체 건수 없이 hasNext만 응답
+            @RequestParam(value = "openNow", defaultValue = "false") boolean openNow, // 현재 영업 중인 가게만
+            @RequestParam(value = "openAt", required = false) String openAt, // 해당 시각(HH:mm)에 영업 중인 가게만
+            @RequestParam(value = "near", required = false) UUID near, // 배송지 ID - 반경 내 가게를 가까운 순으로
+            @RequestParam(value = "radiusKm", defaultValue = "3") double radiusKm,
+            @RequestParam(value = "categories", required = false) List<String> categories, // 여러 카테고리 (선택적)
+            @RequestParam(value = "categoryMatch", defaultValue = "any") String categoryMatch, // any(OR) / all(AND)
+            @RequestParam(value = "openStatus", required = false) Boolean openStatus, // 영업 상태 (선택적)
+            @RequestParam(value = "minRating", required = false) Double minRating, // 최소 평균 평점 (선택적)
+            @RequestParam(value = "facets", defaultValue = "false") boolean facets, // 카테고리별 가게 수 포함
+            @AuthenticationPrincipal UserDetailsImpl userDetails) {
+
+        StoreSearchCondition condition = StoreSearchCondition.builder()
+                .storeName(storeName)
+                .categoryName(categoryName)
+                .openAt(StoreSearchCondition.resolveOpenAt(openNow, openAt))
+                .near(near != null ? storeService.locateDeliveryAddress(userDetails, near) : null)
+                .radiusKm(near != null ? StoreSearchCondition.checkRadiusKm(radiusKm) : null)
+                .categoryNames(categories)
+                .matchAllCategories(StoreSearchCondition.resolveMatchAll(categoryMatch))
+                .openStatus(openStatus)
+                .minRating(minRating)
+                .build();
+
+        ApiResponseDto<?> responseDto;
+        if (cursor != null) {
+            responseDto = storeService.getStoresByCursor(condition, cursor, size, isAsc);
+        } else if (facets) {
+            responseDto = storeService.searchStoresWithFacets(condition, page, size, sortBy, isAsc);
+        } else if (slice) {
+            responseDto = storeService.searchStoresSlice(condition, page, size, sortBy, isAsc);
+        } else {
+            responseDto = storeService.searchStores(condition, page, size, sortBy, isAsc);
+        }
 
         return ResponseEntity.status(responseDto.getStatus()).body(responseDto);
     }
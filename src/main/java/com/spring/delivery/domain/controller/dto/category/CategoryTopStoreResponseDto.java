@@ -0,0 +1,25 @@
+package com.spring.delivery.domain.controller.dto.category;
+
+import com.spring.delivery.domain.service.index.CategoryLeaderboard;
+import lombok.Getter;
+
+import java.util.UUID;
+
+@Getter
+public class CategoryTopStoreResponseDto {
+    private int rank;
+    private UUID storeId;
+    private String name;
+    private double averageRating;
+    private long ratingCount;
+    private long recentOrderCount; // 최근 집계 기간(기본 7일) 주문 수
+
+    public CategoryTopStoreResponseDto(int rank, CategoryLeaderboard.RankedStore rankedStore) {
+        this.rank = rank;
+        this.storeId = rankedStore.storeId();
+        this.name = rankedStore.name();
+        this.averageRating = rankedStore.averageRating();
+        this.ratingCount = rankedStore.ratingCount();
+        this.recentOrderCount = rankedStore.recentOrderCount();
+    }
+}
@@ -0,0 +1,39 @@
+package com.spring.delivery.domain.controller.dto.order;
+
+import com.spring.delivery.domain.domain.entity.Order;
+import com.spring.delivery.domain.event.OrderCreatedEvent;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// 가게에 들어온 새 주문 (DB 에서 읽은 접수 대기 주문은 sequence 가 없음)
+@Getter
+public class IncomingOrderResponseDto {
+    private final Long sequence;
+    private final UUID orderId;
+    private final String orderType;
+    private final String address;
+    private final Long totalPrice;
+    private final LocalDateTime createdAt;
+
+    private IncomingOrderResponseDto(Long sequence, UUID orderId, String orderType, String address,
+                                     Long totalPrice, LocalDateTime createdAt) {
+        this.sequence = sequence;
+        this.orderId = orderId;
+        this.orderType = orderType;
+        this.address = address;
+        this.totalPrice = totalPrice;
+        this.createdAt = createdAt;
+    }
+
+    public static IncomingOrderResponseDto from(OrderCreatedEvent event, long sequence) {
+        return new IncomingOrderResponseDto(sequence, event.orderId(), event.orderType(), event.address(),
+                event.totalPrice(), event.createdAt());
+    }
+
+    public static IncomingOrderResponseDto from(Order order) {
+        return new IncomingOrderResponseDto(null, order.getId(), order.getOrderType(), order.getAddress(),
+                order.getTotalPrice(), order.getCreatedAt());
+    }
+}
@@ -0,0 +1,21 @@
+package com.spring.delivery.domain.controller.dto.order;
+
+import lombok.Getter;
+
+import java.util.List;
+
+// 가게 새 주문 long-polling 응답 - 다음 요청의 after 에 cursor 를 그대로 넘김
+@Getter
+public class IncomingOrdersResponseDto {
+    private final long cursor;
+    private final List<IncomingOrderResponseDto> orders;
+
+    private IncomingOrdersResponseDto(long cursor, List<IncomingOrderResponseDto> orders) {
+        this.cursor = cursor;
+        this.orders = orders;
+    }
+
+    public static IncomingOrdersResponseDto of(long cursor, List<IncomingOrderResponseDto> orders) {
+        return new IncomingOrdersResponseDto(cursor, List.copyOf(orders));
+    }
+}
@@ -0,0 +1,20 @@
+package com.spring.delivery.domain.controller.dto.order;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class OrderHistoryCursorResponseDto {
+    private final List<OrderHistoryResponseDto> content; // 주문 내역
+    private final int size; // 요청한 페이지 크기
+    private final boolean hasNext; // 다음 페이지 존재 여부
+    private final String nextCursor; // 다음 페이지 요청 시 전달할 커서 (마지막 페이지면 null)
+
+    public OrderHistoryCursorResponseDto(List<OrderHistoryResponseDto> content, int size, boolean hasNext, String nextCursor) {
+        this.content = content;
+        this.size = size;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+    }
+}
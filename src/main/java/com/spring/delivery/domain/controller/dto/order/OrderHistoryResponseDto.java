@@ -0,0 +1,28 @@
+package com.spring.delivery.domain.controller.dto.order;
+
+import com.spring.delivery.domain.domain.entity.Order;
+import com.spring.delivery.domain.domain.entity.enumtype.OrderStatus;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// 내 주문 내역 한 줄 - 주문에 보관된 요약 컬럼만 사용 (주문 메뉴/가게 조회 없음)
+@Getter
+public class OrderHistoryResponseDto {
+    private final UUID orderId;
+    private final String storeName;
+    private final Integer itemCount;
+    private final Long totalPrice;
+    private final OrderStatus orderStatus;
+    private final LocalDateTime createdAt;
+
+    public OrderHistoryResponseDto(Order order) {
+        this.orderId = order.getId();
+        this.storeName = order.getStoreName();
+        this.itemCount = order.getItemCount();
+        this.totalPrice = order.getTotalPrice();
+        this.orderStatus = order.getOrderStatus();
+        this.createdAt = order.getCreatedAt();
+    }
+}
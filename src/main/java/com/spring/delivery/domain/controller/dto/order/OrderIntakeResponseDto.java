@@ -0,0 +1,38 @@
+package com.spring.delivery.domain.controller.dto.order;
+
+import lombok.Getter;
+
+import java.util.UUID;
+
+// 비동기 주문 접수 결과 - 접수 번호로 처리 상태를 조회하고, 처리되면 주문 id가 채워짐
+@Getter
+public class OrderIntakeResponseDto {
+
+    public enum Status { QUEUED, CREATED, FAILED }
+
+    private final UUID intakeId;
+    private final Status status;
+    private final UUID orderId;
+    private final String statusUrl;
+    private final String message;
+
+    private OrderIntakeResponseDto(UUID intakeId, Status status, UUID orderId, String message) {
+        this.intakeId = intakeId;
+        this.status = status;
+        this.orderId = orderId;
+        this.statusUrl = "/api/orders/intake/" + intakeId;
+        this.message = message;
+    }
+
+    public static OrderIntakeResponseDto queued(UUID intakeId) {
+        return new OrderIntakeResponseDto(intakeId, Status.QUEUED, null, null);
+    }
+
+    public static OrderIntakeResponseDto created(UUID intakeId, UUID orderId) {
+        return new OrderIntakeResponseDto(intakeId, Status.CREATED, orderId, null);
+    }
+
+    public static OrderIntakeResponseDto failed(UUID intakeId, String message) {
+        return new OrderIntakeResponseDto(intakeId, Status.FAILED, null, message);
+    }
+}
@@ -0,0 +1,22 @@
+package com.spring.delivery.domain.controller.dto.order;
+
+import com.spring.delivery.domain.domain.entity.MenuOrder;
+import lombok.Getter;
+
+import java.util.UUID;
+
+// 주문에 담긴 메뉴 한 줄
+@Getter
+public class OrderItemResponseDto {
+    private final UUID menuId;
+    private final String menuName;
+    private final Long price;
+    private final Long amount;
+
+    public OrderItemResponseDto(MenuOrder menuOrder) {
+        this.menuId = menuOrder.getMenu().getId();
+        this.menuName = menuOrder.getMenu().getName();
+        this.price = menuOrder.getUnitPrice();
+        this.amount = menuOrder.getAmount();
+    }
+}
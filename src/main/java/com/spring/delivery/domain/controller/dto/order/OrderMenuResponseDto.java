@@ -1,22 +1,36 @@
 package com.spring.delivery.domain.controller.dto.order;
 
-import com.spring.delivery.domain.domain.entity.Menu;
 import com.spring.delivery.domain.domain.entity.Order;
-import lombok.AllArgsConstructor;
+import com.spring.delivery.domain.domain.entity.enumtype.OrderStatus;
 import lombok.Getter;
-import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.UUID;
 
+// 주문 단건/목록 응답 (엔티티 대신 필요한 값만 담아 직렬화 시 지연 로딩이 일어나지 않음)
 @Getter
-@AllArgsConstructor
-@NoArgsConstructor
 public class OrderMenuResponseDto {
-    private Order order;
-    private List<Menu> menuList;
+    private final UUID orderId;
+    private final Long userId;
+    private final OrderStatus orderStatus;
+    private final String orderType;
+    private final String address;
+    private final Long totalPrice;
+    private final LocalDateTime createdAt;
+    private final List<OrderItemResponseDto> items;
 
-    public static OrderMenuResponseDto from(Order order, List<Menu> menus) {
-
-            return new OrderMenuResponseDto(order, menus);
+    // order.menuOrderList 와 각 menu 가 이미 fetch join 으로 로딩된 상태여야 함
+    public OrderMenuResponseDto(Order order) {
+        this.orderId = order.getId();
+        this.userId = order.getUser().getId();
+        this.orderStatus = order.getOrderStatus();
+        this.orderType = order.getOrderType();
+        this.address = order.getAddress();
+        this.totalPrice = order.getTotalPrice();
+        this.createdAt = order.getCreatedAt();
+        this.items = order.getMenuOrderList().stream()
+                .map(OrderItemResponseDto::new)
+                .toList();
     }
 }
@@ -1,30 +1,24 @@
 package com.spring.delivery.domain.controller.dto.order;
 
-import com.spring.delivery.domain.domain.entity.MenuOrder;
 import com.spring.delivery.domain.domain.entity.Order;
-import com.spring.delivery.domain.domain.entity.Payment;
-import lombok.*;
+import com.spring.delivery.domain.domain.entity.enumtype.OrderStatus;
+import lombok.Getter;
 
 import java.time.LocalDateTime;
-import java.util.List;
 import java.util.UUID;
 
+// 주문 생성/수정 응답 (엔티티를 담지 않아 직렬화 시 지연 로딩이 일어나지 않음)
 @Getter
-@Setter
-@NoArgsConstructor
-@AllArgsConstructor
-@Builder
 public class OrderResponseDto {
 
-    private UUID orderId;
-    private Long userId;
-    private String orderStatus;
-    private String address;
-    private String orderType;
-    private LocalDateTime createdAt;
-    private String createdBy;
-    private Long totalPrice;
-    private List<MenuOrder> menuOrders;
+    private final UUID orderId;
+    private final Long userId;
+    private final OrderStatus orderStatus;
+    private final String address;
+    private final String orderType;
+    private final LocalDateTime createdAt;
+    private final String createdBy;
+    private final Long totalPrice;
 
     public OrderResponseDto(Order order) {
         this.orderId = order.getId();
@@ -0,0 +1,40 @@
+package com.spring.delivery.domain.controller.dto.order;
+
+import com.spring.delivery.domain.domain.entity.Order;
+import com.spring.delivery.domain.domain.entity.enumtype.OrderStatus;
+import com.spring.delivery.domain.event.OrderStatusChangedEvent;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// SSE 로 전달하는 주문 상태 (구독 직후의 현재 상태는 eventId, fromStatus 가 없음)
+@Getter
+public class OrderStatusEventResponseDto {
+    private final UUID eventId;
+    private final UUID orderId;
+    private final UUID storeId;
+    private final OrderStatus fromStatus;
+    private final OrderStatus toStatus;
+    private final LocalDateTime occurredAt;
+
+    private OrderStatusEventResponseDto(UUID eventId, UUID orderId, UUID storeId, OrderStatus fromStatus,
+                                        OrderStatus toStatus, LocalDateTime occurredAt) {
+        this.eventId = eventId;
+        this.orderId = orderId;
+        this.storeId = storeId;
+        this.fromStatus = fromStatus;
+        this.toStatus = toStatus;
+        this.occurredAt = occurredAt;
+    }
+
+    public static OrderStatusEventResponseDto from(OrderStatusChangedEvent event) {
+        return new OrderStatusEventResponseDto(event.eventId(), event.orderId(), event.storeId(),
+                event.fromStatus(), event.toStatus(), event.occurredAt());
+    }
+
+    public static OrderStatusEventResponseDto current(Order order) {
+        return new OrderStatusEventResponseDto(null, order.getId(), null, null, order.getOrderStatus(),
+                order.getUpdatedAt());
+    }
+}
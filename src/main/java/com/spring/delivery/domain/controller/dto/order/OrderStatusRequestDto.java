@@ -0,0 +1,13 @@
+package com.spring.delivery.domain.controller.dto.order;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 주문 상태 변경 요청 (PENDING, ACCEPTED, COOKING, DELIVERING, COMPLETED, CANCELED)
+@Getter
+@Setter
+@NoArgsConstructor
+public class OrderStatusRequestDto {
+    private String status;
+}
@@ -0,0 +1,28 @@
+package com.spring.delivery.domain.controller.dto.store;
+
+import lombok.Getter;
+
+import java.util.UUID;
+
+@Getter
+public class StoreBulkImportLineDto {
+    private long line; // 입력 파일의 줄 번호
+    private boolean success; // 등록 성공 여부
+    private UUID storeId; // 등록된 가게 ID (실패 시 null)
+    private String message; // 실패 사유
+
+    private StoreBulkImportLineDto(long line, boolean success, UUID storeId, String message) {
+        this.line = line;
+        this.success = success;
+        this.storeId = storeId;
+        this.message = message;
+    }
+
+    public static StoreBulkImportLineDto created(long line, UUID storeId) {
+        return new StoreBulkImportLineDto(line, true, storeId, null);
+    }
+
+    public static StoreBulkImportLineDto failed(long line, String message) {
+        return new StoreBulkImportLineDto(line, false, null, message);
+    }
+}
@@ -0,0 +1,20 @@
+package com.spring.delivery.domain.controller.dto.store;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class StoreBulkImportResponseDto {
+    private int total; // 처리한 줄 수 (빈 줄, CSV 헤더 제외)
+    private int created; // 등록 성공 수
+    private int failed; // 등록 실패 수
+    private List<StoreBulkImportLineDto> results; // 줄별 결과
+
+    public StoreBulkImportResponseDto(List<StoreBulkImportLineDto> results) {
+        this.total = results.size();
+        this.created = (int) results.stream().filter(StoreBulkImportLineDto::isSuccess).count();
+        this.failed = total - created;
+        this.results = results;
+    }
+}
@@ -0,0 +1,23 @@
+package com.spring.delivery.domain.controller.dto.store;
+
+import com.spring.delivery.global.cache.CacheStats;
+import lombok.Getter;
+
+@Getter
+public class StoreCacheStatsResponseDto {
+    private long hits; // 캐시 적중 수
+    private long misses; // 캐시 미스 수
+    private long evictions; // 용량 초과/만료로 제거된 수
+    private long invalidations; // 가게 변경으로 제거된 수
+    private int size; // 현재 캐시된 항목 수
+    private double hitRate; // 적중률
+
+    public StoreCacheStatsResponseDto(CacheStats stats) {
+        this.hits = stats.hits();
+        this.misses = stats.misses();
+        this.evictions = stats.evictions();
+        this.invalidations = stats.invalidations();
+        this.size = stats.size();
+        this.hitRate = stats.hitRate();
+    }
+}
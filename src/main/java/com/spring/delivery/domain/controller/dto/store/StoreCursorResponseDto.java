@@ -0,0 +1,20 @@
+package com.spring.delivery.domain.controller.dto.store;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class StoreCursorResponseDto {
+    private List<StoreListResponseDto> content; // 가게 목록
+    private int size; // 요청한 페이지 크기
+    private boolean hasNext; // 다음 페이지 존재 여부
+    private String nextCursor; // 다음 페이지 요청 시 전달할 커서 (마지막 페이지면 null)
+
+    public StoreCursorResponseDto(List<StoreListResponseDto> content, int size, boolean hasNext, String nextCursor) {
+        this.content = content;
+        this.size = size;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+    }
+}
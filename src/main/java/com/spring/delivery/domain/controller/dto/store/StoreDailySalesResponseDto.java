@@ -0,0 +1,18 @@
+package com.spring.delivery.domain.controller.dto.store;
+
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+public class StoreDailySalesResponseDto {
+    private LocalDate date; // 매출일 (주문 생성일)
+    private long orderCount; // 취소/삭제되지 않은 주문 수
+    private long salesAmount; // 매출 합계
+
+    public StoreDailySalesResponseDto(LocalDate date, long orderCount, long salesAmount) {
+        this.date = date;
+        this.orderCount = orderCount;
+        this.salesAmount = salesAmount;
+    }
+}
@@ -0,0 +1,17 @@
+package com.spring.delivery.domain.controller.dto.store;
+
+import lombok.Getter;
+import org.springframework.data.domain.Page;
+
+import java.util.Map;
+
+@Getter
+public class StoreFacetSearchResponseDto {
+    private Page<StoreListResponseDto> stores; // 검색 결과 페이지
+    private Map<String, Integer> categoryFacets; // 검색 결과 전체의 카테고리별 가게 수
+
+    public StoreFacetSearchResponseDto(Page<StoreListResponseDto> stores, Map<String, Integer> categoryFacets) {
+        this.stores = stores;
+        this.categoryFacets = categoryFacets;
+    }
+}
@@ -0,0 +1,26 @@
+package com.spring.delivery.domain.controller.dto.store;
+
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+public class StoreSalesResponseDto {
+    private UUID storeId;
+    private LocalDate from;
+    private LocalDate to;
+    private long orderCount; // 기간 전체 주문 수
+    private long salesAmount; // 기간 전체 매출 합계
+    private List<StoreDailySalesResponseDto> days; // 일별 매출 (주문이 없는 날은 0)
+
+    public StoreSalesResponseDto(UUID storeId, LocalDate from, LocalDate to, List<StoreDailySalesResponseDto> days) {
+        this.storeId = storeId;
+        this.from = from;
+        this.to = to;
+        this.orderCount = days.stream().mapToLong(StoreDailySalesResponseDto::getOrderCount).sum();
+        this.salesAmount = days.stream().mapToLong(StoreDailySalesResponseDto::getSalesAmount).sum();
+        this.days = days;
+    }
+}
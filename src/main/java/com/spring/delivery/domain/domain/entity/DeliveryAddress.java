@@ -1,5 +1,6 @@
 package com.spring.delivery.domain.domain.entity;
 
+import com.spring.delivery.global.util.GeoPoint;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.UuidGenerator;
@@ -18,6 +19,10 @@ public class DeliveryAddress extends BaseEntity {
     private String address;
     private String request;
 
+    // 주소를 지오코딩한 좌표 (변환할 수 없는 주소는 null)
+    private Double latitude;
+    private Double longitude;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
@@ -32,4 +37,9 @@ public class DeliveryAddress extends BaseEntity {
     public void update(String address){
         this.address=address;
     }
+
+    public void updateLocation(GeoPoint location) {
+        this.latitude = location != null ? location.latitude() : null;
+        this.longitude = location != null ? location.longitude() : null;
+    }
 }
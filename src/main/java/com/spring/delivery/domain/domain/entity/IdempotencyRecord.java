@@ -0,0 +1,63 @@
+package com.spring.delivery.domain.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Idempotency-Key 로 처리된 요청의 결과 (같은 키로 재시도하면 이 결과를 그대로 돌려줌)
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Table(name = "p_idempotency_record")
+public class IdempotencyRecord extends BaseEntity implements Persistable<String> {
+
+    @Id
+    @Column(name = "idempotency_key", length = 100)
+    private String key;
+
+    // 요청 본문 해시 - 같은 키로 다른 요청이 들어오는 것을 막음
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash;
+
+    @Column(name = "response_status", nullable = false)
+    private int responseStatus;
+
+    @Column(name = "response_message")
+    private String responseMessage;
+
+    // 성공한 주문 생성이면 생성된 주문 id (재생 시 응답을 다시 만듦)
+    @Column(name = "order_id")
+    private UUID orderId;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    public static IdempotencyRecord of(String key, String requestHash, int responseStatus, String responseMessage,
+                                       UUID orderId, LocalDateTime expiresAt) {
+        IdempotencyRecord record = new IdempotencyRecord();
+        record.key = key;
+        record.requestHash = requestHash;
+        record.responseStatus = responseStatus;
+        record.responseMessage = responseMessage;
+        record.orderId = orderId;
+        record.expiresAt = expiresAt;
+        return record;
+    }
+
+    // 키를 직접 지정하므로 save 가 merge(SELECT 후 UPDATE)로 동작하지 않도록 항상 새 엔티티로 취급
+    // -> 다른 서버가 같은 키를 먼저 저장했다면 INSERT 가 기본키 충돌로 실패함
+    @Override
+    public String getId() {
+        return key;
+    }
+
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
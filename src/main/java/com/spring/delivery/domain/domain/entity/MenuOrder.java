@@ -18,6 +18,10 @@ public class MenuOrder extends BaseEntity {
 
     private Long amount;
 
+    // 주문 시점의 메뉴 단가 (이후 메뉴 가격이 바뀌어도 유지)
+    @Column(name = "unit_price")
+    private Long unitPrice;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "menu_id", nullable = false)
     private Menu menu;
@@ -27,14 +31,15 @@ public class MenuOrder extends BaseEntity {
     private Order order;
 
     @Builder
-    private MenuOrder(Order order, Menu menu, Long amount) {
+    private MenuOrder(Order order, Menu menu, Long unitPrice, Long amount) {
         this.amount = amount;
+        this.unitPrice = unitPrice;
         this.menu = menu;
         this.order = order;
     }
 
-    public static MenuOrder create(Order order, Menu menu, Long amount) {
-        return new MenuOrder(order, menu, amount);
+    public static MenuOrder create(Order order, Menu menu, Long unitPrice, Long amount) {
+        return new MenuOrder(order, menu, unitPrice, amount);
     }
 
     public static void update(MenuOrder updateMenuOrder, Long updateValue) {
@@ -1,6 +1,7 @@
 package com.spring.delivery.domain.domain.entity;
 
 import com.spring.delivery.domain.controller.dto.order.OrderRequestDto;
+import com.spring.delivery.domain.domain.entity.enumtype.OrderStatus;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.UuidGenerator;
@@ -14,7 +15,10 @@ import java.util.UUID;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Getter
-@Table(name = "p_order")
+@Table(name = "p_order", indexes = {
+        @Index(name = "idx_order_store_status", columnList = "store_id, order_status, created_at"),
+        @Index(name = "idx_order_user_created_at_id", columnList = "user_id, created_at, id")
+})
 public class Order extends BaseEntity {
     @Id
     @UuidGenerator
@@ -24,7 +28,14 @@ public class Order extends BaseEntity {
     @JoinColumn(name = "user_id")
     private User user;
 
-    private String orderStatus;
+    // 주문한 가게 (한 주문은 한 가게의 메뉴만 담음) - 가게별 주문 조회가 MenuOrder -> Menu 를 거치지 않도록 직접 보관
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "store_id")
+    private Store store;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private OrderStatus orderStatus;
 
     private String orderType;
 
@@ -32,28 +43,63 @@ public class Order extends BaseEntity {
 
     private String address;
 
+    // 주문 내역 요약 - 주문 시점 값을 그대로 보관 (가게 이름이 바뀌어도 내역은 그대로, 내역 조회 시 조인 없음)
+    private String storeName;
+
+    private Integer itemCount;
+
     @OneToMany(mappedBy = "order")
     private List<MenuOrder> menuOrderList = new ArrayList<>();
 
     @Builder
-    private Order(User userId, String address ,String orderType, Long totalPrice) {
+    private Order(User userId, Store store, String storeName, Integer itemCount, String address ,String orderType, Long totalPrice) {
         this.user = userId;
+        this.store = store;
+        this.storeName = storeName;
+        this.itemCount = itemCount;
         this.address = address;
         this.orderType = orderType;
         this.totalPrice = totalPrice;
+        this.orderStatus = OrderStatus.PENDING;
     }
 
-    public static Order createOrder(OrderRequestDto orderRequestDto) {
+    // 총 금액은 요청값이 아니라 서버에서 메뉴 단가로 계산한 값, 가게 이름/메뉴 수량 합계는 주문 내역 요약용
+    public static Order createOrder(OrderRequestDto orderRequestDto, Store store, String storeName, int itemCount, Long totalPrice) {
         return new Order(
                 orderRequestDto.getUserId(),
-                orderRequestDto.getOrderType(),
+                store,
+                storeName,
+                itemCount,
                 orderRequestDto.getAddress(),
-                orderRequestDto.getTotalPrice()
+                orderRequestDto.getOrderType(),
+                totalPrice
                 );
     }
 
+    // 상태 컬럼 추가 이전에 생성된 주문은 상태가 없으므로 접수(PENDING) 상태로 간주
+    public OrderStatus getOrderStatus() {
+        return orderStatus != null ? orderStatus : OrderStatus.PENDING;
+    }
+
+    public void changeTotalPrice(long totalPrice) {
+        this.totalPrice = totalPrice;
+    }
+
+    public void changeItemCount(int itemCount) {
+        this.itemCount = itemCount;
+    }
+
+    // 허용된 전이만 가능 (OrderStatus.nextStatuses)
+    public void changeStatus(OrderStatus next) {
+        OrderStatus current = getOrderStatus();
+        if (!current.canTransitionTo(next)) {
+            throw new IllegalArgumentException("주문 상태를 " + current + "에서 " + next + "(으)로 변경할 수 없습니다.");
+        }
+        this.orderStatus = next;
+    }
+
+    // 총 금액은 요청값으로 바꾸지 않음 (OrderService 가 주문 메뉴로 다시 계산)
     public static void update(Order order, OrderRequestDto orderRequestDto) {
-        if (orderRequestDto.getTotalPrice() != null) { order.totalPrice = orderRequestDto.getTotalPrice(); }
         if (orderRequestDto.getUserId() != null){ order.user = orderRequestDto.getUserId(); }
         if (orderRequestDto.getOrderType() != null){ order.orderType = orderRequestDto.getOrderType(); }
         if (orderRequestDto.getAddress() != null){ order.address = orderRequestDto.getAddress(); }
@@ -0,0 +1,71 @@
+package com.spring.delivery.domain.domain.entity;
+
+import com.spring.delivery.domain.domain.entity.enumtype.OrderStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UuidGenerator;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// 주문 상태 변경 outbox - 상태 변경과 같은 트랜잭션에서 저장되고, OrderOutboxRelay 가 읽어 리스너에게 전달
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Table(name = "p_order_outbox", indexes = {
+        @Index(name = "idx_order_outbox_pending", columnList = "dispatched_at, parked_at, occurred_at"),
+        @Index(name = "idx_order_outbox_order", columnList = "order_id, occurred_at")
+})
+public class OrderOutboxEvent extends BaseEntity {
+
+    @Id
+    @UuidGenerator
+    private UUID id;
+
+    @Column(name = "order_id", nullable = false)
+    private UUID orderId;
+
+    // 주문한 가게 (가게별 구독자에게 전달할 때 사용)
+    @Column(name = "store_id")
+    private UUID storeId;
+
+    // 주문 생성 시에는 없음
+    @Enumerated(EnumType.STRING)
+    @Column(name = "from_status", length = 20)
+    private OrderStatus fromStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "to_status", length = 20, nullable = false)
+    private OrderStatus toStatus;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    // 전달 완료 시각 (null 이면 미전달)
+    @Column(name = "dispatched_at")
+    private LocalDateTime dispatchedAt;
+
+    // 전달 실패 횟수
+    @Column(nullable = false)
+    private int attempts;
+
+    // 실패 후 다음 재시도 가능 시각 (null 이면 바로 전달)
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    // 최대 재시도 횟수를 넘겨 전달을 포기한 시각 (dead letter - 더 이상 읽지 않음)
+    @Column(name = "parked_at")
+    private LocalDateTime parkedAt;
+
+    public static OrderOutboxEvent of(UUID orderId, UUID storeId, OrderStatus fromStatus, OrderStatus toStatus) {
+        OrderOutboxEvent event = new OrderOutboxEvent();
+        event.orderId = orderId;
+        event.storeId = storeId;
+        event.fromStatus = fromStatus;
+        event.toStatus = toStatus;
+        event.occurredAt = LocalDateTime.now();
+        return event;
+    }
+}
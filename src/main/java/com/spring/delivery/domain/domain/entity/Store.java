@@ -1,10 +1,12 @@
 package com.spring.delivery.domain.domain.entity;
 
 import com.spring.delivery.domain.controller.dto.store.StoreUpdateRequestDto;
+import com.spring.delivery.global.util.GeoPoint;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.UuidGenerator;
 
 import java.time.LocalTime;
@@ -15,7 +17,7 @@ import java.util.UUID;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "p_store")
+@Table(name = "p_store", indexes = @Index(name = "idx_store_created_at_id", columnList = "created_at, id"))
 public class Store extends BaseEntity {
     @Id
     @UuidGenerator
@@ -33,6 +35,21 @@ public class Store extends BaseEntity {
 
     private LocalTime endTime;
 
+    // 주소를 지오코딩한 좌표 (변환할 수 없는 주소는 null)
+    private Double latitude;
+
+    private Double longitude;
+
+    // 리뷰 평점 집계 (리뷰 생성/수정/삭제 시 같은 트랜잭션에서 증감)
+    // StoreRepository 의 증감/재계산 쿼리만 쓰고, 가게 저장 시에는 읽은 값으로 덮어쓰지 않음
+    @ColumnDefault("0")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private double ratingSum;
+
+    @ColumnDefault("0")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private long ratingCount;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
@@ -64,6 +81,19 @@ public class Store extends BaseEntity {
         return new Store(name, address, tel, openStatus, startTime, endTime, user);
     }
 
+    // 평균 평점 (소수점 첫째 자리 반올림, 리뷰가 없으면 0.0)
+    public Double getAverageRating() {
+        if (ratingCount == 0) {
+            return 0.0;
+        }
+        return Math.round(ratingSum / ratingCount * 10.0) / 10.0;
+    }
+
+    public void updateLocation(GeoPoint location) {
+        this.latitude = location != null ? location.latitude() : null;
+        this.longitude = location != null ? location.longitude() : null;
+    }
+
     public void update(StoreUpdateRequestDto requestDto) {
         this.name = requestDto.getName() != null ? requestDto.getName() : this.name;
         this.address = requestDto.getAddress() != null ? requestDto.getAddress() : this.address;
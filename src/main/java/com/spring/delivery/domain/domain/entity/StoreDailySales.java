@@ -0,0 +1,53 @@
+package com.spring.delivery.domain.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UuidGenerator;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+// 가게별 일 매출 집계 - 주문 생성/취소/삭제 시 증감으로 갱신하고, StoreSalesRollup.reconcile 이 p_order 기준으로 검증
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Table(name = "p_store_daily_sales",
+        uniqueConstraints = @UniqueConstraint(name = "uk_store_daily_sales_store_date", columnNames = {"store_id", "sales_date"}))
+public class StoreDailySales {
+
+    @Id
+    @UuidGenerator
+    private UUID id;
+
+    @Column(name = "store_id", nullable = false)
+    private UUID storeId;
+
+    // 주문 생성일 (취소/삭제도 주문 생성일의 매출에서 차감)
+    @Column(name = "sales_date", nullable = false)
+    private LocalDate salesDate;
+
+    // 취소/삭제되지 않은 주문 수
+    @Column(name = "order_count", nullable = false)
+    private long orderCount;
+
+    // 취소/삭제되지 않은 주문의 총 금액 합계
+    @Column(name = "sales_amount", nullable = false)
+    private long salesAmount;
+
+    public static StoreDailySales of(UUID storeId, LocalDate salesDate, long orderCount, long salesAmount) {
+        StoreDailySales sales = new StoreDailySales();
+        sales.storeId = storeId;
+        sales.salesDate = salesDate;
+        sales.orderCount = orderCount;
+        sales.salesAmount = salesAmount;
+        return sales;
+    }
+
+    // 검증 결과로 보정
+    public void correct(long orderCount, long salesAmount) {
+        this.orderCount = orderCount;
+        this.salesAmount = salesAmount;
+    }
+}
@@ -0,0 +1,35 @@
+package com.spring.delivery.domain.domain.entity.enumtype;
+
+import java.util.Set;
+
+// 주문 상태와 허용되는 전이 (완료/취소는 종료 상태)
+public enum OrderStatus {
+    PENDING,     // 주문 접수 (가게 수락 대기)
+    ACCEPTED,    // 가게 수락
+    COOKING,     // 조리 중
+    DELIVERING,  // 배달 중
+    COMPLETED,   // 배달 완료
+    CANCELED;    // 취소
+
+    public Set<OrderStatus> nextStatuses() {
+        return switch (this) {
+            case PENDING -> Set.of(ACCEPTED, CANCELED);
+            case ACCEPTED -> Set.of(COOKING, CANCELED);
+            case COOKING -> Set.of(DELIVERING);
+            case DELIVERING -> Set.of(COMPLETED);
+            case COMPLETED, CANCELED -> Set.of();
+        };
+    }
+
+    public boolean canTransitionTo(OrderStatus next) {
+        return nextStatuses().contains(next);
+    }
+
+    public static OrderStatus from(String value) {
+        try {
+            return OrderStatus.valueOf(value.toUpperCase());
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new IllegalArgumentException("지원하지 않는 주문 상태입니다: " + value);
+        }
+    }
+}
@@ -2,10 +2,22 @@ package com.spring.delivery.domain.domain.repository;
 
 import com.spring.delivery.domain.domain.entity.Category;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface CategoryRepository extends JpaRepository<Category, UUID> {
     Optional<Category> findByName(String name);
+
+    // 카테고리 목록의 버전 정보 (조건부 GET 용) - 추가/수정/삭제(숨김) 시 바뀜
+    @Query("SELECT COUNT(c) AS count, MAX(c.updatedAt) AS updatedAt FROM Category c")
+    CategoryVersion findVersion();
+
+    interface CategoryVersion {
+        long getCount();
+
+        LocalDateTime getUpdatedAt();
+    }
 }
@@ -0,0 +1,22 @@
+package com.spring.delivery.domain.domain.repository;
+
+import com.spring.delivery.domain.domain.entity.IdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    // 만료된 기록 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+
+    // 키 하나의 만료된 기록 삭제 (정리 전에 같은 키를 다시 쓰는 경우) - 그사이 다른 서버가 새로 저장했다면 삭제하지 않음
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.key = :key AND r.expiresAt < :now")
+    int deleteExpiredByKey(@Param("key") String key, @Param("now") LocalDateTime now);
+}
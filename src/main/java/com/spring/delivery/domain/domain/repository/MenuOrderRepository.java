@@ -2,6 +2,8 @@ package com.spring.delivery.domain.domain.repository;
 
 import com.spring.delivery.domain.domain.entity.MenuOrder;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.UUID;
@@ -9,4 +11,8 @@ import java.util.UUID;
 
 public interface MenuOrderRepository extends JpaRepository<MenuOrder, UUID> {
     List<MenuOrder> findByOrderId(UUID orderId);
+
+    // 주문한 가게 (한 주문은 한 가게의 메뉴만 담음)
+    @Query("SELECT DISTINCT mo.menu.store.id FROM MenuOrder mo WHERE mo.order.id = :orderId")
+    List<UUID> findStoreIdsByOrderId(@Param("orderId") UUID orderId);
 }
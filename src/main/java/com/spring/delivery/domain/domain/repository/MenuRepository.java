@@ -8,6 +8,9 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -18,6 +21,14 @@ public interface MenuRepository extends JpaRepository<Menu, UUID> {
     @Query("SELECT m FROM Menu m WHERE m.id = :menuId AND m.publicStatus = true")
     Optional<Menu> findActiveMenuById(@Param("menuId") UUID menuId);
 
+    // 공개 메뉴 단건의 수정 시각 (조건부 GET 용)
+    @Query("SELECT m.updatedAt FROM Menu m WHERE m.id = :menuId AND m.publicStatus = true")
+    Optional<LocalDateTime> findActiveMenuUpdatedAtById(@Param("menuId") UUID menuId);
+
+    // 메뉴 목록/검색의 버전 정보 (조건부 GET 용) - 어떤 메뉴든 추가/수정/공개 여부 변경 시 바뀜
+    @Query("SELECT COUNT(m) AS count, MAX(m.updatedAt) AS updatedAt FROM Menu m")
+    MenuVersion findVersion();
+
     // 메뉴 전체 리스트 조회 가게별
     @Query("SELECT m FROM Menu m WHERE m.store.id = :storeId AND m.publicStatus = true")
     Page<Menu> findActiveMenusByStoreId(@Param("storeId") UUID storeId, Pageable pageable);
@@ -35,5 +46,28 @@ public interface MenuRepository extends JpaRepository<Menu, UUID> {
     // 가게별, 특정 키워드를 포함한 결과
     Page<Menu> findByStoreIdAndNameContaining(UUID storeId, String keyword, Pageable pageable);
 
+    // 주문 가격표 - 주어진 메뉴들이 속한 가게의 메뉴 가격/주문 가능 여부 전체 (주문 요약에 남길 가게 이름 포함)
+    @Query("SELECT m.id AS menuId, s.id AS storeId, s.name AS storeName, m.price AS price, m.publicStatus AS publicStatus, m.deletedAt AS deletedAt " +
+            "FROM Menu m JOIN m.store s WHERE m.store.id IN (SELECT sm.store.id FROM Menu sm WHERE sm.id IN :menuIds)")
+    List<MenuPriceRow> findPriceRowsOfStoresByMenuIds(@Param("menuIds") Collection<UUID> menuIds);
+
+    interface MenuVersion {
+        long getCount();
+
+        LocalDateTime getUpdatedAt();
+    }
+
+    interface MenuPriceRow {
+        UUID getMenuId();
+
+        UUID getStoreId();
+
+        String getStoreName();
+
+        Long getPrice();
+
+        boolean getPublicStatus();
 
+        LocalDateTime getDeletedAt();
+    }
 }
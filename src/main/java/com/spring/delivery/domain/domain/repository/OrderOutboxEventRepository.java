@@ -0,0 +1,44 @@
+package com.spring.delivery.domain.domain.repository;
+
+import com.spring.delivery.domain.domain.entity.OrderOutboxEvent;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface OrderOutboxEventRepository extends JpaRepository<OrderOutboxEvent, UUID> {
+
+    // 전달할 차례인 이벤트를 발생 순서대로 - 미전달, 보류(dead letter) 아님, 재시도 대기 시각이 지남
+    // 같은 주문의 앞선 이벤트가 재시도 대기 중이면 주문별 순서를 지키기 위해 제외
+    @Query("SELECT e FROM OrderOutboxEvent e WHERE e.dispatchedAt IS NULL AND e.parkedAt IS NULL " +
+            "AND (e.nextAttemptAt IS NULL OR e.nextAttemptAt <= :now) " +
+            "AND NOT EXISTS (SELECT p.id FROM OrderOutboxEvent p WHERE p.orderId = e.orderId AND p.dispatchedAt IS NULL " +
+            "AND p.parkedAt IS NULL AND p.occurredAt < e.occurredAt AND p.nextAttemptAt > :now) " +
+            "ORDER BY e.occurredAt ASC")
+    List<OrderOutboxEvent> findDue(@Param("now") LocalDateTime now, Limit limit);
+
+    @Modifying
+    @Query("UPDATE OrderOutboxEvent e SET e.dispatchedAt = :dispatchedAt WHERE e.id IN :ids")
+    int markDispatched(@Param("ids") Collection<UUID> ids, @Param("dispatchedAt") LocalDateTime dispatchedAt);
+
+    // 전달 실패 - 실패 횟수 +1, nextAttemptAt 이후 재시도
+    @Modifying
+    @Query("UPDATE OrderOutboxEvent e SET e.attempts = e.attempts + 1, e.nextAttemptAt = :nextAttemptAt WHERE e.id = :id")
+    int scheduleRetry(@Param("id") UUID id, @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+
+    // 최대 재시도 횟수 초과 - 실패 횟수 +1, 보류(dead letter)
+    @Modifying
+    @Query("UPDATE OrderOutboxEvent e SET e.attempts = e.attempts + 1, e.parkedAt = :parkedAt WHERE e.id IN :ids")
+    int park(@Param("ids") Collection<UUID> ids, @Param("parkedAt") LocalDateTime parkedAt);
+
+    // 전달 완료 후 보관 기간이 지난 이벤트 삭제
+    @Modifying
+    @Query("DELETE FROM OrderOutboxEvent e WHERE e.dispatchedAt < :before")
+    int deleteDispatchedBefore(@Param("before") LocalDateTime before);
+}
@@ -1,12 +1,132 @@
 package com.spring.delivery.domain.domain.repository;
 
 import com.spring.delivery.domain.domain.entity.Order;
+import com.spring.delivery.domain.domain.entity.enumtype.OrderStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface OrderRepository extends JpaRepository<Order, UUID> {
-    Page<Order> findByUserIdAndOrderStatus(Long userId, String orderStatus, Pageable pageable);
+    Page<Order> findByUserIdAndOrderStatus(Long userId, OrderStatus orderStatus, Pageable pageable);
+
+    // 주문 목록 1단계 - 페이지에 해당하는 주문 id만 조회 (컬렉션 fetch join 과 페이징을 함께 쓰면 메모리 페이징이 되므로 분리)
+    @Query(value = "SELECT o.id FROM Order o WHERE o.user.id = :userId AND o.orderStatus = :orderStatus",
+            countQuery = "SELECT COUNT(o) FROM Order o WHERE o.user.id = :userId AND o.orderStatus = :orderStatus")
+    Page<UUID> findIdsByUserIdAndOrderStatus(@Param("userId") Long userId, @Param("orderStatus") OrderStatus orderStatus, Pageable pageable);
+
+    // 주문 단건 - 주문, 주문 메뉴, 메뉴를 한 번에 조회
+    @Query("SELECT o FROM Order o LEFT JOIN FETCH o.menuOrderList mo LEFT JOIN FETCH mo.menu WHERE o.id = :orderId")
+    Optional<Order> findWithMenusById(@Param("orderId") UUID orderId);
+
+    // 가게의 특정 상태 주문 - 오래된 순 (store_id, order_status, created_at 인덱스)
+    @Query("SELECT o FROM Order o WHERE o.store.id = :storeId AND o.orderStatus = :orderStatus AND o.deletedAt IS NULL ORDER BY o.createdAt ASC")
+    List<Order> findByStoreIdAndOrderStatus(@Param("storeId") UUID storeId, @Param("orderStatus") OrderStatus orderStatus, Limit limit);
+
+    // 내 주문 내역 첫 페이지 - 최신순 ((user_id, created_at, id) 인덱스 범위 조회)
+    @Query("SELECT o FROM Order o WHERE o.user.id = :userId AND o.deletedAt IS NULL ORDER BY o.createdAt DESC, o.id DESC")
+    List<Order> findHistoryByUserId(@Param("userId") Long userId, Limit limit);
+
+    // 내 주문 내역 다음 페이지 - 커서 (createdAt, id) 이전 주문
+    @Query("SELECT o FROM Order o WHERE o.user.id = :userId AND o.deletedAt IS NULL " +
+            "AND (o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.id < :id)) ORDER BY o.createdAt DESC, o.id DESC")
+    List<Order> findHistoryByUserIdBefore(@Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt,
+                                          @Param("id") UUID id, Limit limit);
+
+    // 가게별 일 매출 (취소/삭제 제외) - 일 매출 집계 검증용
+    @Query("SELECT o.store.id AS storeId, CAST(o.createdAt AS LocalDate) AS salesDate, COUNT(o) AS orderCount, COALESCE(SUM(o.totalPrice), 0) AS salesAmount " +
+            "FROM Order o WHERE o.store.id IS NOT NULL AND o.deletedAt IS NULL AND (o.orderStatus IS NULL OR o.orderStatus <> :canceled) " +
+            "AND o.createdAt >= :from AND o.createdAt < :to GROUP BY o.store.id, CAST(o.createdAt AS LocalDate)")
+    List<DailySalesRow> sumDailySales(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                                      @Param("canceled") OrderStatus canceled);
+
+    // store_id 가 추가되기 전에 생성된 주문의 가게별 일 매출 - 주문 메뉴로 가게를 찾음 (한 주문은 한 가게의 메뉴만 담음)
+    @Query("SELECT s.id AS storeId, CAST(o.createdAt AS LocalDate) AS salesDate, COUNT(o) AS orderCount, COALESCE(SUM(o.totalPrice), 0) AS salesAmount " +
+            "FROM Order o, Store s WHERE o.store.id IS NULL AND o.deletedAt IS NULL AND (o.orderStatus IS NULL OR o.orderStatus <> :canceled) " +
+            "AND o.createdAt >= :from AND o.createdAt < :to " +
+            "AND EXISTS (SELECT mo.id FROM MenuOrder mo WHERE mo.order.id = o.id AND mo.menu.store.id = s.id) " +
+            "GROUP BY s.id, CAST(o.createdAt AS LocalDate)")
+    List<DailySalesRow> sumLegacyDailySales(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                                            @Param("canceled") OrderStatus canceled);
+
+    // 기준 시각 이후 생성된(취소/삭제 제외) 주문 수를 가게별로 집계 - 카테고리 순위표 재구성용
+    @Query("SELECT o.store.id AS storeId, COUNT(o) AS orderCount FROM Order o " +
+            "WHERE o.store.id IS NOT NULL AND o.createdAt >= :since AND o.deletedAt IS NULL AND (o.orderStatus IS NULL OR o.orderStatus <> :canceled) " +
+            "GROUP BY o.store.id")
+    List<StoreOrderCount> countOrdersByStoreSince(@Param("since") LocalDateTime since, @Param("canceled") OrderStatus canceled);
+
+    // store_id 가 추가되기 전에 생성된 주문의 가게별 주문 수 - 주문 메뉴로 가게를 찾음
+    @Query("SELECT s.id AS storeId, COUNT(o) AS orderCount FROM Order o, Store s " +
+            "WHERE o.store.id IS NULL AND o.createdAt >= :since AND o.deletedAt IS NULL AND (o.orderStatus IS NULL OR o.orderStatus <> :canceled) " +
+            "AND EXISTS (SELECT mo.id FROM MenuOrder mo WHERE mo.order.id = o.id AND mo.menu.store.id = s.id) " +
+            "GROUP BY s.id")
+    List<StoreOrderCount> countLegacyOrdersByStoreSince(@Param("since") LocalDateTime since, @Param("canceled") OrderStatus canceled);
+
+    // 주문 내보내기 - 기간 내 주문을 엔티티 없이 컬럼만 순서대로 흘려 보냄 (트랜잭션 안에서 소비 후 close, JDBC 로 1000 행씩 가져옴)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT o.id AS orderId, o.createdAt AS createdAt, o.store.id AS storeId, o.storeName AS storeName, o.user.id AS userId, " +
+            "o.orderStatus AS orderStatus, o.orderType AS orderType, o.address AS address, o.itemCount AS itemCount, " +
+            "o.totalPrice AS totalPrice, o.deletedAt AS deletedAt " +
+            "FROM Order o WHERE o.createdAt >= :from AND o.createdAt < :to ORDER BY o.createdAt ASC, o.id ASC")
+    Stream<ExportRow> streamExportRows(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    // 주문 목록 2단계 - 주문, 주문 메뉴, 메뉴를 한 번에 조회
+    @Query("SELECT DISTINCT o FROM Order o LEFT JOIN FETCH o.menuOrderList mo LEFT JOIN FETCH mo.menu WHERE o.id IN :orderIds")
+    List<Order> findWithMenusByIdIn(@Param("orderIds") Collection<UUID> orderIds);
+
+    interface ExportRow {
+        UUID getOrderId();
+
+        LocalDateTime getCreatedAt();
+
+        UUID getStoreId();
+
+        String getStoreName();
+
+        Long getUserId();
+
+        OrderStatus getOrderStatus();
+
+        String getOrderType();
+
+        String getAddress();
+
+        Integer getItemCount();
+
+        Long getTotalPrice();
+
+        LocalDateTime getDeletedAt();
+    }
+
+    interface StoreOrderCount {
+        UUID getStoreId();
+
+        long getOrderCount();
+    }
+
+    interface DailySalesRow {
+        UUID getStoreId();
+
+        LocalDate getSalesDate();
+
+        long getOrderCount();
+
+        long getSalesAmount();
+    }
 }
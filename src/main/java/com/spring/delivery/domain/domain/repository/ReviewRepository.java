@@ -11,9 +11,6 @@ import java.util.UUID;
 
 @Repository
 public interface ReviewRepository extends JpaRepository<Review, UUID> {
-    @Query(value = "SELECT AVG(r.score) FROM Review r WHERE r.store.id = :storeId" )
-    Double findByStoreAverageRating(UUID storeId);
-
     @Query(value = "SELECT r FROM Review r Where r.store.id = :storeId and r.deletedBy is null")
     Page<Review> findByReview(UUID storeId, Pageable pageable);
 }
@@ -2,7 +2,11 @@ package com.spring.delivery.domain.domain.repository;
 
 import com.spring.delivery.domain.domain.entity.StoreCategory;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -11,4 +15,32 @@ public interface StoreCategoryRepository extends JpaRepository<StoreCategory, UU
     Optional<StoreCategory> findByStoreIdAndCategoryId(UUID storeId, UUID categoryId);
 
     List<StoreCategory> findByStoreId(UUID storeId);
+
+    // 여러 가게의 카테고리 이름을 한 번에 조회 (목록 페이지의 N+1 방지)
+    @Query("SELECT sc.store.id AS storeId, c.name AS categoryName FROM StoreCategory sc JOIN sc.category c WHERE sc.store.id IN :storeIds")
+    List<StoreCategoryName> findCategoryNamesByStoreIds(@Param("storeIds") Collection<UUID> storeIds);
+
+    // 여러 가게의 카테고리 ID를 한 번에 조회 (카테고리별 순위표 구성)
+    @Query("SELECT sc.store.id AS storeId, sc.category.id AS categoryId FROM StoreCategory sc WHERE sc.store.id IN :storeIds AND sc.deletedAt IS NULL")
+    List<StoreCategoryId> findCategoryIdsByStoreIds(@Param("storeIds") Collection<UUID> storeIds);
+
+    @Query("SELECT sc.store.id FROM StoreCategory sc WHERE sc.category.id = :categoryId")
+    List<UUID> findStoreIdsByCategoryId(@Param("categoryId") UUID categoryId);
+
+    // 가게에서 빠진 카테고리 연결을 한 번의 DELETE 로 제거
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM StoreCategory sc WHERE sc.store.id = :storeId AND sc.category.id IN :categoryIds")
+    int deleteByStoreIdAndCategoryIds(@Param("storeId") UUID storeId, @Param("categoryIds") Collection<UUID> categoryIds);
+
+    interface StoreCategoryName {
+        UUID getStoreId();
+
+        String getCategoryName();
+    }
+
+    interface StoreCategoryId {
+        UUID getStoreId();
+
+        UUID getCategoryId();
+    }
 }
@@ -0,0 +1,25 @@
+package com.spring.delivery.domain.domain.repository;
+
+import com.spring.delivery.domain.domain.entity.StoreDailySales;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public interface StoreDailySalesRepository extends JpaRepository<StoreDailySales, UUID> {
+
+    List<StoreDailySales> findByStoreIdAndSalesDateBetweenOrderBySalesDateAsc(UUID storeId, LocalDate from, LocalDate to);
+
+    List<StoreDailySales> findBySalesDateBetween(LocalDate from, LocalDate to);
+
+    // 일 매출 증감 - 동시에 주문이 들어와도 값이 유실되지 않도록 DB에서 원자적으로 갱신 (행이 없으면 0 반환)
+    @Modifying
+    @Query("UPDATE StoreDailySales s SET s.orderCount = s.orderCount + :countDelta, s.salesAmount = s.salesAmount + :amountDelta " +
+            "WHERE s.storeId = :storeId AND s.salesDate = :salesDate")
+    int applyDelta(@Param("storeId") UUID storeId, @Param("salesDate") LocalDate salesDate,
+                   @Param("countDelta") long countDelta, @Param("amountDelta") long amountDelta);
+}
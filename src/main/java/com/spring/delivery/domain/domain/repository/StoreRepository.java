@@ -2,16 +2,51 @@ package com.spring.delivery.domain.domain.repository;
 
 import com.spring.delivery.domain.domain.entity.Store;
 import com.spring.delivery.domain.domain.repository.search.StoreSearch;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface StoreRepository extends JpaRepository<Store, UUID>, StoreSearch {
     Page<Store> findByDeletedAtIsNull(Pageable pageable); // pageable을 인자로 받는 메서드 추가
-}
 
+    // id 순서로 활성 가게를 limit 건씩 조회 (인메모리 색인 적재용, offset 없이 이어서 조회)
+    List<Store> findByDeletedAtIsNullAndIdGreaterThanOrderByIdAsc(UUID id, Limit limit);
+
+    // 가게 상세 응답의 버전 정보 (조건부 GET 용) - 가게 행, 카테고리 연결, 카테고리 이름 변경을 반영
+    @Query("SELECT s.updatedAt AS updatedAt, COUNT(sc.id) AS categoryCount, MAX(sc.createdAt) AS categoryLinkedAt, MAX(c.updatedAt) AS categoryUpdatedAt " +
+            "FROM Store s LEFT JOIN s.storeCategories sc LEFT JOIN sc.category c WHERE s.id = :storeId GROUP BY s.id, s.updatedAt")
+    Optional<StoreVersion> findVersionById(@Param("storeId") UUID storeId);
+
+    // 평점 집계 증감 - 동시에 리뷰가 작성되어도 값이 유실되지 않도록 DB에서 원자적으로 갱신
+    @Modifying
+    @Query("UPDATE Store s SET s.ratingSum = s.ratingSum + :scoreDelta, s.ratingCount = s.ratingCount + :countDelta WHERE s.id = :storeId")
+    int applyRatingDelta(@Param("storeId") UUID storeId, @Param("scoreDelta") double scoreDelta, @Param("countDelta") long countDelta);
+
+    // p_review 기준으로 전체 가게의 평점 집계 재계산 (드리프트 보정용)
+    @Modifying
+    @Query("UPDATE Store s SET " +
+            "s.ratingSum = COALESCE((SELECT SUM(r.score) FROM Review r WHERE r.store.id = s.id AND r.deletedAt IS NULL), 0), " +
+            "s.ratingCount = (SELECT COUNT(r.score) FROM Review r WHERE r.store.id = s.id AND r.deletedAt IS NULL)")
+    int rebuildRatingAggregates();
+
+    interface StoreVersion {
+        LocalDateTime getUpdatedAt();
+
+        long getCategoryCount();
+
+        LocalDateTime getCategoryLinkedAt();
+
+        LocalDateTime getCategoryUpdatedAt();
+    }
+}
@@ -1,9 +1,19 @@
 package com.spring.delivery.domain.domain.repository.search;
 
 import com.spring.delivery.domain.domain.entity.Store;
+import com.spring.delivery.global.util.KeysetCursor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
 
 public interface StoreSearch {
-    Page<Store> searchStores(String category, String storeName, Pageable pageable);
+    Page<Store> searchStores(StoreSearchCondition condition, Pageable pageable);
+
+    // 전체 건수 없이 다음 페이지 존재 여부만 확인
+    Slice<Store> searchStoresSlice(StoreSearchCondition condition, Pageable pageable);
+
+    // (createdAt, id) 커서 이후의 가게를 limit 건 조회 (count 쿼리 없음)
+    List<Store> searchStoresByCursor(StoreSearchCondition condition, KeysetCursor cursor, int limit, boolean isAsc);
 }
@@ -0,0 +1,105 @@
+package com.spring.delivery.domain.domain.repository.search;
+
+import com.spring.delivery.global.util.GeoPoint;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+// 가게 검색 조건 - DB 검색(QueryDSL)과 인메모리 색인 검색이 같은 조건을 공유
+@Getter
+@Builder
+public class StoreSearchCondition {
+
+    private static final DateTimeFormatter OPEN_AT_FORMAT = DateTimeFormatter.ofPattern("HH:mm");
+    private static final double MAX_RADIUS_KM = 20.0;
+
+    private String storeName;
+
+    private String categoryName;
+
+    private List<String> categoryNames; // 여러 카테고리 조건
+
+    private boolean matchAllCategories; // true: 모든 카테고리(AND), false: 하나 이상(OR)
+
+    private Boolean openStatus; // 영업 상태
+
+    private Double minRating; // 최소 평균 평점
+
+    private LocalTime openAt; // 해당 시각에 영업 중인 가게만 (영업 상태 + 영업시간)
+
+    private GeoPoint near; // 기준 위치 - 반경 내 가게를 가까운 순으로
+
+    private Double radiusKm; // 기준 위치로부터의 반경 (km)
+
+    public boolean hasStoreName() {
+        return storeName != null && !storeName.isEmpty();
+    }
+
+    public boolean hasCategoryName() {
+        return categoryName != null && !categoryName.isEmpty();
+    }
+
+    public boolean hasOpenAt() {
+        return openAt != null;
+    }
+
+    public boolean hasNear() {
+        return near != null && radiusKm != null;
+    }
+
+    public boolean hasCategoryNames() {
+        return categoryNames != null && !categoryNames.isEmpty();
+    }
+
+    public boolean hasOpenStatus() {
+        return openStatus != null;
+    }
+
+    public boolean hasMinRating() {
+        return minRating != null;
+    }
+
+    // 인메모리 색인으로만 처리하는 조건 (DB 검색 미지원)
+    public boolean requiresIndex() {
+        return hasNear() || hasCategoryNames() || hasOpenStatus() || hasMinRating();
+    }
+
+    // openNow=true 이면 현재 시각, 아니면 openAt(HH:mm) 파라미터 시각
+    public static LocalTime resolveOpenAt(boolean openNow, String openAt) {
+        if (openNow) {
+            return LocalTime.now();
+        }
+        if (openAt == null || openAt.isBlank()) {
+            return null;
+        }
+
+        try {
+            return LocalTime.parse(openAt, OPEN_AT_FORMAT);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("유효하지 않은 시간 형식입니다. (HH:mm)");
+        }
+    }
+
+    // categoryMatch 파라미터 - any(기본, OR) / all(AND)
+    public static boolean resolveMatchAll(String categoryMatch) {
+        if (categoryMatch == null || categoryMatch.equalsIgnoreCase("any")) {
+            return false;
+        }
+        if (categoryMatch.equalsIgnoreCase("all")) {
+            return true;
+        }
+        throw new IllegalArgumentException("categoryMatch는 any 또는 all만 가능합니다.");
+    }
+
+    // 반경은 0 초과 20km 이하
+    public static double checkRadiusKm(double radiusKm) {
+        if (!(radiusKm > 0) || radiusKm > MAX_RADIUS_KM) {
+            throw new IllegalArgumentException("검색 반경은 0km 초과 " + (int) MAX_RADIUS_KM + "km 이하로 입력해주세요.");
+        }
+        return radiusKm;
+    }
+}
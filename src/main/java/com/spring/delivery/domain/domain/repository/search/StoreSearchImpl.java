@@ -1,17 +1,27 @@
 package com.spring.delivery.domain.domain.repository.search;
 
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.PathBuilder;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import com.spring.delivery.domain.domain.entity.QStore;
 import com.spring.delivery.domain.domain.entity.QStoreCategory;
 import com.spring.delivery.domain.domain.entity.Store;
+import com.spring.delivery.global.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.List;
 
 @Repository
@@ -21,33 +31,117 @@ public class StoreSearchImpl implements StoreSearch {
     private final JPAQueryFactory queryFactory;
 
     @Override
-    public Page<Store> searchStores(String categoryName, String storeName, Pageable pageable) {
+    public Page<Store> searchStores(StoreSearchCondition condition, Pageable pageable) {
         QStore store = QStore.store;
-        QStoreCategory storeCategory = QStoreCategory.storeCategory; // 중간 테이블 Q타입 추가
 
-        // 기본 쿼리
-        JPAQuery<Store> query = queryFactory.selectFrom(store)
-                .join(store.storeCategories, storeCategory)
-                .where(store.deletedAt.isNull()); // 중간 테이블을 통한 조인
+        // 페이징 처리
+        List<Store> stores = applyFilters(queryFactory.selectFrom(store), condition)
+                .orderBy(orderSpecifiers(pageable.getSort()))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        // count 쿼리는 정렬/페이징 없이 필요한 조인만 포함하며, 첫 페이지가 size보다 적으면 실행하지 않음
+        JPAQuery<Long> countQuery = applyFilters(queryFactory.select(store.id.countDistinct()).from(store), condition);
+
+        return PageableExecutionUtils.getPage(stores, pageable, countQuery::fetchOne);
+    }
+
+    @Override
+    public Slice<Store> searchStoresSlice(StoreSearchCondition condition, Pageable pageable) {
+        QStore store = QStore.store;
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회 (count 쿼리 없음)
+        List<Store> stores = applyFilters(queryFactory.selectFrom(store), condition)
+                .orderBy(orderSpecifiers(pageable.getSort()))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1L)
+                .fetch();
+
+        boolean hasNext = stores.size() > pageable.getPageSize();
+        if (hasNext) {
+            stores = stores.subList(0, pageable.getPageSize());
+        }
+
+        return new SliceImpl<>(stores, pageable, hasNext);
+    }
+
+    @Override
+    public List<Store> searchStoresByCursor(StoreSearchCondition condition, KeysetCursor cursor, int limit, boolean isAsc) {
+        QStore store = QStore.store;
+
+        JPAQuery<Store> query = applyFilters(queryFactory.selectFrom(store), condition);
+
+        // 커서 이후의 행부터 조회 - offset 없이 (created_at, id) 인덱스 범위 스캔
+        if (cursor != null) {
+            query.where(afterCursor(store, cursor, isAsc));
+        }
+
+        return query.orderBy(
+                        isAsc ? store.createdAt.asc() : store.createdAt.desc(),
+                        isAsc ? store.id.asc() : store.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    // 공통 검색 조건 - 카테고리 필터가 있을 때만 중간 테이블 조인
+    private <T> JPAQuery<T> applyFilters(JPAQuery<T> query, StoreSearchCondition condition) {
+        QStore store = QStore.store;
+        QStoreCategory storeCategory = QStoreCategory.storeCategory; // 중간 테이블 Q타입
+
+        query.where(store.deletedAt.isNull());
 
         // 카테고리 필터링
-        if (categoryName != null && !categoryName.isEmpty()) {
-            query.where(storeCategory.category.name.eq(categoryName)); // StoreCategory의 Category를 조인
+        if (condition.hasCategoryName()) {
+            query.join(store.storeCategories, storeCategory)
+                    .where(storeCategory.category.name.eq(condition.getCategoryName())); // StoreCategory의 Category를 조인
         }
 
         // 지점 이름 필터링
-        if (storeName != null && !storeName.isEmpty()) {
-            query.where(store.name.contains(storeName));
+        if (condition.hasStoreName()) {
+            query.where(store.name.contains(condition.getStoreName()));
         }
 
-        // 페이징 처리
-        List<Store> stores = query.offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
+        // 영업 시각 필터링 (색인이 준비되기 전에만 사용)
+        if (condition.hasOpenAt()) {
+            query.where(openAt(store, condition.getOpenAt()));
+        }
 
-        long total = query.fetchCount();
+        return query;
+    }
 
-        return new PageImpl<>(stores, pageable, total);
+    // Pageable 정렬 조건을 QueryDSL 정렬로 변환 (동일 시각 정렬 안정성을 위해 id를 마지막 기준으로 추가)
+    private OrderSpecifier<?>[] orderSpecifiers(Sort sort) {
+        PathBuilder<Store> path = new PathBuilder<>(Store.class, QStore.store.getMetadata());
+        List<OrderSpecifier<?>> orders = new ArrayList<>();
+
+        for (Sort.Order order : sort) {
+            Order direction = order.isAscending() ? Order.ASC : Order.DESC;
+            orders.add(new OrderSpecifier<>(direction, path.getComparable(order.getProperty(), Comparable.class)));
+        }
+        orders.add(new OrderSpecifier<>(Order.ASC, QStore.store.id));
+
+        return orders.toArray(OrderSpecifier[]::new);
     }
-}
 
+    // StoreIndexEntry.isOpenAt과 같은 조건 - 자정을 넘는 영업시간, 시작 = 종료는 24시간 영업
+    private BooleanExpression openAt(QStore store, LocalTime time) {
+        BooleanExpression sameDay = store.startTime.lt(store.endTime)
+                .and(store.startTime.loe(time))
+                .and(store.endTime.gt(time));
+        BooleanExpression overnight = store.startTime.gt(store.endTime)
+                .and(store.startTime.loe(time).or(store.endTime.gt(time)));
+
+        return store.openStatus.isTrue()
+                .and(store.startTime.eq(store.endTime).or(sameDay).or(overnight));
+    }
+
+    private BooleanExpression afterCursor(QStore store, KeysetCursor cursor, boolean isAsc) {
+        if (isAsc) {
+            return store.createdAt.gt(cursor.createdAt())
+                    .or(store.createdAt.eq(cursor.createdAt()).and(store.id.gt(cursor.id())));
+        }
+        return store.createdAt.lt(cursor.createdAt())
+                .or(store.createdAt.eq(cursor.createdAt()).and(store.id.lt(cursor.id())));
+    }
+}
@@ -0,0 +1,7 @@
+package com.spring.delivery.domain.event;
+
+import java.util.UUID;
+
+// 카테고리 이름이 변경되었을 때 발행 - 카테고리 이름을 담고 있는 가게 캐시/색인 갱신에 사용
+public record CategoryChangedEvent(UUID categoryId) {
+}
@@ -0,0 +1,7 @@
+package com.spring.delivery.domain.event;
+
+import java.util.UUID;
+
+// 메뉴 가격/공개 여부/삭제 여부가 변경되었을 때 발행 - 커밋 이후 주문 가격표 무효화에 사용
+public record MenuChangedEvent(UUID menuId, UUID storeId) {
+}
@@ -0,0 +1,10 @@
+package com.spring.delivery.domain.event;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+
+// 주문이 생성되었을 때 발행 - 주문에 포함된 메뉴의 가게 ID 목록과 가게에 보여줄 주문 요약
+public record OrderCreatedEvent(UUID orderId, Set<UUID> storeIds, String orderType, String address,
+                                Long totalPrice, LocalDateTime createdAt) {
+}
@@ -0,0 +1,11 @@
+package com.spring.delivery.domain.event;
+
+import com.spring.delivery.domain.domain.entity.enumtype.OrderStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// 주문 상태 변경 (주문 생성 시 fromStatus = null) - outbox 를 거쳐 최소 한 번 이상 전달되므로 리스너는 eventId 로 중복을 걸러야 함
+public record OrderStatusChangedEvent(UUID eventId, UUID orderId, UUID storeId, OrderStatus fromStatus, OrderStatus toStatus,
+                                      LocalDateTime occurredAt) {
+}
@@ -0,0 +1,7 @@
+package com.spring.delivery.domain.event;
+
+import java.util.UUID;
+
+// 가게 정보(이름, 카테고리, 영업 정보, 삭제 여부 등)가 변경되었을 때 발행 - 커밋 이후 인메모리 색인/캐시 갱신에 사용
+public record StoreChangedEvent(UUID storeId) {
+}
@@ -0,0 +1,5 @@
+package com.spring.delivery.domain.event;
+
+// 전체 가게의 평점 집계를 재계산했을 때 발행 - 커밋 이후 인메모리 색인 재구성에 사용
+public record StoreRatingsRebuiltEvent() {
+}
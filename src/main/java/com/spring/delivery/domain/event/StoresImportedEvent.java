@@ -0,0 +1,8 @@
+package com.spring.delivery.domain.event;
+
+import java.util.List;
+import java.util.UUID;
+
+// 가게 일괄 등록 청크가 저장되었을 때 발행 - 커밋 이후 인메모리 색인에 한 번에 반영
+public record StoresImportedEvent(List<UUID> storeIds) {
+}
@@ -9,6 +9,7 @@ import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.servlet.View;
 
 import java.util.List;
@@ -39,6 +40,14 @@ public class GlobalExceptionHandler {
         );
     }
 
+    // 상태 코드를 지정한 예외 (예: 구독자 한도 초과 503)
+    @ExceptionHandler(ResponseStatusException.class)
+    public ResponseEntity<ApiResponseDto> handleResponseStatusException(ResponseStatusException e) {
+        return ResponseEntity.status(e.getStatusCode()).body(
+                ApiResponseDto.fail(e.getStatusCode().value(), e.getReason())
+        );
+    }
+
     // 서버 예외 처리
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiResponseDto> handleGeneralException(Exception e) {
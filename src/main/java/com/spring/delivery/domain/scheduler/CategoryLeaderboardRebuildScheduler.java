@@ -0,0 +1,22 @@
+package com.spring.delivery.domain.scheduler;
+
+import com.spring.delivery.domain.service.index.CategoryLeaderboard;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryLeaderboardRebuildScheduler {
+
+    private final CategoryLeaderboard categoryLeaderboard;
+
+    // 최근 주문수 집계 기간을 밀어내기 위해 주기적으로 순위표 재구성 (기본: 매시 정각)
+    @Scheduled(cron = "${store.leaderboard.rebuild-cron:0 0 * * * *}")
+    public void rebuildLeaderboard() {
+        log.info("카테고리별 가게 순위표 재구성 시작");
+        categoryLeaderboard.rebuild();
+    }
+}
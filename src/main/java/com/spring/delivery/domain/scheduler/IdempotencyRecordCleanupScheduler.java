@@ -0,0 +1,22 @@
+package com.spring.delivery.domain.scheduler;
+
+import com.spring.delivery.domain.service.OrderIdempotencyService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdempotencyRecordCleanupScheduler {
+
+    private final OrderIdempotencyService orderIdempotencyService;
+
+    // 만료된 Idempotency-Key 기록 삭제 (기본: 매시 30분)
+    @Scheduled(cron = "${order.idempotency.cleanup-cron:0 30 * * * *}")
+    public void deleteExpiredRecords() {
+        int deleted = orderIdempotencyService.deleteExpired();
+        log.info("만료된 Idempotency-Key 기록 {}건 삭제", deleted);
+    }
+}
@@ -0,0 +1,40 @@
+package com.spring.delivery.domain.scheduler;
+
+import com.spring.delivery.domain.service.outbox.OrderOutboxRelay;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+// 테스트에서는 order.outbox.poller-enabled=false 로 끄고 OrderOutboxRelay.dispatchBatch 를 직접 호출
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "order.outbox.poller-enabled", havingValue = "true", matchIfMissing = true)
+public class OrderOutboxPoller {
+
+    private final OrderOutboxRelay orderOutboxRelay;
+
+    @Value("${order.outbox.retention-days:7}")
+    private int retentionDays;
+
+    // 이전 실행이 끝난 뒤 poll-interval-ms 후 다시 실행, batch 가 가득 차 있으면 바로 이어서 전달
+    @Scheduled(fixedDelayString = "${order.outbox.poll-interval-ms:1000}")
+    public void poll() {
+        int dispatched;
+        do {
+            dispatched = orderOutboxRelay.dispatchBatch();
+        } while (dispatched > 0 && dispatched == orderOutboxRelay.batchSize());
+    }
+
+    // 전달 완료 후 보관 기간이 지난 이벤트 정리 (기본: 매일 04시)
+    @Scheduled(cron = "${order.outbox.cleanup-cron:0 0 4 * * *}")
+    public void deleteDispatched() {
+        int deleted = orderOutboxRelay.deleteDispatchedBefore(LocalDateTime.now().minusDays(retentionDays));
+        log.info("전달 완료된 주문 상태 이벤트 {}건 삭제", deleted);
+    }
+}
@@ -0,0 +1,19 @@
+package com.spring.delivery.domain.scheduler;
+
+import com.spring.delivery.domain.service.stream.OrderEventBroker;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class OrderStreamHeartbeatScheduler {
+
+    private final OrderEventBroker orderEventBroker;
+
+    // 프록시/로드밸런서의 유휴 연결 종료를 막고 끊긴 구독자를 정리 (기본: 15초)
+    @Scheduled(fixedRateString = "${order.stream.heartbeat-ms:15000}")
+    public void heartbeat() {
+        orderEventBroker.heartbeat();
+    }
+}
@@ -0,0 +1,22 @@
+package com.spring.delivery.domain.scheduler;
+
+import com.spring.delivery.domain.service.ReviewService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreRatingRebuildScheduler {
+
+    private final ReviewService reviewService;
+
+    // 증감 방식의 평점 집계가 어긋났을 경우를 대비해 주기적으로 p_review 기준 재계산 (기본: 매일 04시)
+    @Scheduled(cron = "${review.rating.rebuild-cron:0 0 4 * * *}")
+    public void rebuildStoreRatings() {
+        log.info("가게 평점 집계 재계산 시작");
+        reviewService.rebuildStoreRatings();
+    }
+}
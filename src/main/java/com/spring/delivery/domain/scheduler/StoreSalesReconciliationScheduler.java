@@ -0,0 +1,29 @@
+package com.spring.delivery.domain.scheduler;
+
+import com.spring.delivery.domain.service.rollup.StoreSalesRollup;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreSalesReconciliationScheduler {
+
+    private final StoreSalesRollup storeSalesRollup;
+
+    @Value("${store.sales.reconcile-days:7}")
+    private int reconcileDays;
+
+    // 증감 방식의 일 매출 집계가 어긋났을 경우를 대비해 최근 며칠(오늘 제외)을 p_order 기준으로 검증/보정 (기본: 매일 04시 30분)
+    @Scheduled(cron = "${store.sales.reconcile-cron:0 30 4 * * *}")
+    public void reconcileStoreSales() {
+        LocalDate today = LocalDate.now();
+        int corrected = storeSalesRollup.reconcile(today.minusDays(reconcileDays), today.minusDays(1));
+        log.info("가게 일 매출 집계 검증 완료: 보정 {}건", corrected);
+    }
+}
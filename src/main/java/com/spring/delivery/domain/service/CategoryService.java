@@ -4,11 +4,16 @@ import com.spring.delivery.domain.controller.dto.ApiResponseDto;
 import com.spring.delivery.domain.controller.dto.category.CategoryDeleteResponseDto;
 import com.spring.delivery.domain.controller.dto.category.CategoryListResponseDto;
 import com.spring.delivery.domain.controller.dto.category.CategoryRequestDto;
+import com.spring.delivery.domain.controller.dto.category.CategoryTopStoreResponseDto;
 import com.spring.delivery.domain.controller.dto.category.CategoryUpdateResponseDto;
 import com.spring.delivery.domain.domain.entity.Category;
 import com.spring.delivery.domain.domain.entity.enumtype.Role;
 import com.spring.delivery.domain.domain.repository.CategoryRepository;
+import com.spring.delivery.domain.event.CategoryChangedEvent;
+import com.spring.delivery.domain.service.index.CategoryLeaderboard;
 import com.spring.delivery.global.security.UserDetailsImpl;
+import com.spring.delivery.global.util.ResourceVersion;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -17,15 +22,25 @@ import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Service
 public class CategoryService {
 
+    private static final int MAX_TOP_STORES = 100;
+
     private final CategoryRepository categoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CategoryLeaderboard categoryLeaderboard;
 
-    public CategoryService(CategoryRepository categoryRepository) {
+    public CategoryService(CategoryRepository categoryRepository, ApplicationEventPublisher eventPublisher,
+                           CategoryLeaderboard categoryLeaderboard) {
         this.categoryRepository = categoryRepository;
+        this.eventPublisher = eventPublisher;
+        this.categoryLeaderboard = categoryLeaderboard;
     }
 
     // 권한 체크 메서드
@@ -100,6 +115,17 @@ public class CategoryService {
         )));
     }
 
+    // 카테고리 목록의 버전 (조건부 GET) - 권한이 없으면 비어 있음 (목록 조회에서 403 응답)
+    @Transactional(readOnly = true)
+    public Optional<ResourceVersion> getCategoriesVersion(UserDetailsImpl userDetails) {
+        if (checkUserAuthority(userDetails).getStatus() != HttpStatus.OK.value()) {
+            return Optional.empty();
+        }
+        CategoryRepository.CategoryVersion version = categoryRepository.findVersion();
+
+        return Optional.of(ResourceVersion.of(version.getCount(), version.getUpdatedAt()));
+    }
+
     // 카테고리 업데이트
     @Transactional
     public ApiResponseDto<CategoryUpdateResponseDto> updateCategory(UserDetailsImpl userDetails, UUID categoryId, CategoryRequestDto requestDto) {
@@ -111,7 +137,8 @@ public class CategoryService {
         Category category = findCategoryById(categoryId); // Category 객체 직접 받기
 
         // 업데이트 하기 전, 바꿀 이름이 중복인지 확인
-        if (!category.getName().equals(requestDto.getName())) {
+        boolean renamed = !category.getName().equals(requestDto.getName());
+        if (renamed) {
             ApiResponseDto<Void> duplicateCheck = checkDuplicateCategoryName(requestDto.getName());
             if (duplicateCheck.getStatus() != HttpStatus.OK.value()) {
                 return ApiResponseDto.fail(duplicateCheck.getStatus(), duplicateCheck.getMessage());
@@ -121,6 +148,11 @@ public class CategoryService {
         category.updateName(requestDto.getName());
         categoryRepository.flush();
 
+        // 커밋 이후 카테고리 이름을 담고 있는 가게 캐시/색인 갱신
+        if (renamed) {
+            eventPublisher.publishEvent(new CategoryChangedEvent(categoryId));
+        }
+
         return ApiResponseDto.success(new CategoryUpdateResponseDto(category.getId(), category.getName(), category.getUpdatedAt()));
     }
 
@@ -145,4 +177,28 @@ public class CategoryService {
                 category.getDeletedAt()
         ));
     }
+
+    // 카테고리별 인기 가게 (인메모리 순위표에서 상위 limit개)
+    public ApiResponseDto<List<CategoryTopStoreResponseDto>> getTopStores(UUID categoryId, int limit, String rankBy) {
+        if (limit < 1 || limit > MAX_TOP_STORES) {
+            throw new IllegalArgumentException("limit은 1 이상 " + MAX_TOP_STORES + " 이하여야 합니다.");
+        }
+        CategoryLeaderboard.RankBy order = CategoryLeaderboard.RankBy.from(rankBy);
+
+        Category category = findCategoryById(categoryId);
+        if (category.getDeletedAt() != null) {
+            return ApiResponseDto.fail(HttpStatus.NOT_FOUND.value(), "삭제된 카테고리입니다.");
+        }
+        if (!categoryLeaderboard.isReady()) {
+            return ApiResponseDto.fail(HttpStatus.SERVICE_UNAVAILABLE.value(), "가게 순위를 준비 중입니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        List<CategoryLeaderboard.RankedStore> top = categoryLeaderboard.top(categoryId, order, limit);
+        List<CategoryTopStoreResponseDto> responseDtos = new ArrayList<>(top.size());
+        for (int i = 0; i < top.size(); i++) {
+            responseDtos.add(new CategoryTopStoreResponseDto(i + 1, top.get(i)));
+        }
+
+        return ApiResponseDto.success(responseDtos);
+    }
 }
@@ -9,6 +9,7 @@ import com.spring.delivery.domain.domain.entity.User;
 import com.spring.delivery.domain.domain.entity.enumtype.Role;
 import com.spring.delivery.domain.domain.repository.DeliveryAddressRepository;
 import com.spring.delivery.global.security.UserDetailsImpl;
+import com.spring.delivery.infra.geo.OfflineGeocoder;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,6 +26,7 @@ import java.util.stream.Collectors;
 public class DeliveryAddressService {
 
     private final DeliveryAddressRepository deliveryAddressRepository;
+    private final OfflineGeocoder offlineGeocoder;
 
     //주문지 생성
     public DeliveryAddressMessageRequestDto createDeliveryAddress(DeliveryAddressRequestDto dto,
@@ -49,6 +51,7 @@ public class DeliveryAddressService {
                 .request(dto.getRequest())
                 .user(userDetails.getUser())
                 .build();
+        deliveryAddress.updateLocation(offlineGeocoder.geocode(dto.getAddress()).orElse(null));
 
         deliveryAddressRepository.save(deliveryAddress);
 
@@ -81,6 +84,7 @@ public class DeliveryAddressService {
         }
 
         deliveryAddress.update(dto.getAddress());
+        deliveryAddress.updateLocation(offlineGeocoder.geocode(dto.getAddress()).orElse(null));
 
         return DeliveryAddressMessageRequestDto.builder()
                 .message("배송지가 수정되었습니다.").build();
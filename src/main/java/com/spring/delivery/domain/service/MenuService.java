@@ -8,11 +8,14 @@ import com.spring.delivery.domain.domain.entity.Menu;
 import com.spring.delivery.domain.domain.entity.Store;
 import com.spring.delivery.domain.domain.repository.StoreRepository;
 import com.spring.delivery.domain.domain.repository.MenuRepository;
+import com.spring.delivery.domain.event.MenuChangedEvent;
 import com.spring.delivery.global.security.UserDetailsImpl;
+import com.spring.delivery.global.util.ResourceVersion;
 import com.spring.delivery.infra.gemini.Gemini;
 import com.spring.delivery.infra.gemini.GeminiResponseDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -33,6 +36,7 @@ public class MenuService {
 
     private final MenuRepository menuRepository;
     private final StoreRepository storeRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public ApiResponseDto<MenuResponseDto> createMenu(MenuRequestDto requestDto, UserDetailsImpl userDetails) {
@@ -51,6 +55,7 @@ public class MenuService {
         // 메뉴 생성
         Menu menu = Menu.of(requestDto, store);
         menuRepository.save(menu);
+        eventPublisher.publishEvent(new MenuChangedEvent(menu.getId(), store.getId()));
 
         return ApiResponseDto.success(MenuResponseDto.from(menu));
     }
@@ -74,6 +79,8 @@ public class MenuService {
         }
 
         Menu.update(menu, requestDto);
+        // 커밋 이후 주문 가격표 무효화
+        eventPublisher.publishEvent(new MenuChangedEvent(menuId, menu.getStore().getId()));
 
         return ApiResponseDto.success(null);
 
@@ -97,10 +104,36 @@ public class MenuService {
         }
 
         menu.delete(userDetails.getUsername()); // soft delete
+        eventPublisher.publishEvent(new MenuChangedEvent(menuId, menu.getStore().getId()));
 
         return ApiResponseDto.success(null);
     }
 
+    // 메뉴 조회 권한 확인 - 조건부 GET 검증(304)보다 먼저 호출, 통과하면 null
+    public <T> ApiResponseDto<T> checkReadAccess(UserDetailsImpl userDetails) {
+        Set<String> allowedRoles = Set.of("ROLE_CUSTOMER","ROLE_OWNER","ROLE_MANAGER","ROLE_MASTER");
+
+        if (!lacksAuthority(userDetails, allowedRoles)) {
+            return ApiResponseDto.fail(403, "열람할 권한이 없습니다.");
+        }
+        return null;
+    }
+
+    // 메뉴 단건의 버전 (조건부 GET) - 공개 메뉴가 아니면 비어 있음
+    @Transactional(readOnly = true)
+    public Optional<ResourceVersion> getMenuVersion(UUID menuId) {
+        return menuRepository.findActiveMenuUpdatedAtById(menuId)
+                .map(updatedAt -> ResourceVersion.of(menuId, updatedAt));
+    }
+
+    // 메뉴 목록/검색의 버전 (조건부 GET) - 어떤 메뉴가 바뀌어도 달라지도록 전체 메뉴 기준
+    @Transactional(readOnly = true)
+    public ResourceVersion getMenuListVersion() {
+        MenuRepository.MenuVersion version = menuRepository.findVersion();
+
+        return ResourceVersion.of(version.getCount(), version.getUpdatedAt());
+    }
+
     // 메뉴 단건 조회
     @Transactional(readOnly = true)
     public ApiResponseDto<MenuResponseDto> getMenuDetail(UserDetailsImpl userDetails, UUID menuId) {
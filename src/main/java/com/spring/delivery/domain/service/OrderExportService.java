@@ -0,0 +1,96 @@
+package com.spring.delivery.domain.service;
+
+import com.spring.delivery.domain.domain.entity.enumtype.Role;
+import com.spring.delivery.domain.domain.repository.OrderRepository;
+import com.spring.delivery.global.security.UserDetailsImpl;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 주문 CSV 내보내기.
+ * 기간 내 주문을 엔티티로 만들지 않고 컬럼만 DB 커서로 읽어 한 줄씩 바로 출력 스트림에 쓰므로, 주문 수와 무관하게 메모리 사용량이 일정하다.
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderExportService {
+
+    // 한 번에 내보낼 수 있는 최대 기간 (일)
+    private static final int MAX_DAYS = 366;
+    private static final String HEADER = "order_id,created_at,store_id,store_name,user_id,order_status,order_type,address,item_count,total_price,deleted_at";
+
+    private final OrderRepository orderRepository;
+
+    // 응답을 쓰기 전에 확인 - 관리자만, from ~ to (포함) 최대 MAX_DAYS 일
+    public void checkExport(LocalDate from, LocalDate to, UserDetailsImpl userDetails) {
+        Role role = userDetails.getUser().getRole();
+        if (role != Role.MANAGER && role != Role.MASTER) {
+            throw new AccessDeniedException("주문을 내보낼 권한이 없습니다.");
+        }
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("조회 시작일은 종료일보다 늦을 수 없습니다.");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_DAYS) {
+            throw new IllegalArgumentException("주문은 최대 " + MAX_DAYS + "일까지 내보낼 수 있습니다.");
+        }
+    }
+
+    // from ~ to (포함) 에 생성된 주문 (삭제된 주문 포함, deleted_at 으로 구분) 을 생성 순서대로 CSV 로 씀 - 쓴 행 수 반환
+    @Transactional(readOnly = true)
+    public long writeCsv(LocalDate from, LocalDate to, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        // 엑셀에서 한글이 깨지지 않도록 BOM
+        writer.write('\uFEFF');
+        writer.write(HEADER);
+        writer.write("\r\n");
+
+        long rows = 0;
+        try (Stream<OrderRepository.ExportRow> stream = orderRepository.streamExportRows(from.atStartOfDay(), to.plusDays(1).atStartOfDay())) {
+            Iterator<OrderRepository.ExportRow> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                OrderRepository.ExportRow row = iterator.next();
+                writeRow(writer, row.getOrderId(), row.getCreatedAt(), row.getStoreId(), row.getStoreName(), row.getUserId(),
+                        row.getOrderStatus(), row.getOrderType(), row.getAddress(), row.getItemCount(), row.getTotalPrice(),
+                        row.getDeletedAt());
+                rows++;
+            }
+        }
+        writer.flush();
+        return rows;
+    }
+
+    private void writeRow(Writer writer, Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] != null) {
+                writer.write(escape(values[i].toString()));
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    // 쉼표/따옴표/줄바꿈이 있으면 따옴표로 감싸고, 수식으로 해석될 수 있는 값은 ' 를 붙임 (CSV injection 방지)
+    static String escape(String value) {
+        if (!value.isEmpty() && "=+-@\t\r".indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+        if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+        return value;
+    }
+}
@@ -0,0 +1,180 @@
+package com.spring.delivery.domain.service;
+
+import com.spring.delivery.domain.controller.dto.ApiResponseDto;
+import com.spring.delivery.domain.controller.dto.order.OrderRequestDto;
+import com.spring.delivery.domain.controller.dto.order.OrderResponseDto;
+import com.spring.delivery.domain.domain.entity.IdempotencyRecord;
+import com.spring.delivery.domain.domain.repository.IdempotencyRecordRepository;
+import com.spring.delivery.domain.domain.repository.OrderRepository;
+import com.spring.delivery.global.cache.LruTtlCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Idempotency-Key 헤더가 붙은 주문 생성 요청을 한 번만 처리한다.
+ * 처리 결과는 인메모리(LRU + TTL)와 DB(p_idempotency_record) 두 단계로 보관하고,
+ * 같은 키의 요청이 동시에 들어오면 먼저 들어온 요청만 주문을 만들고 나머지는 그 결과를 기다렸다가 그대로 돌려받는다.
+ * 주문과 기록은 한 트랜잭션으로 저장되므로, 다른 서버가 같은 키를 먼저 저장했다면 주문도 함께 롤백된다.
+ */
+@Slf4j
+@Service
+public class OrderIdempotencyService {
+
+    static final int MAX_KEY_LENGTH = 100;
+
+    private final OrderService orderService;
+    private final OrderRepository orderRepository;
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final LruTtlCache<String, StoredResponse> responses;
+    private final Duration ttl;
+
+    // 처리 중인 키 -> 결과 (single-flight)
+    private final Map<String, CompletableFuture<StoredResponse>> inFlight = new ConcurrentHashMap<>();
+
+    public OrderIdempotencyService(OrderService orderService, OrderRepository orderRepository,
+                                   IdempotencyRecordRepository idempotencyRecordRepository,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${order.idempotency.max-size:10000}") int maxSize,
+                                   @Value("${order.idempotency.ttl-hours:24}") long ttlHours) {
+        this.orderService = orderService;
+        this.orderRepository = orderRepository;
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.responses = new LruTtlCache<>(maxSize);
+        this.ttl = Duration.ofHours(ttlHours);
+    }
+
+    public ApiResponseDto<OrderResponseDto> createOrder(String idempotencyKey, OrderRequestDto orderRequestDto) {
+        // 키가 없으면 기존처럼 매번 처리
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return orderService.createOrder(orderRequestDto);
+        }
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            return ApiResponseDto.fail(400, "Idempotency-Key 는 " + MAX_KEY_LENGTH + "자 이하여야 합니다.");
+        }
+
+        String requestHash = requestHash(orderRequestDto);
+        StoredResponse stored = responses.getIfPresent(idempotencyKey)
+                .orElseGet(() -> singleFlight(idempotencyKey, requestHash, orderRequestDto));
+
+        if (!stored.requestHash().equals(requestHash)) {
+            return ApiResponseDto.fail(422, "이미 다른 주문 요청에 사용된 Idempotency-Key 입니다.");
+        }
+        return stored.response();
+    }
+
+    // 만료된 DB 기록 정리 (IdempotencyRecordCleanupScheduler 에서 호출)
+    public int deleteExpired() {
+        return transactionTemplate.execute(status -> idempotencyRecordRepository.deleteExpired(LocalDateTime.now()));
+    }
+
+    public void invalidateAll() {
+        responses.invalidateAll();
+    }
+
+    private StoredResponse singleFlight(String key, String requestHash, OrderRequestDto orderRequestDto) {
+        CompletableFuture<StoredResponse> flight = new CompletableFuture<>();
+        CompletableFuture<StoredResponse> leader = inFlight.putIfAbsent(key, flight);
+        if (leader != null) {
+            try {
+                return leader.join();
+            } catch (CompletionException e) {
+                // 먼저 들어온 요청이 실패(아무것도 저장되지 않음)했으면 이 요청이 다시 처리
+                return singleFlight(key, requestHash, orderRequestDto);
+            }
+        }
+
+        try {
+            StoredResponse stored = responses.getIfPresent(key)
+                    .orElseGet(() -> replayOrExecute(key, requestHash, orderRequestDto));
+            responses.put(key, stored, ttl);
+            inFlight.remove(key, flight);
+            flight.complete(stored);
+            return stored;
+        } catch (RuntimeException e) {
+            inFlight.remove(key, flight);
+            flight.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    // 유효한 DB 기록이 있으면 재생, 없거나 만료되었으면 처리
+    private StoredResponse replayOrExecute(String key, String requestHash, OrderRequestDto orderRequestDto) {
+        Optional<IdempotencyRecord> record = idempotencyRecordRepository.findById(key);
+        if (record.isPresent() && isValid(record.get())) {
+            return replay(record.get());
+        }
+        return execute(key, requestHash, orderRequestDto, record.isPresent());
+    }
+
+    // expired: 아직 정리되지 않은 만료 기록이 있음 - 같은 트랜잭션에서 지우고 새 기록을 저장 (기본키 충돌 방지)
+    private StoredResponse execute(String key, String requestHash, OrderRequestDto orderRequestDto, boolean expired) {
+        try {
+            return transactionTemplate.execute(status -> {
+                if (expired) {
+                    idempotencyRecordRepository.deleteExpiredByKey(key, LocalDateTime.now());
+                }
+                ApiResponseDto<OrderResponseDto> response = orderService.createOrder(orderRequestDto);
+                UUID orderId = response.getData() != null ? response.getData().getOrderId() : null;
+                idempotencyRecordRepository.saveAndFlush(IdempotencyRecord.of(key, requestHash, response.getStatus(),
+                        response.getMessage(), orderId, LocalDateTime.now().plus(ttl)));
+                return new StoredResponse(requestHash, response);
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 다른 서버가 같은 키를 먼저 처리함 - 이 요청의 주문은 롤백되었으므로 먼저 저장된 결과를 돌려줌
+            log.info("Idempotency-Key 충돌, 저장된 결과로 응답: {}", key);
+            return findRecord(key).orElseThrow(() -> e);
+        }
+    }
+
+    private Optional<StoredResponse> findRecord(String key) {
+        return idempotencyRecordRepository.findById(key)
+                .filter(this::isValid)
+                .map(this::replay);
+    }
+
+    private boolean isValid(IdempotencyRecord record) {
+        return record.getExpiresAt().isAfter(LocalDateTime.now());
+    }
+
+    // DB 기록으로 응답을 다시 만듦 - 성공이면 저장된 주문 id로 주문을 조회
+    private StoredResponse replay(IdempotencyRecord record) {
+        ApiResponseDto<OrderResponseDto> response = record.getOrderId() == null
+                ? ApiResponseDto.fail(record.getResponseStatus(), record.getResponseMessage())
+                : orderRepository.findById(record.getOrderId())
+                        .map(order -> ApiResponseDto.success(record.getResponseStatus(), OrderResponseDto.from(order)))
+                        .orElseGet(() -> ApiResponseDto.fail(404, "해당 주문은 존재하지 않습니다."));
+        return new StoredResponse(record.getRequestHash(), response);
+    }
+
+    // 주문 내용을 결정하는 값들의 해시 (총 금액은 서버에서 계산하므로 제외)
+    private String requestHash(OrderRequestDto orderRequestDto) {
+        String source = String.join("|",
+                Objects.toString(orderRequestDto.getUserId() != null ? orderRequestDto.getUserId().getId() : null),
+                Objects.toString(orderRequestDto.getOrderType()),
+                Objects.toString(orderRequestDto.getAddress()),
+                Objects.toString(orderRequestDto.getCardNumber()),
+                Objects.toString(orderRequestDto.getMenuInfo()));
+        return DigestUtils.md5DigestAsHex(source.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private record StoredResponse(String requestHash, ApiResponseDto<OrderResponseDto> response) {
+    }
+}
@@ -0,0 +1,42 @@
+package com.spring.delivery.domain.service;
+
+import com.spring.delivery.domain.controller.dto.ApiResponseDto;
+import com.spring.delivery.domain.controller.dto.order.OrderIntakeResponseDto;
+import com.spring.delivery.domain.controller.dto.order.OrderRequestDto;
+import com.spring.delivery.domain.controller.dto.order.OrderResponseDto;
+import com.spring.delivery.domain.service.intake.OrderIntakeQueue;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class OrderIntakeService {
+
+    private final OrderService orderService;
+    // 비동기 접수를 켠 경우에만 있음 (order.intake.async-enabled)
+    private final Optional<OrderIntakeQueue> orderIntakeQueue;
+
+    // 검증만 하고 큐에 넣은 뒤 202 반환 (저장은 작업 스레드에서), 큐가 가득 차면 429
+    public ApiResponseDto<OrderIntakeResponseDto> accept(String idempotencyKey, OrderRequestDto orderRequestDto) {
+        if (orderIntakeQueue.isEmpty()) {
+            return ApiResponseDto.fail(503, "비동기 주문 접수를 사용하지 않습니다.");
+        }
+        ApiResponseDto<OrderResponseDto> rejection = orderService.validateOrder(orderRequestDto);
+        if (rejection != null) {
+            return ApiResponseDto.fail(rejection.getStatus(), rejection.getMessage());
+        }
+
+        return orderIntakeQueue.get().submit(idempotencyKey, orderRequestDto)
+                .map(queued -> ApiResponseDto.success(202, queued))
+                .orElseGet(() -> ApiResponseDto.fail(429, "주문이 몰려 접수할 수 없습니다. 잠시 후 다시 시도해 주세요."));
+    }
+
+    public ApiResponseDto<OrderIntakeResponseDto> getIntake(UUID intakeId) {
+        return orderIntakeQueue.flatMap(queue -> queue.status(intakeId))
+                .map(ApiResponseDto::success)
+                .orElseGet(() -> ApiResponseDto.fail(404, "접수 내역이 없거나 만료되었습니다."));
+    }
+}
@@ -1,19 +1,33 @@
 package com.spring.delivery.domain.service;
 
 import com.spring.delivery.domain.controller.dto.*;
+import com.spring.delivery.domain.controller.dto.order.OrderHistoryCursorResponseDto;
+import com.spring.delivery.domain.controller.dto.order.OrderHistoryResponseDto;
 import com.spring.delivery.domain.controller.dto.order.OrderMenuResponseDto;
 import com.spring.delivery.domain.controller.dto.order.OrderRequestDto;
 import com.spring.delivery.domain.controller.dto.order.OrderResponseDto;
-import com.spring.delivery.domain.domain.entity.Menu;
+import com.spring.delivery.domain.controller.dto.order.OrderStatusRequestDto;
 import com.spring.delivery.domain.domain.entity.MenuOrder;
 import com.spring.delivery.domain.domain.entity.Order;
+import com.spring.delivery.domain.domain.entity.OrderOutboxEvent;
 import com.spring.delivery.domain.domain.entity.Payment;
+import com.spring.delivery.domain.domain.entity.User;
+import com.spring.delivery.domain.domain.entity.enumtype.OrderStatus;
+import com.spring.delivery.domain.domain.entity.enumtype.Role;
 import com.spring.delivery.domain.domain.repository.MenuOrderRepository;
 import com.spring.delivery.domain.domain.repository.MenuRepository;
+import com.spring.delivery.domain.domain.repository.OrderOutboxEventRepository;
 import com.spring.delivery.domain.domain.repository.OrderRepository;
 import com.spring.delivery.domain.domain.repository.PaymentRepository;
+import com.spring.delivery.domain.domain.repository.StoreRepository;
+import com.spring.delivery.domain.event.OrderCreatedEvent;
+import com.spring.delivery.domain.service.cache.MenuPriceTable;
+import com.spring.delivery.domain.service.rollup.StoreSalesRollup;
 import com.spring.delivery.global.security.UserDetailsImpl;
+import com.spring.delivery.global.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -33,37 +47,106 @@ public class OrderService {
     private final MenuOrderRepository menuOrderRepository;
     private final MenuRepository menuRepository;
     private final PaymentRepository paymentRepository;
+    private final StoreRepository storeRepository;
+    private final OrderOutboxEventRepository orderOutboxEventRepository;
+    private final MenuPriceTable menuPriceTable;
+    private final StoreSalesRollup storeSalesRollup;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public ApiResponseDto<OrderResponseDto> createOrder(OrderRequestDto orderRequestDto) {
+        // 메뉴의 정보가 여러개이기 때문에 리스트로 반환 (메뉴 id -> 수량)
+        List<Map.Entry<UUID, Long>> menuItems = menuItems(orderRequestDto);
+        // 가격표에서 메뉴 가격/주문 가능 여부를 확인 (처음 주문되는 가게만 한 번 조회)
+        Map<UUID, MenuPriceTable.MenuPrice> prices = menuPriceTable.get(
+                menuItems.stream().map(Map.Entry::getKey).collect(Collectors.toSet()));
+
+        ApiResponseDto<OrderResponseDto> rejection = validateMenus(menuItems, prices);
+        if (rejection != null) {
+            return rejection;
+        }
+        Set<UUID> storeIds = prices.values().stream()
+                .map(MenuPriceTable.MenuPrice::storeId)
+                .collect(Collectors.toSet());
+        UUID storeId = storeIds.iterator().next();
+        String storeName = prices.values().iterator().next().storeName();
+        int itemCount = menuItems.stream().mapToInt(menuItem -> menuItem.getValue().intValue()).sum();
+
+        // 총 금액은 요청값을 믿지 않고 주문 시점 단가로 계산
+        long totalPrice = menuItems.stream()
+                .mapToLong(menuItem -> prices.get(menuItem.getKey()).price() * menuItem.getValue())
+                .sum();
+
         // Order table 에 들어갈 객체 생성
-        Order order = Order.createOrder(orderRequestDto);
+        Order order = Order.createOrder(orderRequestDto, storeRepository.getReferenceById(storeId), storeName, itemCount, totalPrice);
         // DB에 저장
         orderRepository.save(order);
+        // 가게 일 매출 집계 반영 (같은 트랜잭션)
+        storeSalesRollup.apply(storeId, order.getCreatedAt().toLocalDate(), 1, totalPrice);
+        // 새 주문 알림 (같은 트랜잭션의 outbox -> OrderOutboxRelay 가 전달)
+        orderOutboxEventRepository.save(OrderOutboxEvent.of(order.getId(), storeId, null, order.getOrderStatus()));
 
-        // 메뉴의 정보가 여러개이기 때문에 리스트로 반환
-        List<Map<UUID, Long>> menuInfo = orderRequestDto.getMenuInfo();
-
-        // 리스트의 정보를 MenuOrder table에 저장
-        for (Map<UUID, Long> menuItems : menuInfo) {
-            for (Map.Entry<UUID, Long> menuItem : menuItems.entrySet()) {
-                UUID menuId = menuItem.getKey();
-                Long amount = menuItem.getValue();
-                Menu menu = menuRepository.findById(menuId).orElse(null);
-                // 주문, 메뉴, 메뉴 수량
-                MenuOrder menuOrder = MenuOrder.create(order, menu , amount);
-                menuOrderRepository.save(menuOrder);
-            }
-        }
+        // 주문, 메뉴(참조만, 조회 없음), 단가, 수량 -> MenuOrder 는 saveAll 후 커밋 시점에 JDBC 배치 INSERT 로 저장
+        menuOrderRepository.saveAll(menuItems.stream()
+                .map(menuItem -> MenuOrder.create(order, menuRepository.getReferenceById(menuItem.getKey()),
+                        prices.get(menuItem.getKey()).price(), menuItem.getValue()))
+                .toList());
 
         // paymentData 도 함께 받아와서 저장하자! -> order 객체, 총가격, 카드번호
         Payment payment = Payment.createPayment(order, orderRequestDto.getCardNumber());
         paymentRepository.save(payment);
 
+        // 커밋 이후 카테고리별 순위표의 최근 주문수 반영, 가게 새 주문 대기열에 추가
+        eventPublisher.publishEvent(new OrderCreatedEvent(order.getId(), storeIds, order.getOrderType(),
+                order.getAddress(), order.getTotalPrice(), order.getCreatedAt()));
+
         // 새로운 주문생성 성공 반환 데이터 return
         return ApiResponseDto.success(OrderResponseDto.from(order));
     }
 
+    // 주문을 저장하지 않고 검증만 수행 (비동기 접수 시 큐에 넣기 전에 사용) - 통과하면 null
+    public ApiResponseDto<OrderResponseDto> validateOrder(OrderRequestDto orderRequestDto) {
+        List<Map.Entry<UUID, Long>> menuItems = menuItems(orderRequestDto);
+        return validateMenus(menuItems, menuPriceTable.get(
+                menuItems.stream().map(Map.Entry::getKey).collect(Collectors.toSet())));
+    }
+
+    private List<Map.Entry<UUID, Long>> menuItems(OrderRequestDto orderRequestDto) {
+        return orderRequestDto.getMenuInfo() == null ? List.of()
+                : orderRequestDto.getMenuInfo().stream()
+                .flatMap(menuInfo -> menuInfo.entrySet().stream())
+                .toList();
+    }
+
+    // 메뉴 존재, 공개 여부, 수량, 같은 가게인지 검증 - 통과하면 null
+    private <T> ApiResponseDto<T> validateMenus(List<Map.Entry<UUID, Long>> menuItems, Map<UUID, MenuPriceTable.MenuPrice> prices) {
+        if (menuItems.isEmpty()) {
+            return ApiResponseDto.fail(400, "주문할 메뉴가 없습니다.");
+        }
+
+        for (Map.Entry<UUID, Long> menuItem : menuItems) {
+            MenuPriceTable.MenuPrice price = prices.get(menuItem.getKey());
+            if (price == null) {
+                return ApiResponseDto.fail(404, "존재하지 않는 메뉴입니다: " + menuItem.getKey());
+            }
+            if (!price.orderable()) {
+                return ApiResponseDto.fail(400, "주문할 수 없는 메뉴입니다: " + menuItem.getKey());
+            }
+            if (menuItem.getValue() == null || menuItem.getValue() < 1) {
+                return ApiResponseDto.fail(400, "메뉴 수량은 1 이상이어야 합니다.");
+            }
+        }
+
+        long storeCount = prices.values().stream()
+                .map(MenuPriceTable.MenuPrice::storeId)
+                .distinct()
+                .count();
+        if (storeCount > 1) {
+            return ApiResponseDto.fail(400, "한 주문에는 한 가게의 메뉴만 담을 수 있습니다.");
+        }
+        return null;
+    }
+
     @Transactional
     public ApiResponseDto<OrderResponseDto> updateOrder(UUID id, OrderRequestDto orderRequestDto, UserDetailsImpl userDetails) {
 
@@ -84,6 +167,7 @@ public class OrderService {
             return ApiResponseDto.fail(404, "해당 주문은 존재하지 않습니다.");
         }
         // 주문이 존재한다면 Order 수정
+        long previousTotalPrice = order.getTotalPrice() != null ? order.getTotalPrice() : 0;
         Order.update(order, orderRequestDto);
 
         // orderRequestDto 에 updateMenuIds 가 있다면 MenuOrder 수정
@@ -97,12 +181,102 @@ public class OrderService {
                 MenuOrder.update(updateMenuOrder, updateValue);
             });
         }
+
+        // 총 금액은 요청값을 믿지 않고 주문 시점 단가 x 수량으로 다시 계산 (바뀌면 일 매출 집계에 차액 반영), 메뉴 수량 합계도 갱신
+        recalculateTotals(order);
+        if (order.getOrderStatus() != OrderStatus.CANCELED && order.getDeletedAt() == null
+                && order.getTotalPrice() != null && order.getTotalPrice() != previousTotalPrice) {
+            storeSalesRollup.apply(storeIdOf(order), order.getCreatedAt().toLocalDate(), 0, order.getTotalPrice() - previousTotalPrice);
+        }
         OrderResponseDto responseDto = new OrderResponseDto(order);
 
         // 수정후 성공 메세지 return
         return ApiResponseDto.success(responseDto);
     }
 
+    // 주문 메뉴의 단가 스냅샷 x 수량으로 총 금액, 수량 합으로 메뉴 수 갱신 (단가는 바꾸지 않음, 주문 메뉴가 없으면 기존 값 유지)
+    // 단가 스냅샷 도입 이전의 주문 메뉴만 가격표의 현재 단가로 계산
+    private void recalculateTotals(Order order) {
+        List<MenuOrder> menuOrders = menuOrderRepository.findByOrderId(order.getId());
+        if (menuOrders.isEmpty()) {
+            return;
+        }
+        Set<UUID> unpricedMenuIds = menuOrders.stream()
+                .filter(menuOrder -> menuOrder.getUnitPrice() == null)
+                .map(menuOrder -> menuOrder.getMenu().getId())
+                .collect(Collectors.toSet());
+        Map<UUID, MenuPriceTable.MenuPrice> prices = unpricedMenuIds.isEmpty() ? Map.of() : menuPriceTable.get(unpricedMenuIds);
+
+        long totalPrice = 0;
+        int itemCount = 0;
+        for (MenuOrder menuOrder : menuOrders) {
+            MenuPriceTable.MenuPrice price = prices.get(menuOrder.getMenu().getId());
+            long unitPrice = menuOrder.getUnitPrice() != null ? menuOrder.getUnitPrice()
+                    : price != null ? price.price() : 0;
+            long amount = menuOrder.getAmount() != null ? menuOrder.getAmount() : 0;
+            totalPrice += unitPrice * amount;
+            itemCount += (int) amount;
+        }
+        order.changeTotalPrice(totalPrice);
+        order.changeItemCount(itemCount);
+    }
+
+    // 주문 상태 변경 - 고객은 본인 주문 취소만, 가게 주인/관리자는 허용된 전이 전체
+    @Transactional
+    public ApiResponseDto<OrderResponseDto> changeOrderStatus(UUID id, OrderStatusRequestDto requestDto, UserDetailsImpl userDetails) {
+        OrderStatus next;
+        try {
+            next = OrderStatus.from(requestDto.getStatus());
+        } catch (IllegalArgumentException e) {
+            return ApiResponseDto.fail(400, e.getMessage());
+        }
+
+        Order order = orderRepository.findById(id).orElse(null);
+        if (order == null || order.getDeletedAt() != null) {
+            return ApiResponseDto.fail(404, "해당 주문은 존재하지 않습니다.");
+        }
+
+        User user = userDetails.getUser();
+        if (user.getRole() == Role.CUSTOMER
+                && (next != OrderStatus.CANCELED || !order.getUser().getId().equals(user.getId()))) {
+            return ApiResponseDto.fail(403, "주문 상태를 변경할 권한이 없습니다.");
+        }
+        // 가게 주인은 본인 가게 주문만
+        if (user.getRole() == Role.OWNER && !isStoreOwner(storeIdOf(order), user)) {
+            return ApiResponseDto.fail(403, "주문 상태를 변경할 권한이 없습니다.");
+        }
+
+        OrderStatus previous = order.getOrderStatus();
+        if (!previous.canTransitionTo(next)) {
+            return ApiResponseDto.fail(409, "주문 상태를 " + previous + "에서 " + next + "(으)로 변경할 수 없습니다.");
+        }
+        order.changeStatus(next);
+        if (next == OrderStatus.CANCELED) {
+            cancelSales(order);
+        }
+        orderOutboxEventRepository.save(OrderOutboxEvent.of(order.getId(), storeIdOf(order), previous, next));
+
+        return ApiResponseDto.success(OrderResponseDto.from(order));
+    }
+
+    // 주문 생성일의 가게 일 매출에서 차감
+    private void cancelSales(Order order) {
+        storeSalesRollup.apply(storeIdOf(order), order.getCreatedAt().toLocalDate(), -1,
+                order.getTotalPrice() != null ? -order.getTotalPrice() : 0);
+    }
+
+    private boolean isStoreOwner(UUID storeId, User user) {
+        return storeId != null && storeRepository.findById(storeId)
+                .map(store -> store.getUser().getId().equals(user.getId()))
+                .orElse(false);
+    }
+
+    // store_id 가 추가되기 전에 생성된 주문은 주문 메뉴로 가게를 찾음
+    private UUID storeIdOf(Order order) {
+        return order.getStore() != null ? order.getStore().getId()
+                : menuOrderRepository.findStoreIdsByOrderId(order.getId()).stream().findFirst().orElse(null);
+    }
+
     @Transactional
     public ApiResponseDto<OrderResponseDto> deleteOrder(UUID id, UserDetailsImpl userDetails) {
         // MASTER, MANAGER만 사용가능 -> userDetails에서 role확인
@@ -122,44 +296,67 @@ public class OrderService {
             return ApiResponseDto.fail(404, "해당 주문은 존재하지 않습니다.");
         }
 
-        // 주문이 존재한다면 주문삭제
+        // 주문이 존재한다면 주문삭제 (이미 취소/삭제된 주문은 일 매출에서 차감되어 있음)
+        if (order.getDeletedAt() == null && order.getOrderStatus() != OrderStatus.CANCELED) {
+            cancelSales(order);
+        }
         order.delete(userDetails.getUser().getUsername());
 
 
         return ApiResponseDto.success(null);
     }
 
+    // 내 주문 내역 - (user_id, created_at, id) 인덱스 범위 조회 한 번, 주문에 보관된 요약 컬럼만 응답
+    @Transactional(readOnly = true)
+    public ApiResponseDto<OrderHistoryCursorResponseDto> getMyOrders(String cursor, int size, UserDetailsImpl userDetails) {
+        // 페이지당 노출 건수 제한
+        if (size != 10 && size != 30 && size != 50) {
+            size = 10; // 기본값으로 10으로 설정
+        }
+
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+        Long userId = userDetails.getUser().getId();
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<Order> orders = keysetCursor == null
+                ? orderRepository.findHistoryByUserId(userId, Limit.of(size + 1))
+                : orderRepository.findHistoryByUserIdBefore(userId, keysetCursor.createdAt(), keysetCursor.id(), Limit.of(size + 1));
+
+        boolean hasNext = orders.size() > size;
+        if (hasNext) {
+            orders = orders.subList(0, size);
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            Order last = orders.get(orders.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return ApiResponseDto.success(new OrderHistoryCursorResponseDto(
+                orders.stream().map(OrderHistoryResponseDto::new).toList(), size, hasNext, nextCursor));
+    }
+
+    @Transactional(readOnly = true)
     public ApiResponseDto<OrderMenuResponseDto> getOrder(UUID id) {
-        // 들어온 주문 id가 주문 DB에 있는지 확인
-        Order order = orderRepository.findById(id).orElse(null);
+        // 주문, 주문 메뉴, 메뉴를 fetch join 한 번으로 조회
+        Order order = orderRepository.findWithMenusById(id).orElse(null);
         if (order == null) {
             return ApiResponseDto.fail(404, "해당 주문은 존재하지 않습니다.");
         }
 
-        // 들어온 주문의 메뉴들들 db 에서 가져옴
-        // 주문정보와, 메뉴 아이디들을 가져온다
-        List<UUID> menuOrder = menuOrderRepository.findByOrderId(id).stream()
-                .map(MenuOrder::getId)
-                .toList();
-
-        List<Menu> menus = new ArrayList<>();
-        // 메뉴아이디들로 메뉴정보 조회를 한다.
-        menuOrder.forEach(orderMenuId -> {
-            Menu menu = menuRepository.findById(orderMenuId).orElse(null);
-            menus.add(menu);
-        });
-
         // 주문정보 + 메뉴정보들을 합쳐서 보내준다.
-        return ApiResponseDto.success(OrderMenuResponseDto.from(order, menus));
+        return ApiResponseDto.success(new OrderMenuResponseDto(order));
     }
 
+    @Transactional(readOnly = true)
     public ApiResponseDto<List<OrderMenuResponseDto>> getOrders(Long userId,
-                                                                String orderStatus,
-                                                                String sort,
-                                                                String order,
-                                                                int page,
-                                                                int size ,
-                                                                UserDetailsImpl userDetails) {
+                                                                   String orderStatus,
+                                                                   String sort,
+                                                                   String order,
+                                                                   int page,
+                                                                   int size ,
+                                                                   UserDetailsImpl userDetails) {
         // MASTER, MANAGER만 사용가능 -> userDetails에서 role확인
         Collection<? extends GrantedAuthority> authorities = userDetails.getAuthorities();
         // user의 권한이 MASETR , MANAGER 라면 TRUE값 리턴
@@ -172,26 +369,31 @@ public class OrderService {
         }
 
 
+        OrderStatus status;
+        try {
+            status = OrderStatus.from(orderStatus);
+        } catch (IllegalArgumentException e) {
+            return ApiResponseDto.fail(400, e.getMessage());
+        }
+
         // 페이징
         Pageable pageable = PageRequest.of(page-1, size, "desc".equalsIgnoreCase(order)
                 ? Sort.by(sort).descending() : Sort.by(sort).ascending());
 
-        Page<Order> orderPage = orderRepository.findByUserIdAndOrderStatus(userId, orderStatus, pageable);
-
-        // 주문 목록을 DTO로 변환
-        List<OrderMenuResponseDto> orderMenuResponseDtos = orderPage.getContent().stream()
-                .map(orders -> {
-                    // 주문 아이디로 메뉴 리스트 조회
-                    List<MenuOrder> menuOrders = menuOrderRepository.findByOrderId(orders.getId());
-
-                    // 메뉴 아이디들로 메뉴 정보 조회
-                    List<Menu> menus = menuOrders.stream()
-                            .map(menuOrder -> menuRepository.findById(menuOrder.getId()).orElse(null))
-                            .collect(Collectors.toList());
-
-                    // 주문 정보와 메뉴 리스트를 DTO로 변환하여 반환
-                    return new OrderMenuResponseDto(orders, menus);
-                }).toList();
+        // 1단계: 페이지의 주문 id / 2단계: 주문 + 주문 메뉴 + 메뉴를 IN 조회 한 번으로 (페이지 크기와 무관하게 2~3개 쿼리)
+        List<UUID> orderIds = orderRepository.findIdsByUserIdAndOrderStatus(userId, status, pageable).getContent();
+        if (orderIds.isEmpty()) {
+            return ApiResponseDto.success(List.of());
+        }
+        Map<UUID, Order> orders = orderRepository.findWithMenusByIdIn(orderIds).stream()
+                .collect(Collectors.toMap(Order::getId, o -> o));
+
+        // 1단계의 정렬 순서대로 DTO 변환
+        List<OrderMenuResponseDto> orderMenuResponseDtos = orderIds.stream()
+                .map(orders::get)
+                .filter(Objects::nonNull)
+                .map(OrderMenuResponseDto::new)
+                .toList();
 
         return ApiResponseDto.success(orderMenuResponseDtos);
     }
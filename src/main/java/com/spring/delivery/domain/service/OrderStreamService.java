@@ -0,0 +1,121 @@
+package com.spring.delivery.domain.service;
+
+import com.spring.delivery.domain.controller.dto.ApiResponseDto;
+import com.spring.delivery.domain.controller.dto.order.IncomingOrderResponseDto;
+import com.spring.delivery.domain.controller.dto.order.IncomingOrdersResponseDto;
+import com.spring.delivery.domain.controller.dto.order.OrderStatusEventResponseDto;
+import com.spring.delivery.domain.domain.entity.Order;
+import com.spring.delivery.domain.domain.entity.Store;
+import com.spring.delivery.domain.domain.entity.User;
+import com.spring.delivery.domain.domain.entity.enumtype.OrderStatus;
+import com.spring.delivery.domain.domain.entity.enumtype.Role;
+import com.spring.delivery.domain.domain.repository.MenuOrderRepository;
+import com.spring.delivery.domain.domain.repository.OrderRepository;
+import com.spring.delivery.domain.domain.repository.StoreRepository;
+import com.spring.delivery.domain.service.stream.IncomingOrderQueue;
+import com.spring.delivery.domain.service.stream.OrderEventBroker;
+import com.spring.delivery.global.security.UserDetailsImpl;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+// 주문 상태 실시간 구독 (SSE), 가게 새 주문 long-polling - 권한 확인 후 OrderEventBroker / IncomingOrderQueue 에 등록
+@Service
+@RequiredArgsConstructor
+public class OrderStreamService {
+
+    private static final int PENDING_LIMIT = 100;
+
+    private final OrderRepository orderRepository;
+    private final MenuOrderRepository menuOrderRepository;
+    private final StoreRepository storeRepository;
+    private final OrderEventBroker orderEventBroker;
+    private final IncomingOrderQueue incomingOrderQueue;
+
+    // 고객은 본인 주문, 가게 주인은 본인 가게의 주문, 관리자는 전체
+    @Transactional(readOnly = true)
+    public SseEmitter subscribeOrder(UUID orderId, UserDetailsImpl userDetails) {
+        Order order = orderRepository.findById(orderId)
+                .filter(found -> found.getDeletedAt() == null)
+                .orElseThrow(() -> new NoSuchElementException("해당 주문은 존재하지 않습니다."));
+
+        User user = userDetails.getUser();
+        boolean allowed = switch (user.getRole()) {
+            case CUSTOMER -> order.getUser().getId().equals(user.getId());
+            case OWNER -> order.getStore() != null ? isStoreOwner(order.getStore().getId(), user)
+                    : menuOrderRepository.findStoreIdsByOrderId(orderId).stream().anyMatch(storeId -> isStoreOwner(storeId, user));
+            case MANAGER, MASTER -> true;
+        };
+        if (!allowed) {
+            throw new AccessDeniedException("주문 상태를 구독할 권한이 없습니다.");
+        }
+
+        return orderEventBroker.subscribeOrder(orderId, OrderStatusEventResponseDto.current(order))
+                .orElseThrow(OrderStreamService::tooManySubscribers);
+    }
+
+    // 가게 주인은 본인 가게, 관리자는 전체
+    @Transactional(readOnly = true)
+    public SseEmitter subscribeStore(UUID storeId, UserDetailsImpl userDetails) {
+        checkStoreAccess(storeId, userDetails.getUser(), "가게 주문을 구독할 권한이 없습니다.");
+
+        return orderEventBroker.subscribeStore(storeId)
+                .orElseThrow(OrderStreamService::tooManySubscribers);
+    }
+
+    /**
+     * 가게 새 주문 long-polling - after 이후 새 주문이 있으면 바로, 없으면 waitMs 동안 대기하다 주문이 커밋되는 즉시 응답.
+     * after 가 없거나 대기열이 이어 줄 수 없는 cursor 면(재기동, 밀려난 주문) DB 의 접수 대기 주문과 현재 cursor 로 응답.
+     */
+    @Transactional(readOnly = true)
+    public DeferredResult<ApiResponseDto<IncomingOrdersResponseDto>> pollIncoming(UUID storeId, Long after, long waitMs, UserDetailsImpl userDetails) {
+        checkStoreAccess(storeId, userDetails.getUser(), "가게 주문을 조회할 권한이 없습니다.");
+
+        if (after == null || !incomingOrderQueue.covers(storeId, after)) {
+            // cursor 를 먼저 읽어 DB 조회와 겹친 주문은 다음 요청에서 한 번 더 받을 수 있음 (주문 id 로 중복 제거)
+            long cursor = incomingOrderQueue.cursor(storeId);
+            List<IncomingOrderResponseDto> pending = orderRepository.findByStoreIdAndOrderStatus(storeId, OrderStatus.PENDING, Limit.of(PENDING_LIMIT)).stream()
+                    .map(IncomingOrderResponseDto::from)
+                    .toList();
+            DeferredResult<ApiResponseDto<IncomingOrdersResponseDto>> result = new DeferredResult<>();
+            result.setResult(ApiResponseDto.success(IncomingOrdersResponseDto.of(cursor, pending)));
+            return result;
+        }
+
+        return incomingOrderQueue.poll(storeId, after, waitMs)
+                .orElseThrow(OrderStreamService::tooManySubscribers);
+    }
+
+    // 가게 주인은 본인 가게, 관리자는 전체
+    private void checkStoreAccess(UUID storeId, User user, String deniedMessage) {
+        Store store = storeRepository.findById(storeId)
+                .filter(found -> found.getDeletedAt() == null)
+                .orElseThrow(() -> new NoSuchElementException("존재하지 않는 가게 입니다."));
+
+        boolean allowed = user.getRole() == Role.MANAGER || user.getRole() == Role.MASTER
+                || (user.getRole() == Role.OWNER && store.getUser().getId().equals(user.getId()));
+        if (!allowed) {
+            throw new AccessDeniedException(deniedMessage);
+        }
+    }
+
+    private boolean isStoreOwner(UUID storeId, User user) {
+        return storeRepository.findById(storeId)
+                .map(store -> store.getUser().getId().equals(user.getId()))
+                .orElse(false);
+    }
+
+    private static ResponseStatusException tooManySubscribers() {
+        return new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "구독자가 많아 연결할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+    }
+}
@@ -10,11 +10,14 @@ import com.spring.delivery.domain.domain.entity.enumtype.Role;
 import com.spring.delivery.domain.domain.repository.ReviewRepository;
 
 import com.spring.delivery.domain.domain.repository.StoreRepository;
+import com.spring.delivery.domain.event.StoreChangedEvent;
+import com.spring.delivery.domain.event.StoreRatingsRebuiltEvent;
 import com.spring.delivery.global.security.UserDetailsImpl;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -34,6 +37,9 @@ public class ReviewService {
 
     private final StoreRepository storeRepository;
 
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
     public ReviewResponseDto createReview(UUID storeId, ReviewRequestDto dto, UserDetailsImpl userDetails) {
         Store store = storeRepository.findById(storeId).orElseThrow(() -> new NoSuchElementException("해당되는 상점이 없습니다"));
 
@@ -59,6 +65,10 @@ public class ReviewService {
                         .build()
         );
 
+        // 가게 평점 집계 반영
+        storeRepository.applyRatingDelta(store.getId(), review.getScore(), 1);
+        eventPublisher.publishEvent(new StoreChangedEvent(store.getId())); // 평점 필터 색인 갱신
+
         return ReviewResponseDto.builder()
                 .id(review.getId())
                 .rating(review.getScore())
@@ -139,8 +149,17 @@ public class ReviewService {
             throw new IllegalArgumentException("계정 정보가 다르거나 존재하지 않는 권한입니다.");
         }
 
+        Double previousScore = review.getScore();
         review.update(dto.getRating(), dto.getComment());
 
+        // 삭제되지 않은 리뷰만 가게 평점 집계에 반영되어 있으므로 차이만큼 보정
+        if (review.getDeletedAt() == null) {
+            storeRepository.applyRatingDelta(review.getStore().getId(),
+                    scoreOf(review.getScore()) - scoreOf(previousScore),
+                    countOf(review.getScore()) - countOf(previousScore));
+            eventPublisher.publishEvent(new StoreChangedEvent(review.getStore().getId()));
+        }
+
         //일치하다면 변경 수행 일치하는것만 하는게 좋음
         return ReviewUpdateResponseDto.builder()
                 .id(review.getId())
@@ -176,17 +195,33 @@ public class ReviewService {
 
         review.delete(userDetails.getUser().getUsername());
 
+        // 가게 평점 집계에서 제외
+        if (review.getScore() != null) {
+            storeRepository.applyRatingDelta(review.getStore().getId(), -review.getScore(), -1);
+            eventPublisher.publishEvent(new StoreChangedEvent(review.getStore().getId()));
+        }
+
         return ReviewDeleteResponseDto.builder()
                 .message("리뷰가 삭제(숨김 처리)되었습니다.")
                 .delete_at(review.getDeletedAt())
                 .build();
     }
 
-    //상점의 평점 평균 계산
-    public Double selectStoreAverageRating(UUID storeId) {
-        Double averageRating = reviewRepository.findByStoreAverageRating(storeId);
-        // null 체크 및 0.0 반환
-        return (averageRating != null) ? Math.round(averageRating * 10.0) / 10.0 : 0.0;
+    //상점의 평점 집계 재계산 (p_review 기준)
+    @Transactional
+    public int rebuildStoreRatings() {
+        int updatedStores = storeRepository.rebuildRatingAggregates();
+        log.info("가게 평점 집계 재계산 완료 : {}건", updatedStores);
+        eventPublisher.publishEvent(new StoreRatingsRebuiltEvent());
+        return updatedStores;
+    }
+
+    private double scoreOf(Double score) {
+        return score != null ? score : 0.0;
+    }
+
+    private long countOf(Double score) {
+        return score != null ? 1 : 0;
     }
 
 }
@@ -0,0 +1,323 @@
+package com.spring.delivery.domain.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring.delivery.domain.controller.dto.ApiResponseDto;
+import com.spring.delivery.domain.controller.dto.store.StoreBulkImportLineDto;
+import com.spring.delivery.domain.controller.dto.store.StoreBulkImportResponseDto;
+import com.spring.delivery.domain.controller.dto.store.StoreCreateRequestDto;
+import com.spring.delivery.domain.domain.entity.Category;
+import com.spring.delivery.domain.domain.entity.Store;
+import com.spring.delivery.domain.domain.entity.StoreCategory;
+import com.spring.delivery.domain.domain.entity.User;
+import com.spring.delivery.domain.domain.repository.CategoryRepository;
+import com.spring.delivery.domain.domain.repository.StoreCategoryRepository;
+import com.spring.delivery.domain.domain.repository.StoreRepository;
+import com.spring.delivery.domain.domain.repository.UserRepository;
+import com.spring.delivery.domain.event.StoresImportedEvent;
+import com.spring.delivery.global.security.UserDetailsImpl;
+import com.spring.delivery.infra.geo.OfflineGeocoder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 가게 일괄 등록 - 입력을 줄 단위로 읽어 청크마다 한 트랜잭션으로 저장 (INSERT 는 hibernate.jdbc.batch_size 단위로 묶여 전송)
+@Service
+public class StoreImportService {
+
+    public static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    public static final MediaType CSV = MediaType.parseMediaType("text/csv");
+
+    static final int CHUNK_SIZE = 100;
+    private static final List<String> CSV_COLUMNS = List.of("name", "address", "tel", "openStatus", "startTime", "endTime", "categoryIds");
+
+    private final StoreRepository storeRepository;
+    private final StoreCategoryRepository storeCategoryRepository;
+    private final CategoryRepository categoryRepository;
+    private final UserRepository userRepository;
+    private final OfflineGeocoder offlineGeocoder;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public StoreImportService(StoreRepository storeRepository, StoreCategoryRepository storeCategoryRepository,
+                              CategoryRepository categoryRepository, UserRepository userRepository,
+                              OfflineGeocoder offlineGeocoder, ObjectMapper objectMapper,
+                              PlatformTransactionManager transactionManager, ApplicationEventPublisher eventPublisher) {
+        this.storeRepository = storeRepository;
+        this.storeCategoryRepository = storeCategoryRepository;
+        this.categoryRepository = categoryRepository;
+        this.userRepository = userRepository;
+        this.offlineGeocoder = offlineGeocoder;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+    }
+
+    public ApiResponseDto<StoreBulkImportResponseDto> importStores(UserDetailsImpl userDetails, InputStream body, MediaType contentType) {
+        User user = userRepository.findByUsername(userDetails.getUsername())
+                .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 사용자 ID입니다."));
+
+        // 권한 확인 (MASTER만 가능)
+        boolean isMaster = userDetails.getAuthorities().stream()
+                .anyMatch(auth -> auth.getAuthority().equals("ROLE_MASTER"));
+        if (!isMaster) {
+            return ApiResponseDto.fail(403, "가게를 등록할 권한이 없습니다.");
+        }
+
+        boolean csv;
+        if (contentType != null && NDJSON.isCompatibleWith(contentType)) {
+            csv = false;
+        } else if (contentType != null && CSV.isCompatibleWith(contentType)) {
+            csv = true;
+        } else {
+            return ApiResponseDto.fail(415, "지원하지 않는 형식입니다. (application/x-ndjson, text/csv)");
+        }
+
+        List<StoreBulkImportLineDto> results = new ArrayList<>();
+        List<ParsedLine> chunk = new ArrayList<>(CHUNK_SIZE);
+        Map<String, Integer> csvHeader = null;
+        long lineNumber = 0;
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (csv && csvHeader == null) {
+                    csvHeader = parseCsvHeader(line);
+                    if (csvHeader == null) {
+                        return ApiResponseDto.fail(400, "CSV 헤더가 올바르지 않습니다. 필수 컬럼: " + String.join(",", CSV_COLUMNS));
+                    }
+                    continue;
+                }
+
+                try {
+                    StoreCreateRequestDto requestDto = csv ? parseCsvLine(line, csvHeader) : parseJsonLine(line);
+                    validate(requestDto);
+                    chunk.add(new ParsedLine(lineNumber, requestDto));
+                } catch (IllegalArgumentException e) {
+                    results.add(StoreBulkImportLineDto.failed(lineNumber, e.getMessage()));
+                }
+
+                if (chunk.size() == CHUNK_SIZE) {
+                    results.addAll(saveChunk(chunk, user));
+                    chunk.clear();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (!chunk.isEmpty()) {
+            results.addAll(saveChunk(chunk, user));
+        }
+
+        // 청크 저장 순서와 무관하게 줄 번호 순으로 보고
+        results.sort((a, b) -> Long.compare(a.getLine(), b.getLine()));
+
+        return ApiResponseDto.success(new StoreBulkImportResponseDto(results));
+    }
+
+    // 청크 하나를 한 트랜잭션으로 저장 - 카테고리는 청크 전체에 대해 한 번만 조회
+    private List<StoreBulkImportLineDto> saveChunk(List<ParsedLine> chunk, User user) {
+        try {
+            return transactionTemplate.execute(status -> {
+                Set<UUID> categoryIds = chunk.stream()
+                        .flatMap(parsed -> parsed.requestDto().getCategoryIds().stream())
+                        .collect(Collectors.toSet());
+                Map<UUID, Category> categories = categoryRepository.findAllById(categoryIds).stream()
+                        .filter(category -> category.getDeletedAt() == null)
+                        .collect(Collectors.toMap(Category::getId, Function.identity()));
+
+                List<StoreBulkImportLineDto> results = new ArrayList<>(chunk.size());
+                List<Store> stores = new ArrayList<>(chunk.size());
+                List<StoreCategory> storeCategories = new ArrayList<>();
+                List<ParsedLine> accepted = new ArrayList<>(chunk.size());
+
+                for (ParsedLine parsed : chunk) {
+                    StoreCreateRequestDto requestDto = parsed.requestDto();
+                    UUID missing = requestDto.getCategoryIds().stream()
+                            .filter(categoryId -> !categories.containsKey(categoryId))
+                            .findFirst()
+                            .orElse(null);
+                    if (missing != null) {
+                        results.add(StoreBulkImportLineDto.failed(parsed.line(), "유효하지 않은 카테고리 ID: " + missing));
+                        continue;
+                    }
+
+                    Store store = Store.of(
+                            requestDto.getName(),
+                            requestDto.getAddress(),
+                            requestDto.getTel(),
+                            requestDto.isOpenStatus(),
+                            requestDto.getStartTime(),
+                            requestDto.getEndTime(),
+                            user
+                    );
+                    store.updateLocation(offlineGeocoder.geocode(requestDto.getAddress()).orElse(null)); // 주소 -> 좌표
+                    stores.add(store);
+                    accepted.add(parsed);
+                    requestDto.getCategoryIds()
+                            .forEach(categoryId -> storeCategories.add(StoreCategory.of(store, categories.get(categoryId))));
+                }
+
+                storeRepository.saveAll(stores);
+                storeCategoryRepository.saveAll(storeCategories);
+
+                for (int i = 0; i < stores.size(); i++) {
+                    results.add(StoreBulkImportLineDto.created(accepted.get(i).line(), stores.get(i).getId()));
+                }
+
+                // 커밋 이후 검색 색인에 한 번에 반영
+                eventPublisher.publishEvent(new StoresImportedEvent(stores.stream().map(Store::getId).toList()));
+                return results;
+            });
+        } catch (DataAccessException e) {
+            // 청크 트랜잭션이 롤백되었으므로 청크의 모든 줄을 실패로 보고
+            return chunk.stream()
+                    .map(parsed -> StoreBulkImportLineDto.failed(parsed.line(), "저장 중 오류가 발생했습니다."))
+                    .toList();
+        }
+    }
+
+    private StoreCreateRequestDto parseJsonLine(String line) {
+        try {
+            return objectMapper.readValue(line, StoreCreateRequestDto.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("JSON 형식이 올바르지 않습니다.");
+        }
+    }
+
+    // 헤더의 컬럼 순서는 자유롭게, 필수 컬럼이 모두 있어야 함
+    private Map<String, Integer> parseCsvHeader(String line) {
+        List<String> columns = splitCsv(line);
+        Map<String, Integer> header = new HashMap<>();
+        for (int i = 0; i < columns.size(); i++) {
+            header.put(columns.get(i).trim(), i);
+        }
+        return header.keySet().containsAll(CSV_COLUMNS) ? header : null;
+    }
+
+    private StoreCreateRequestDto parseCsvLine(String line, Map<String, Integer> header) {
+        List<String> values = splitCsv(line);
+        if (values.size() != header.size()) {
+            throw new IllegalArgumentException("컬럼 수가 헤더와 일치하지 않습니다.");
+        }
+        Function<String, String> column = name -> values.get(header.get(name)).trim();
+
+        String openStatus = column.apply("openStatus");
+        if (!openStatus.equalsIgnoreCase("true") && !openStatus.equalsIgnoreCase("false")) {
+            throw new IllegalArgumentException("영업 상태는 true 또는 false 여야 합니다.");
+        }
+
+        List<UUID> categoryIds;
+        try {
+            categoryIds = Arrays.stream(column.apply("categoryIds").split("\\|"))
+                    .map(String::trim)
+                    .filter(id -> !id.isEmpty())
+                    .map(UUID::fromString)
+                    .toList();
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("카테고리 ID 형식이 올바르지 않습니다.");
+        }
+
+        return new StoreCreateRequestDto(
+                column.apply("name"),
+                categoryIds,
+                column.apply("address"),
+                column.apply("tel"),
+                Boolean.parseBoolean(openStatus),
+                parseTime(column.apply("startTime")),
+                parseTime(column.apply("endTime"))
+        );
+    }
+
+    private LocalTime parseTime(String value) {
+        if (value.isEmpty()) {
+            return null;
+        }
+        try {
+            return LocalTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("유효하지 않은 시간 형식입니다. (HH:mm)");
+        }
+    }
+
+    // 큰따옴표로 감싼 필드 안의 쉼표와 "" 이스케이프 지원
+    private static List<String> splitCsv(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("닫히지 않은 따옴표가 있습니다.");
+        }
+        values.add(current.toString());
+        return values;
+    }
+
+    private void validate(StoreCreateRequestDto requestDto) {
+        if (requestDto.getName() == null || requestDto.getName().isBlank()) {
+            throw new IllegalArgumentException("가게 이름은 필수입니다.");
+        }
+        if (requestDto.getAddress() == null || requestDto.getAddress().isBlank()) {
+            throw new IllegalArgumentException("가게 주소는 필수입니다.");
+        }
+        if (requestDto.getStartTime() == null || requestDto.getEndTime() == null) {
+            throw new IllegalArgumentException("영업 시작/종료 시간은 필수입니다.");
+        }
+        if (requestDto.getCategoryIds() == null) {
+            throw new IllegalArgumentException("카테고리 ID 목록은 필수입니다.");
+        }
+        Set<UUID> seen = new HashSet<>();
+        if (requestDto.getCategoryIds().stream().anyMatch(id -> id == null || !seen.add(id))) {
+            throw new IllegalArgumentException("카테고리 ID 목록이 올바르지 않습니다.");
+        }
+    }
+
+    private record ParsedLine(long line, StoreCreateRequestDto requestDto) {
+    }
+}
@@ -0,0 +1,74 @@
+package com.spring.delivery.domain.service;
+
+import com.spring.delivery.domain.controller.dto.ApiResponseDto;
+import com.spring.delivery.domain.controller.dto.store.StoreDailySalesResponseDto;
+import com.spring.delivery.domain.controller.dto.store.StoreSalesResponseDto;
+import com.spring.delivery.domain.domain.entity.StoreDailySales;
+import com.spring.delivery.domain.domain.entity.Store;
+import com.spring.delivery.domain.domain.entity.User;
+import com.spring.delivery.domain.domain.entity.enumtype.Role;
+import com.spring.delivery.domain.domain.repository.StoreDailySalesRepository;
+import com.spring.delivery.domain.domain.repository.StoreRepository;
+import com.spring.delivery.global.security.UserDetailsImpl;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 가게 매출 조회 - 원본 주문을 합산하지 않고 일 매출 집계(p_store_daily_sales)만 읽음
+@Service
+@RequiredArgsConstructor
+public class StoreSalesService {
+
+    // 한 번에 조회할 수 있는 최대 기간 (일)
+    private static final int MAX_DAYS = 366;
+
+    private final StoreRepository storeRepository;
+    private final StoreDailySalesRepository storeDailySalesRepository;
+
+    @Transactional(readOnly = true)
+    public ApiResponseDto<StoreSalesResponseDto> getDailySales(UUID storeId, LocalDate from, LocalDate to, UserDetailsImpl userDetails) {
+        if (from.isAfter(to)) {
+            return ApiResponseDto.fail(400, "조회 시작일은 종료일보다 늦을 수 없습니다.");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_DAYS) {
+            return ApiResponseDto.fail(400, "매출은 최대 " + MAX_DAYS + "일까지 조회할 수 있습니다.");
+        }
+
+        Store store = storeRepository.findById(storeId).orElse(null);
+        if (store == null || store.getDeletedAt() != null) {
+            return ApiResponseDto.fail(404, "존재하지 않는 가게 입니다.");
+        }
+
+        // 가게 주인은 본인 가게, 관리자는 전체
+        User user = userDetails.getUser();
+        boolean allowed = user.getRole() == Role.MANAGER || user.getRole() == Role.MASTER
+                || (user.getRole() == Role.OWNER && store.getUser().getId().equals(user.getId()));
+        if (!allowed) {
+            return ApiResponseDto.fail(403, "가게 매출을 조회할 권한이 없습니다.");
+        }
+
+        Map<LocalDate, StoreDailySales> salesByDate = storeDailySalesRepository
+                .findByStoreIdAndSalesDateBetweenOrderBySalesDateAsc(storeId, from, to).stream()
+                .collect(Collectors.toMap(StoreDailySales::getSalesDate, Function.identity()));
+
+        // 주문이 없는 날은 0 으로 채움
+        List<StoreDailySalesResponseDto> days = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            StoreDailySales sales = salesByDate.get(date);
+            days.add(sales != null
+                    ? new StoreDailySalesResponseDto(date, sales.getOrderCount(), sales.getSalesAmount())
+                    : new StoreDailySalesResponseDto(date, 0, 0));
+        }
+
+        return ApiResponseDto.success(new StoreSalesResponseDto(storeId, from, to, days));
+    }
+}
@@ -3,47 +3,83 @@ package com.spring.delivery.domain.service;
 import com.spring.delivery.domain.controller.dto.ApiResponseDto;
 import com.spring.delivery.domain.controller.dto.store.*;
 import com.spring.delivery.domain.domain.entity.Category;
+import com.spring.delivery.domain.domain.entity.DeliveryAddress;
 import com.spring.delivery.domain.domain.entity.Store;
 import com.spring.delivery.domain.domain.entity.StoreCategory;
 import com.spring.delivery.domain.domain.entity.User;
+import com.spring.delivery.domain.domain.entity.enumtype.Role;
 import com.spring.delivery.domain.domain.repository.CategoryRepository;
+import com.spring.delivery.domain.domain.repository.DeliveryAddressRepository;
 import com.spring.delivery.domain.domain.repository.StoreCategoryRepository;
 import com.spring.delivery.domain.domain.repository.StoreRepository;
 import com.spring.delivery.domain.domain.repository.UserRepository;
+import com.spring.delivery.domain.domain.repository.search.StoreSearchCondition;
+import com.spring.delivery.domain.event.StoreChangedEvent;
+import com.spring.delivery.domain.service.cache.StoreDetailCache;
+import com.spring.delivery.domain.service.index.StoreSearchIndex;
 import com.spring.delivery.global.security.UserDetailsImpl;
+import com.spring.delivery.global.util.GeoPoint;
+import com.spring.delivery.global.util.KeysetCursor;
+import com.spring.delivery.global.util.ResourceVersion;
+import com.spring.delivery.infra.geo.OfflineGeocoder;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 public class StoreService {
 
+    private static final String SEARCH_INDEX_NOT_READY = "가게 검색 색인을 준비 중입니다. 잠시 후 다시 시도해주세요.";
+
     private final StoreRepository storeRepository;
     private final UserRepository userRepository;
     private final StoreCategoryRepository storeCategoryRepository;
     private final CategoryRepository categoryRepository;
-    private final ReviewService reviewService; // ReviewService 주입
+    private final StoreSearchIndex storeSearchIndex;
+    private final StoreDetailCache storeDetailCache;
+    private final DeliveryAddressRepository deliveryAddressRepository;
+    private final OfflineGeocoder offlineGeocoder;
+    private final ApplicationEventPublisher eventPublisher;
 
     public StoreService(StoreRepository storeRepository, UserRepository userRepository,
                         StoreCategoryRepository storeCategoryRepository, CategoryRepository categoryRepository,
-                        ReviewService reviewService) {
+                        StoreSearchIndex storeSearchIndex, StoreDetailCache storeDetailCache,
+                        DeliveryAddressRepository deliveryAddressRepository, OfflineGeocoder offlineGeocoder,
+                        ApplicationEventPublisher eventPublisher) {
         this.storeRepository = storeRepository;
         this.userRepository = userRepository;
         this.storeCategoryRepository = storeCategoryRepository;
         this.categoryRepository = categoryRepository;
-        this.reviewService = reviewService;
+        this.storeSearchIndex = storeSearchIndex;
+        this.storeDetailCache = storeDetailCache;
+        this.deliveryAddressRepository = deliveryAddressRepository;
+        this.offlineGeocoder = offlineGeocoder;
+        this.eventPublisher = eventPublisher;
     }
 
-    public ApiResponseDto createStore(UserDetailsImpl userDetails, StoreCreateRequestDto requestDto) {
+    @Transactional
+    public ApiResponseDto<UUID> createStore(UserDetailsImpl userDetails, StoreCreateRequestDto requestDto) {
         // User 객체를 가져오는 로직
         User user = userRepository.findByUsername(userDetails.getUsername())
                 .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 사용자 ID입니다."));
@@ -67,6 +103,7 @@ public class StoreService {
                 requestDto.getEndTime(),
                 user // User 객체
         );
+        store.updateLocation(offlineGeocoder.geocode(requestDto.getAddress()).orElse(null)); // 주소 -> 좌표
 
         // 저장 로직
         storeRepository.save(store); // Store 객체를 저장
@@ -84,6 +121,9 @@ public class StoreService {
         // 각 StoreCategory 객체 저장
         storeCategoryRepository.saveAll(storeCategories); // StoreCategoryRepository를 통해 저장
 
+        // 커밋 이후 검색 색인에 반영
+        eventPublisher.publishEvent(new StoreChangedEvent(store.getId()));
+
         // 성공적인 응답 반환
         return ApiResponseDto.success(store.getId());
     }
@@ -98,40 +138,49 @@ public class StoreService {
         Page<Store> storePage = storeRepository.findByDeletedAtIsNull(pageable);
 
         // Store 객체를 StoreListResponseDto로 변환
-        Page<StoreListResponseDto> responseDtoPage = storePage.map(store -> {
-            List<String> categories = store.getStoreCategories().stream()
-                    .map(storeCategory -> storeCategory.getCategory().getName())
-                    .collect(Collectors.toList());
-
-            Double averageRating = reviewService.selectStoreAverageRating(store.getId());
-
-            return new StoreListResponseDto(
-                    store.getId(),
-                    store.getName(),
-                    store.getAddress(),
-                    store.getTel(),
-                    store.isOpenStatus(),
-                    categories,
-                    store.getStartTime(),
-                    store.getEndTime(),
-                    averageRating
-            );
-        });
+        Page<StoreListResponseDto> responseDtoPage = toListResponsePage(storePage);
 
         // ApiResponseDto로 응답 반환
         return ApiResponseDto.success(responseDtoPage);
     }
 
-    @Transactional(readOnly = true)
+    // 캐시 적중 시 DB 커넥션을 사용하지 않도록 트랜잭션 없이 조회 (미스일 때만 가게 + 카테고리 이름 조회)
     public ApiResponseDto<StoreDetailResponseDto> getStoreById(UUID id) {
-        Store store = storeRepository.findById(id)
+        StoreDetailResponseDto responseDto = storeDetailCache.get(id, this::loadStoreDetail)
+                .map(StoreDetailCache.Entry::detail)
                 .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 가게 ID입니다."));
 
-        List<String> categories = store.getStoreCategories().stream()
-                .map(storeCategory -> storeCategory.getCategory().getName())
-                .collect(Collectors.toList());
+        return ApiResponseDto.success(responseDto);
+    }
+
+    // 가게 상세의 버전 (조건부 GET) - 상세 캐시에 함께 보관된 값, 가게가 없으면 비어 있음
+    public Optional<ResourceVersion> getStoreVersion(UUID id) {
+        return storeDetailCache.get(id, this::loadStoreDetail).map(StoreDetailCache.Entry::version);
+    }
+
+    // 가게 캐시 통계 조회 (MASTER만 가능)
+    public ApiResponseDto<StoreCacheStatsResponseDto> getCacheStats(UserDetailsImpl userDetails) {
+        if (userDetails == null) {
+            return ApiResponseDto.fail(HttpStatus.UNAUTHORIZED.value(), "인증 정보가 없습니다.");
+        }
+
+        if (userDetails.getUser().getRole() != Role.MASTER) {
+            return ApiResponseDto.fail(HttpStatus.FORBIDDEN.value(), "권한이 없습니다.");
+        }
 
-        StoreDetailResponseDto responseDto = new StoreDetailResponseDto(
+        return ApiResponseDto.success(new StoreCacheStatsResponseDto(storeDetailCache.stats()));
+    }
+
+    // 캐시 미스 - 버전과 응답을 함께 읽음 (읽는 사이 변경이 커밋되면 무효화되어 캐시에 남지 않음)
+    private Optional<StoreDetailCache.Entry> loadStoreDetail(UUID id) {
+        Optional<ResourceVersion> version = storeRepository.findVersionById(id).map(storeVersion -> ResourceVersion.of(
+                id,
+                storeVersion.getUpdatedAt(),
+                storeVersion.getCategoryCount(),
+                storeVersion.getCategoryLinkedAt(),
+                storeVersion.getCategoryUpdatedAt()
+        ));
+        return version.flatMap(storeVersion -> storeRepository.findById(id).map(store -> new StoreDetailCache.Entry(new StoreDetailResponseDto(
                 store.getId(),
                 store.getName(),
                 store.getAddress(),
@@ -139,14 +188,12 @@ public class StoreService {
                 store.isOpenStatus(),
                 store.getStartTime(), // 시작 시간
                 store.getEndTime(),   // 종료 시간
-                categories
-        );
-
-        return ApiResponseDto.success(responseDto);
+                findCategoryNamesByStore(List.of(store)).getOrDefault(store.getId(), List.of())
+        ), storeVersion)));
     }
 
     @Transactional
-    public ApiResponseDto updateStore(UserDetailsImpl userDetails, UUID storeId, StoreUpdateRequestDto requestDto) {
+    public ApiResponseDto<StoreUpdateResponseDto> updateStore(UserDetailsImpl userDetails, UUID storeId, StoreUpdateRequestDto requestDto) {
         // 권한 확인 (OWNER, MASTER만 가능)
         Collection<? extends GrantedAuthority> authorities = userDetails.getAuthorities();
         boolean isOwnerOrMaster = authorities.stream()
@@ -162,41 +209,25 @@ public class StoreService {
 
         // 가게 정보 수정
         store.update(requestDto);
+        if (requestDto.getAddress() != null) {
+            store.updateLocation(offlineGeocoder.geocode(requestDto.getAddress()).orElse(null));
+        }
 
-        // 요청에서 categoryIds가 있을 때만 변경
+        // 요청에서 categoryIds가 있을 때만 변경 (요청이 없으면 기존 카테고리 유지)
+        List<UUID> categoryIds = store.getStoreCategories().stream()
+                .map(storeCategory -> storeCategory.getCategory().getId())
+                .toList();
         if (requestDto.getCategoryIds() != null) {
-            List<UUID> existingCategoryIds = store.getStoreCategories().stream()
-                    .map(storeCategory -> storeCategory.getCategory().getId())
-                    .toList();
-
-            List<UUID> newCategoryIds = requestDto.getCategoryIds();
-
-            // 기존 카테고리 삭제 (요청에 없는 카테고리)
-            existingCategoryIds.stream()
-                    .filter(categoryId -> !newCategoryIds.contains(categoryId))
-                    .forEach(categoryId -> {
-                        StoreCategory storeCategory = storeCategoryRepository.findByStoreIdAndCategoryId(storeId, categoryId)
-                                .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 카테고리 ID: " + categoryId));
-                        storeCategoryRepository.delete(storeCategory);
-                    });
-
-            // 새로운 카테고리 추가
-            newCategoryIds.stream()
-                    .filter(categoryId -> !existingCategoryIds.contains(categoryId))
-                    .forEach(categoryId -> {
-                        Category category = categoryRepository.findById(categoryId)
-                                .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 카테고리 ID: " + categoryId));
-                        storeCategoryRepository.save(StoreCategory.of(store, category));
-                    });
+            categoryIds = replaceCategories(store, categoryIds, requestDto.getCategoryIds());
         }
 
+        eventPublisher.publishEvent(new StoreChangedEvent(storeId));
+
         // 응답 DTO 생성
         StoreUpdateResponseDto responseDto = new StoreUpdateResponseDto(
                 store.getId(),
                 store.getName(),
-                store.getStoreCategories().stream()
-                        .map(sc -> sc.getCategory().getId())
-                        .toList(), // 요청이 없으면 기존 카테고리 유지
+                categoryIds,
                 store.getAddress(),
                 store.getTel(),
                 store.getStartTime(),
@@ -235,12 +266,162 @@ public class StoreService {
         // 스토어 소프트 삭제
         store.delete(userDetails.getUsername());
 
+        eventPublisher.publishEvent(new StoreChangedEvent(storeId));
+
         // 성공적인 응답 반환
         return ApiResponseDto.success("가게가 성공적으로 삭제되었습니다.");
     }
 
     @Transactional(readOnly = true)
     public ApiResponseDto<Page<StoreListResponseDto>> searchStores(String storeName, String categoryName, int page, int size, String sortBy, boolean isAsc) {
+        return searchStores(searchCondition(storeName, categoryName), page, size, sortBy, isAsc);
+    }
+
+    @Transactional(readOnly = true)
+    public ApiResponseDto<Page<StoreListResponseDto>> searchStores(StoreSearchCondition condition, int page, int size, String sortBy, boolean isAsc) {
+        if (condition.requiresIndex() && !storeSearchIndex.isReady()) {
+            return ApiResponseDto.fail(HttpStatus.SERVICE_UNAVAILABLE.value(), SEARCH_INDEX_NOT_READY);
+        }
+
+        Pageable pageable = searchPageable(page, size, sortBy, isAsc);
+
+        // 검색 수행 - 이름 검색은 색인에서 페이지의 가게 id를 구한 뒤 해당 가게만 조회
+        Page<Store> storePage;
+        if (useSearchIndex(condition)) {
+            Page<UUID> idPage = storeSearchIndex.searchPage(condition, pageable);
+            storePage = new PageImpl<>(findStoresInOrder(idPage.getContent()), pageable, idPage.getTotalElements());
+        } else {
+            storePage = storeRepository.searchStores(condition, pageable);
+        }
+
+        // Store 객체를 StoreListResponseDto로 변환
+        Page<StoreListResponseDto> responseDtoPage = toListResponsePage(storePage);
+
+        // ApiResponseDto로 응답 반환
+        return ApiResponseDto.success(responseDtoPage);
+    }
+
+    // 검색 결과와 함께 카테고리별 가게 수(facet)를 응답 - 색인의 비트맵으로 계산하므로 추가 SQL 없음
+    @Transactional(readOnly = true)
+    public ApiResponseDto<StoreFacetSearchResponseDto> searchStoresWithFacets(StoreSearchCondition condition, int page, int size, String sortBy, boolean isAsc) {
+        if (!storeSearchIndex.isReady()) {
+            return ApiResponseDto.fail(HttpStatus.SERVICE_UNAVAILABLE.value(), SEARCH_INDEX_NOT_READY);
+        }
+
+        Pageable pageable = searchPageable(page, size, sortBy, isAsc);
+        StoreSearchIndex.FacetedPage result = storeSearchIndex.searchPageWithFacets(condition, pageable);
+
+        List<Store> stores = findStoresInOrder(result.page().getContent());
+        Page<StoreListResponseDto> storePage = new PageImpl<>(toListResponses(stores), pageable, result.page().getTotalElements());
+
+        return ApiResponseDto.success(new StoreFacetSearchResponseDto(storePage, result.categoryFacets()));
+    }
+
+    // 전체 건수 없이 다음 페이지 존재 여부(hasNext)만 응답하는 검색
+    @Transactional(readOnly = true)
+    public ApiResponseDto<Slice<StoreListResponseDto>> searchStoresSlice(String storeName, String categoryName, int page, int size, String sortBy, boolean isAsc) {
+        return searchStoresSlice(searchCondition(storeName, categoryName), page, size, sortBy, isAsc);
+    }
+
+    @Transactional(readOnly = true)
+    public ApiResponseDto<Slice<StoreListResponseDto>> searchStoresSlice(StoreSearchCondition condition, int page, int size, String sortBy, boolean isAsc) {
+        if (condition.requiresIndex() && !storeSearchIndex.isReady()) {
+            return ApiResponseDto.fail(HttpStatus.SERVICE_UNAVAILABLE.value(), SEARCH_INDEX_NOT_READY);
+        }
+
+        Pageable pageable = searchPageable(page, size, sortBy, isAsc);
+
+        Slice<Store> storeSlice;
+        if (useSearchIndex(condition)) {
+            Slice<UUID> idSlice = storeSearchIndex.searchSlice(condition, pageable);
+            storeSlice = new SliceImpl<>(findStoresInOrder(idSlice.getContent()), pageable, idSlice.hasNext());
+        } else {
+            storeSlice = storeRepository.searchStoresSlice(condition, pageable);
+        }
+
+        return ApiResponseDto.success(new SliceImpl<>(toListResponses(storeSlice.getContent()), pageable, storeSlice.hasNext()));
+    }
+
+    private StoreSearchCondition searchCondition(String storeName, String categoryName) {
+        return StoreSearchCondition.builder()
+                .storeName(storeName)
+                .categoryName(categoryName)
+                .build();
+    }
+
+    // 이름 검색(LIKE '%검색어%'), 영업 시각 검색은 풀스캔이 되므로 색인이 준비된 경우 색인으로 처리 (위치/속성 필터는 색인 전용)
+    private boolean useSearchIndex(StoreSearchCondition condition) {
+        return (condition.hasStoreName() || condition.hasOpenAt() || condition.requiresIndex()) && storeSearchIndex.isReady();
+    }
+
+    // 위치 검색 기준 좌표 - 로그인한 사용자의 배송지만 사용 가능
+    @Transactional(readOnly = true)
+    public GeoPoint locateDeliveryAddress(UserDetailsImpl userDetails, UUID deliveryAddressId) {
+        if (userDetails == null) {
+            throw new IllegalArgumentException("위치 검색은 로그인 후 이용할 수 있습니다.");
+        }
+
+        DeliveryAddress deliveryAddress = deliveryAddressRepository.findById(deliveryAddressId)
+                .filter(address -> address.getDeletedAt() == null)
+                .orElseThrow(() -> new NoSuchElementException("해당되는 배송지가 없습니다."));
+
+        if (!deliveryAddress.getUser().getId().equals(userDetails.getUser().getId())) {
+            throw new IllegalArgumentException("본인의 배송지만 사용할 수 있습니다.");
+        }
+
+        // 좌표가 저장되지 않은 기존 배송지는 주소로 변환
+        if (deliveryAddress.getLatitude() != null && deliveryAddress.getLongitude() != null) {
+            return new GeoPoint(deliveryAddress.getLatitude(), deliveryAddress.getLongitude());
+        }
+        return offlineGeocoder.geocode(deliveryAddress.getAddress())
+                .orElseThrow(() -> new IllegalArgumentException("배송지 주소의 위치를 확인할 수 없습니다."));
+    }
+
+    // 카테고리 변경을 집합 연산으로 처리 - 검증 1회(findAllById), 삭제 1회(벌크 DELETE), 추가 1회(배치 INSERT)
+    private List<UUID> replaceCategories(Store store, List<UUID> existingCategoryIds, List<UUID> requestedCategoryIds) {
+        Set<UUID> existing = new LinkedHashSet<>(existingCategoryIds);
+        Set<UUID> requested = new LinkedHashSet<>(requestedCategoryIds);
+
+        Set<UUID> removed = new LinkedHashSet<>(existing);
+        removed.removeAll(requested);
+        Set<UUID> added = new LinkedHashSet<>(requested);
+        added.removeAll(existing);
+
+        // 추가할 카테고리를 먼저 검증해 실패 시 아무것도 바뀌지 않도록 함
+        Map<UUID, Category> categories = added.isEmpty() ? Map.of() : categoryRepository.findAllById(added).stream()
+                .collect(Collectors.toMap(Category::getId, Function.identity()));
+        added.stream()
+                .filter(categoryId -> !categories.containsKey(categoryId))
+                .findFirst()
+                .ifPresent(categoryId -> {
+                    throw new IllegalArgumentException("유효하지 않은 카테고리 ID: " + categoryId);
+                });
+
+        if (!removed.isEmpty()) {
+            storeCategoryRepository.deleteByStoreIdAndCategoryIds(store.getId(), removed);
+        }
+        if (!added.isEmpty()) {
+            storeCategoryRepository.saveAll(added.stream()
+                    .map(categoryId -> StoreCategory.of(store, categories.get(categoryId)))
+                    .toList());
+        }
+
+        return List.copyOf(requested);
+    }
+
+    // 색인에서 구한 순서대로 가게 조회 (조회 사이에 삭제된 가게는 제외)
+    private List<Store> findStoresInOrder(List<UUID> storeIds) {
+        Map<UUID, Store> storesById = storeRepository.findAllById(storeIds).stream()
+                .filter(store -> store.getDeletedAt() == null)
+                .collect(Collectors.toMap(Store::getId, Function.identity()));
+
+        return storeIds.stream()
+                .map(storesById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private Pageable searchPageable(int page, int size, String sortBy, boolean isAsc) {
         // 페이지당 노출 건수 제한
         if (size != 10 && size != 30 && size != 50) {
             size = 10; // 기본값으로 10으로 설정
@@ -254,38 +435,83 @@ public class StoreService {
             sortBy = "createdAt"; // 기본값으로 생성일로 설정
         }
 
-        Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
+        return PageRequest.of(page, size, Sort.by(direction, sortBy));
+    }
 
-        // 검색 수행
-        Page<Store> storePage = storeRepository.searchStores(categoryName, storeName, pageable);
+    // 커서 기반 목록/검색 - (createdAt, id) 기준으로 다음 페이지를 조회하며 전체 건수는 세지 않음
+    @Transactional(readOnly = true)
+    public ApiResponseDto<StoreCursorResponseDto> getStoresByCursor(String storeName, String categoryName, String cursor, int size, boolean isAsc) {
+        return getStoresByCursor(searchCondition(storeName, categoryName), cursor, size, isAsc);
+    }
 
-        // Store 객체를 StoreListResponseDto로 변환
-        Page<StoreListResponseDto> responseDtoPage = storePage.map(storeEntity -> {
-            // 카테고리 처리
-            List<String> categories = storeEntity.getStoreCategories().stream()
-                    .map(storeCategory -> storeCategory.getCategory().getName())
-                    .collect(Collectors.toList());
-
-            Double averageRating = reviewService.selectStoreAverageRating(storeEntity.getId());
-
-            return new StoreListResponseDto(
-                    storeEntity.getId(),
-                    storeEntity.getName(),
-                    storeEntity.getAddress(),
-                    storeEntity.getTel(),
-                    storeEntity.isOpenStatus(),
-                    categories,
-                    storeEntity.getStartTime(),
-                    storeEntity.getEndTime(),
-                    averageRating
-            );
-        });
+    @Transactional(readOnly = true)
+    public ApiResponseDto<StoreCursorResponseDto> getStoresByCursor(StoreSearchCondition condition, String cursor, int size, boolean isAsc) {
+        if (condition.requiresIndex() && !storeSearchIndex.isReady()) {
+            return ApiResponseDto.fail(HttpStatus.SERVICE_UNAVAILABLE.value(), SEARCH_INDEX_NOT_READY);
+        }
 
-        // ApiResponseDto로 응답 반환
-        return ApiResponseDto.success(responseDtoPage);
+        // 페이지당 노출 건수 제한
+        if (size != 10 && size != 30 && size != 50) {
+            size = 10; // 기본값으로 10으로 설정
+        }
+
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<Store> stores = useSearchIndex(condition)
+                ? findStoresInOrder(storeSearchIndex.searchAfter(condition, keysetCursor, size + 1, isAsc))
+                : storeRepository.searchStoresByCursor(condition, keysetCursor, size + 1, isAsc);
+
+        boolean hasNext = stores.size() > size;
+        if (hasNext) {
+            stores = stores.subList(0, size);
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            Store last = stores.get(stores.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return ApiResponseDto.success(new StoreCursorResponseDto(toListResponses(stores), size, hasNext, nextCursor));
     }
 
+    // 목록 응답 변환 - 페이지 내 가게들의 카테고리는 한 번의 쿼리로 모아서 조회
+    private Page<StoreListResponseDto> toListResponsePage(Page<Store> storePage) {
+        List<StoreListResponseDto> content = toListResponses(storePage.getContent());
 
+        return new PageImpl<>(content, storePage.getPageable(), storePage.getTotalElements());
+    }
 
+    private List<StoreListResponseDto> toListResponses(List<Store> stores) {
+        Map<UUID, List<String>> categoriesByStore = findCategoryNamesByStore(stores);
 
+        return stores.stream().map(store -> new StoreListResponseDto(
+                store.getId(),
+                store.getName(),
+                store.getAddress(),
+                store.getTel(),
+                store.isOpenStatus(),
+                categoriesByStore.getOrDefault(store.getId(), List.of()),
+                store.getStartTime(),
+                store.getEndTime(),
+                store.getAverageRating() // 평점은 가게에 집계된 값을 사용 (추가 쿼리 없음)
+        )).toList();
+    }
+
+    private Map<UUID, List<String>> findCategoryNamesByStore(List<Store> stores) {
+        if (stores.isEmpty()) {
+            return Map.of();
+        }
+
+        List<UUID> storeIds = stores.stream()
+                .map(Store::getId)
+                .toList();
+
+        return storeCategoryRepository.findCategoryNamesByStoreIds(storeIds).stream()
+                .collect(Collectors.groupingBy(
+                        StoreCategoryRepository.StoreCategoryName::getStoreId,
+                        Collectors.mapping(StoreCategoryRepository.StoreCategoryName::getCategoryName, Collectors.toList())
+                ));
+    }
 }
@@ -0,0 +1,130 @@
+package com.spring.delivery.domain.service.cache;
+
+import com.spring.delivery.domain.domain.repository.MenuRepository;
+import com.spring.delivery.domain.event.MenuChangedEvent;
+import com.spring.delivery.domain.event.StoreChangedEvent;
+import com.spring.delivery.global.cache.CacheStats;
+import com.spring.delivery.global.cache.LruTtlCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 주문 생성용 가게별 메뉴 가격표.
+ * 처음 주문되는 가게의 메뉴 가격/주문 가능 여부를 한 번에 읽어 두고, 이후 주문은 DB 조회 없이 가격을 확정한다.
+ * 메뉴 수정/삭제(MenuChangedEvent)나 가게 변경(StoreChangedEvent)이 커밋되면 해당 가게의 가격표를 버린다.
+ */
+@Component
+public class MenuPriceTable {
+
+    private final MenuRepository menuRepository;
+    private final LruTtlCache<UUID, Map<UUID, MenuPrice>> tables;
+    private final Duration ttl;
+
+    // 메뉴 -> 가게 (메뉴의 가게는 바뀌지 않으므로 무효화하지 않음)
+    private final Map<UUID, UUID> storeIdByMenuId = new ConcurrentHashMap<>();
+
+    // 무효화 세대 - 가격표를 읽어 오는 사이에 무효화가 있었는지 판단
+    private volatile long generation;
+
+    public MenuPriceTable(MenuRepository menuRepository,
+                          @Value("${order.price-table.max-stores:10000}") int maxStores,
+                          @Value("${order.price-table.ttl-seconds:600}") long ttlSeconds) {
+        this.menuRepository = menuRepository;
+        this.tables = new LruTtlCache<>(maxStores);
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+    }
+
+    // 메뉴 id별 가격 정보 - 가격표에 없는 가게의 메뉴가 있으면 해당 가게들을 한 번의 쿼리로 읽어 온다 (존재하지 않는 메뉴는 결과에 없음)
+    public Map<UUID, MenuPrice> get(Collection<UUID> menuIds) {
+        Map<UUID, MenuPrice> prices = new HashMap<>();
+        Set<UUID> missing = new HashSet<>();
+        for (UUID menuId : menuIds) {
+            MenuPrice price = cached(menuId);
+            if (price != null) {
+                prices.put(menuId, price);
+            } else {
+                missing.add(menuId);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            long loadGeneration = generation;
+            Map<UUID, MenuPrice> loaded = menuRepository.findPriceRowsOfStoresByMenuIds(missing).stream()
+                    .map(MenuPrice::from)
+                    .collect(Collectors.toMap(MenuPrice::menuId, price -> price));
+            store(loaded, loadGeneration);
+            for (UUID menuId : missing) {
+                if (loaded.containsKey(menuId)) {
+                    prices.put(menuId, loaded.get(menuId));
+                }
+            }
+        }
+        return prices;
+    }
+
+    // 조회 중 무효화가 있었다면 읽어 온 값이 이미 낡았을 수 있으므로 저장하지 않음
+    private synchronized void store(Map<UUID, MenuPrice> loaded, long loadGeneration) {
+        if (loadGeneration != generation) {
+            return;
+        }
+        loaded.values().stream()
+                .collect(Collectors.groupingBy(MenuPrice::storeId, Collectors.toMap(MenuPrice::menuId, price -> price)))
+                .forEach((storeId, table) -> {
+                    tables.put(storeId, Map.copyOf(table), ttl);
+                    table.keySet().forEach(menuId -> storeIdByMenuId.put(menuId, storeId));
+                });
+    }
+
+    public CacheStats stats() {
+        return tables.stats();
+    }
+
+    public synchronized void invalidateAll() {
+        generation++;
+        tables.invalidateAll();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMenuChanged(MenuChangedEvent event) {
+        invalidate(event.storeId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStoreChanged(StoreChangedEvent event) {
+        invalidate(event.storeId());
+    }
+
+    private synchronized void invalidate(UUID storeId) {
+        generation++;
+        tables.invalidate(storeId);
+    }
+
+    private MenuPrice cached(UUID menuId) {
+        UUID storeId = storeIdByMenuId.get(menuId);
+        if (storeId == null) {
+            return null;
+        }
+        Optional<Map<UUID, MenuPrice>> table = tables.getIfPresent(storeId);
+        return table.map(prices -> prices.get(menuId)).orElse(null);
+    }
+
+    public record MenuPrice(UUID menuId, UUID storeId, String storeName, Long price, boolean orderable) {
+
+        static MenuPrice from(MenuRepository.MenuPriceRow row) {
+            return new MenuPrice(row.getMenuId(), row.getStoreId(), row.getStoreName(), row.getPrice(),
+                    row.getPublicStatus() && row.getDeletedAt() == null);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.spring.delivery.domain.service.cache;
+
+import com.spring.delivery.domain.controller.dto.store.StoreDetailResponseDto;
+import com.spring.delivery.domain.event.CategoryChangedEvent;
+import com.spring.delivery.domain.event.StoreChangedEvent;
+import com.spring.delivery.global.cache.CacheStats;
+import com.spring.delivery.global.cache.LruTtlCache;
+import com.spring.delivery.global.util.ResourceVersion;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * 가게 단건 조회 캐시 (read-through).
+ * 응답과 함께 조건부 GET 용 버전(ETag)도 보관해, 캐시 적중 시 버전 확인에도 DB 조회가 없다.
+ * 존재하지 않는 가게 id도 짧은 시간 동안 캐시하고(negative caching),
+ * 가게 수정/삭제 및 카테고리 이름 변경이 커밋되면 제거한다.
+ */
+@Component
+public class StoreDetailCache {
+
+    private final LruTtlCache<UUID, Optional<Entry>> cache;
+    private final Duration ttl;
+    private final Duration negativeTtl;
+
+    public StoreDetailCache(@Value("${store.detail-cache.max-size:10000}") int maxSize,
+                            @Value("${store.detail-cache.ttl-seconds:300}") long ttlSeconds,
+                            @Value("${store.detail-cache.negative-ttl-seconds:30}") long negativeTtlSeconds) {
+        this.cache = new LruTtlCache<>(maxSize);
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.negativeTtl = Duration.ofSeconds(negativeTtlSeconds);
+    }
+
+    public Optional<Entry> get(UUID storeId, Function<UUID, Optional<Entry>> loader) {
+        return cache.get(storeId, loader, detail -> detail.isPresent() ? ttl : negativeTtl);
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStoreChanged(StoreChangedEvent event) {
+        cache.invalidate(event.storeId());
+    }
+
+    // 카테고리 이름은 여러 가게 응답에 포함되므로 전체 제거 (이름 변경은 드문 작업)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        cache.invalidateAll();
+    }
+
+    public record Entry(StoreDetailResponseDto detail, ResourceVersion version) {
+    }
+}
@@ -0,0 +1,238 @@
+package com.spring.delivery.domain.service.index;
+
+import com.spring.delivery.domain.domain.entity.Store;
+import com.spring.delivery.domain.domain.entity.enumtype.OrderStatus;
+import com.spring.delivery.domain.domain.repository.OrderRepository;
+import com.spring.delivery.domain.domain.repository.StoreCategoryRepository;
+import com.spring.delivery.domain.domain.repository.StoreRepository;
+import com.spring.delivery.domain.event.OrderCreatedEvent;
+import com.spring.delivery.domain.event.StoreChangedEvent;
+import com.spring.delivery.domain.event.StoreRatingsRebuiltEvent;
+import com.spring.delivery.domain.event.StoresImportedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 카테고리별 인기 가게 순위표.
+ * 카테고리마다 평점순/최근 주문수순 두 개의 skip list를 유지하고,
+ * 리뷰(평점 집계)/가게 변경/주문 생성 이벤트마다 해당 가게의 항목만 빼고 다시 넣어 갱신한다.
+ * 조회는 skip list 앞에서부터 limit개만 읽으므로 O(k).
+ * 최근 주문수는 order-window-days 기준이며, 기간이 지난 주문은 전체 재구성 시 빠진다.
+ */
+@Slf4j
+@Component
+public class CategoryLeaderboard {
+
+    private static final int LOAD_BATCH_SIZE = 1000;
+
+    private static final Comparator<RankedStore> BY_ID = Comparator.comparing(RankedStore::storeId, StoreIndexEntry::compareIds);
+    private static final Comparator<RankedStore> BY_RATING = Comparator.comparingDouble(RankedStore::averageRating).reversed()
+            .thenComparing(Comparator.comparingLong(RankedStore::ratingCount).reversed())
+            .thenComparing(BY_ID);
+    private static final Comparator<RankedStore> BY_ORDERS = Comparator.comparingLong(RankedStore::recentOrderCount).reversed()
+            .thenComparing(BY_RATING);
+
+    private final StoreRepository storeRepository;
+    private final StoreCategoryRepository storeCategoryRepository;
+    private final OrderRepository orderRepository;
+    private final int orderWindowDays;
+
+    private volatile boolean ready;
+    private volatile Boards boards = new Boards();
+
+    public CategoryLeaderboard(StoreRepository storeRepository, StoreCategoryRepository storeCategoryRepository,
+                               OrderRepository orderRepository,
+                               @Value("${store.leaderboard.order-window-days:7}") int orderWindowDays) {
+        this.storeRepository = storeRepository;
+        this.storeCategoryRepository = storeCategoryRepository;
+        this.orderRepository = orderRepository;
+        this.orderWindowDays = orderWindowDays;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // 상위 limit개 가게 (skip list 앞부분만 순회)
+    public List<RankedStore> top(UUID categoryId, RankBy rankBy, int limit) {
+        ConcurrentSkipListSet<RankedStore> ranking = boards.ranking(categoryId, rankBy);
+        if (ranking == null) {
+            return List.of();
+        }
+
+        List<RankedStore> top = new ArrayList<>(Math.min(limit, ranking.size()));
+        for (RankedStore rankedStore : ranking) {
+            if (top.size() == limit) {
+                break;
+            }
+            top.add(rankedStore);
+        }
+        return top;
+    }
+
+    // 전체 재구성 - 기동 시, 평점 재계산 후, 최근 주문 집계 기간을 밀어내는 주기 작업(CategoryLeaderboardRebuildScheduler)에서 호출
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        Boards fresh = new Boards();
+        // 주문의 가게(store_id) 기준, store_id 가 없는 이전 주문만 주문 메뉴로 가게를 찾음 (취소 주문 제외)
+        LocalDateTime since = LocalDateTime.now().minusDays(orderWindowDays);
+        Map<UUID, Long> orderCounts = Stream.concat(
+                        orderRepository.countOrdersByStoreSince(since, OrderStatus.CANCELED).stream(),
+                        orderRepository.countLegacyOrdersByStoreSince(since, OrderStatus.CANCELED).stream())
+                .collect(Collectors.toMap(OrderRepository.StoreOrderCount::getStoreId, OrderRepository.StoreOrderCount::getOrderCount, Long::sum));
+
+        UUID lastId = new UUID(0L, 0L);
+        List<Store> batch;
+        do {
+            batch = storeRepository.findByDeletedAtIsNullAndIdGreaterThanOrderByIdAsc(lastId, Limit.of(LOAD_BATCH_SIZE));
+            Map<UUID, Set<UUID>> categoriesByStore = findCategoryIdsByStore(batch.stream().map(Store::getId).toList());
+            for (Store store : batch) {
+                fresh.put(RankedStore.of(store, categoriesByStore.getOrDefault(store.getId(), Set.of()), orderCounts.getOrDefault(store.getId(), 0L)));
+            }
+            if (!batch.isEmpty()) {
+                lastId = batch.get(batch.size() - 1).getId();
+            }
+        } while (batch.size() == LOAD_BATCH_SIZE);
+
+        boards = fresh;
+        ready = true;
+        log.info("카테고리별 가게 순위표 구성 완료 - {}건", fresh.stores.size());
+    }
+
+    // 가게 정보/카테고리/평점 집계가 바뀌면 해당 가게 항목만 교체 (리뷰 증감도 StoreChangedEvent로 전달됨)
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onStoreChanged(StoreChangedEvent event) {
+        refresh(List.of(event.storeId()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onStoresImported(StoresImportedEvent event) {
+        refresh(event.storeIds());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onStoreRatingsRebuilt(StoreRatingsRebuiltEvent event) {
+        rebuild();
+    }
+
+    // 주문이 커밋되면 포함된 가게들의 최근 주문수 +1 (DB 조회 없음)
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onOrderCreated(OrderCreatedEvent event) {
+        Boards current = boards;
+        for (UUID storeId : event.storeIds()) {
+            RankedStore rankedStore = current.stores.get(storeId);
+            if (rankedStore != null) {
+                current.put(rankedStore.withRecentOrderCount(rankedStore.recentOrderCount() + 1));
+            }
+        }
+    }
+
+    private synchronized void refresh(Collection<UUID> storeIds) {
+        Map<UUID, Store> stores = storeRepository.findAllById(storeIds).stream()
+                .filter(store -> store.getDeletedAt() == null)
+                .collect(Collectors.toMap(Store::getId, store -> store));
+        Map<UUID, Set<UUID>> categoriesByStore = findCategoryIdsByStore(stores.keySet());
+
+        Boards current = boards;
+        for (UUID storeId : storeIds) {
+            Store store = stores.get(storeId);
+            if (store == null) {
+                current.remove(storeId);
+                continue;
+            }
+            RankedStore previous = current.stores.get(storeId);
+            current.put(RankedStore.of(store, categoriesByStore.getOrDefault(storeId, Set.of()),
+                    previous != null ? previous.recentOrderCount() : 0L));
+        }
+    }
+
+    private Map<UUID, Set<UUID>> findCategoryIdsByStore(Collection<UUID> storeIds) {
+        if (storeIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return storeCategoryRepository.findCategoryIdsByStoreIds(storeIds).stream()
+                .collect(Collectors.groupingBy(
+                        StoreCategoryRepository.StoreCategoryId::getStoreId,
+                        Collectors.mapping(StoreCategoryRepository.StoreCategoryId::getCategoryId, Collectors.toSet())));
+    }
+
+    public enum RankBy {
+        RATING, ORDERS;
+
+        public static RankBy from(String value) {
+            return switch (value.toLowerCase()) {
+                case "rating" -> RATING;
+                case "orders" -> ORDERS;
+                default -> throw new IllegalArgumentException("지원하지 않는 정렬 기준입니다: " + value);
+            };
+        }
+    }
+
+    public record RankedStore(UUID storeId, String name, double averageRating, long ratingCount,
+                              long recentOrderCount, Set<UUID> categoryIds) {
+
+        static RankedStore of(Store store, Set<UUID> categoryIds, long recentOrderCount) {
+            return new RankedStore(store.getId(), store.getName(), store.getAverageRating(), store.getRatingCount(),
+                    recentOrderCount, categoryIds);
+        }
+
+        RankedStore withRecentOrderCount(long recentOrderCount) {
+            return new RankedStore(storeId, name, averageRating, ratingCount, recentOrderCount, categoryIds);
+        }
+    }
+
+    // 가게별 현재 항목과 카테고리별 순위 (쓰기는 CategoryLeaderboard의 락 안에서만, 읽기는 락 없이)
+    private static final class Boards {
+        private final Map<UUID, RankedStore> stores = new ConcurrentHashMap<>();
+        private final Map<UUID, ConcurrentSkipListSet<RankedStore>> byRating = new ConcurrentHashMap<>();
+        private final Map<UUID, ConcurrentSkipListSet<RankedStore>> byOrders = new ConcurrentHashMap<>();
+
+        ConcurrentSkipListSet<RankedStore> ranking(UUID categoryId, RankBy rankBy) {
+            return (rankBy == RankBy.RATING ? byRating : byOrders).get(categoryId);
+        }
+
+        void put(RankedStore rankedStore) {
+            remove(rankedStore.storeId());
+            stores.put(rankedStore.storeId(), rankedStore);
+            for (UUID categoryId : rankedStore.categoryIds()) {
+                byRating.computeIfAbsent(categoryId, id -> new ConcurrentSkipListSet<>(BY_RATING)).add(rankedStore);
+                byOrders.computeIfAbsent(categoryId, id -> new ConcurrentSkipListSet<>(BY_ORDERS)).add(rankedStore);
+            }
+        }
+
+        void remove(UUID storeId) {
+            RankedStore previous = stores.remove(storeId);
+            if (previous == null) {
+                return;
+            }
+            for (UUID categoryId : previous.categoryIds()) {
+                byRating.get(categoryId).remove(previous);
+                byOrders.get(categoryId).remove(previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.spring.delivery.domain.service.index;
+
+import com.spring.delivery.global.util.GeoPoint;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 위치 색인 - 위도/경도를 일정 크기(약 1km) 격자로 나누어 격자 -> ordinal 집합으로 보관.
+ * 반경 검색은 반경을 감싸는 격자들만 확인하므로 전체 가게 수와 무관하게 주변 가게만 후보가 된다.
+ * (정확한 거리 판정은 StoreIndexEntry에서, 동기화는 StoreSearchIndex의 락으로 처리)
+ */
+class GeoGridIndex {
+
+    private static final double CELL_DEGREES = 0.01;
+    private static final double KM_PER_DEGREE_LATITUDE = 111.32;
+
+    private final Map<Long, BitSet> cells = new HashMap<>();
+
+    void add(int ordinal, Double latitude, Double longitude) {
+        if (latitude == null || longitude == null) {
+            return;
+        }
+        cells.computeIfAbsent(cellKey(cell(latitude), cell(longitude)), key -> new BitSet()).set(ordinal);
+    }
+
+    void remove(int ordinal, Double latitude, Double longitude) {
+        if (latitude == null || longitude == null) {
+            return;
+        }
+
+        long key = cellKey(cell(latitude), cell(longitude));
+        BitSet ordinals = cells.get(key);
+        if (ordinals != null) {
+            ordinals.clear(ordinal);
+            if (ordinals.isEmpty()) {
+                cells.remove(key);
+            }
+        }
+    }
+
+    // 중심에서 반경을 감싸는 사각형 범위의 격자에 속한 후보
+    BitSet within(GeoPoint center, double radiusKm) {
+        double latitudeSpan = radiusKm / KM_PER_DEGREE_LATITUDE;
+        double longitudeSpan = radiusKm / (KM_PER_DEGREE_LATITUDE * Math.max(0.01, Math.cos(Math.toRadians(center.latitude()))));
+
+        int minLatitudeCell = cell(center.latitude() - latitudeSpan);
+        int maxLatitudeCell = cell(center.latitude() + latitudeSpan);
+        int minLongitudeCell = cell(center.longitude() - longitudeSpan);
+        int maxLongitudeCell = cell(center.longitude() + longitudeSpan);
+
+        BitSet result = new BitSet();
+        for (int latitudeCell = minLatitudeCell; latitudeCell <= maxLatitudeCell; latitudeCell++) {
+            for (int longitudeCell = minLongitudeCell; longitudeCell <= maxLongitudeCell; longitudeCell++) {
+                BitSet ordinals = cells.get(cellKey(latitudeCell, longitudeCell));
+                if (ordinals != null) {
+                    result.or(ordinals);
+                }
+            }
+        }
+        return result;
+    }
+
+    private static int cell(double degrees) {
+        return (int) Math.floor(degrees / CELL_DEGREES);
+    }
+
+    private static long cellKey(int latitudeCell, int longitudeCell) {
+        return ((long) latitudeCell << 32) | (longitudeCell & 0xffffffffL);
+    }
+}
@@ -0,0 +1,73 @@
+package com.spring.delivery.domain.service.index;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+// 문자열의 1~3글자 n-gram -> ordinal 집합 역색인 (동기화는 StoreSearchIndex의 락으로 처리)
+class NGramIndex {
+
+    private static final int MAX_GRAM = 3;
+
+    private final Map<String, BitSet> postings = new HashMap<>();
+
+    void add(int ordinal, String text) {
+        for (String gram : grams(text)) {
+            postings.computeIfAbsent(gram, key -> new BitSet()).set(ordinal);
+        }
+    }
+
+    void remove(int ordinal, String text) {
+        for (String gram : grams(text)) {
+            BitSet ordinals = postings.get(gram);
+            if (ordinals == null) {
+                continue;
+            }
+            ordinals.clear(ordinal);
+            if (ordinals.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    // 질의어를 포함할 가능성이 있는 후보 - 질의어의 n-gram을 모두 가진 ordinal (최종 판단은 원문 비교로)
+    BitSet candidates(String query) {
+        int n = Math.min(MAX_GRAM, query.length());
+        BitSet result = null;
+
+        for (int i = 0; i + n <= query.length(); i++) {
+            BitSet ordinals = postings.get(query.substring(i, i + n));
+            if (ordinals == null) {
+                return new BitSet();
+            }
+
+            if (result == null) {
+                result = (BitSet) ordinals.clone();
+            } else {
+                result.and(ordinals);
+            }
+
+            if (result.isEmpty()) {
+                break;
+            }
+        }
+
+        return result != null ? result : new BitSet();
+    }
+
+    private static Set<String> grams(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        if (text == null) {
+            return grams;
+        }
+
+        for (int n = 1; n <= MAX_GRAM; n++) {
+            for (int i = 0; i + n <= text.length(); i++) {
+                grams.add(text.substring(i, i + n));
+            }
+        }
+        return grams;
+    }
+}
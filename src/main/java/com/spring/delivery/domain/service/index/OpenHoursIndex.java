@@ -0,0 +1,97 @@
+package com.spring.delivery.domain.service.index;
+
+import java.time.LocalTime;
+import java.util.BitSet;
+
+/**
+ * 영업시간 구간 색인 - 하루 1440분에 대한 세그먼트 트리.
+ * 각 노드는 해당 분 구간 전체에 영업하는 ordinal 집합을 가지며, 특정 시각의 영업 가게는
+ * 루트에서 해당 분의 리프까지 경로의 집합을 합쳐 구한다. (동기화는 StoreSearchIndex의 락으로 처리)
+ * 자정을 넘는 영업시간(22:00 ~ 02:00)은 두 구간으로 나누어 저장하고, 시작 = 종료는 24시간 영업으로 본다.
+ */
+class OpenHoursIndex {
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    private final BitSet[] nodes = new BitSet[4 * MINUTES_PER_DAY];
+
+    void add(int ordinal, LocalTime startTime, LocalTime endTime) {
+        update(ordinal, startTime, endTime, true);
+    }
+
+    void remove(int ordinal, LocalTime startTime, LocalTime endTime) {
+        update(ordinal, startTime, endTime, false);
+    }
+
+    // 해당 시각(분 단위)에 영업하는 후보 - 초 단위 경계는 StoreIndexEntry에서 최종 확인
+    BitSet openAt(LocalTime time) {
+        int minute = time.getHour() * 60 + time.getMinute();
+        BitSet result = new BitSet();
+
+        int node = 1;
+        int low = 0;
+        int high = MINUTES_PER_DAY - 1;
+        while (true) {
+            if (nodes[node] != null) {
+                result.or(nodes[node]);
+            }
+            if (low == high) {
+                return result;
+            }
+
+            int mid = (low + high) >>> 1;
+            if (minute <= mid) {
+                node = node * 2;
+                high = mid;
+            } else {
+                node = node * 2 + 1;
+                low = mid + 1;
+            }
+        }
+    }
+
+    private void update(int ordinal, LocalTime startTime, LocalTime endTime, boolean set) {
+        if (startTime == null || endTime == null) {
+            return;
+        }
+
+        int start = startTime.getHour() * 60 + startTime.getMinute();
+        // 종료 시각은 올림 처리해 후보가 누락되지 않도록 함 (22:00:30 종료 -> 22:00 후보 포함)
+        int end = endTime.getHour() * 60 + endTime.getMinute()
+                + (endTime.getSecond() > 0 || endTime.getNano() > 0 ? 1 : 0);
+
+        if (startTime.equals(endTime)) {
+            update(1, 0, MINUTES_PER_DAY - 1, 0, MINUTES_PER_DAY - 1, ordinal, set);
+        } else if (startTime.isBefore(endTime)) {
+            update(1, 0, MINUTES_PER_DAY - 1, start, end - 1, ordinal, set);
+        } else {
+            // 자정을 넘는 영업시간
+            update(1, 0, MINUTES_PER_DAY - 1, start, MINUTES_PER_DAY - 1, ordinal, set);
+            if (end > 0) {
+                update(1, 0, MINUTES_PER_DAY - 1, 0, end - 1, ordinal, set);
+            }
+        }
+    }
+
+    private void update(int node, int low, int high, int from, int to, int ordinal, boolean set) {
+        if (to < low || high < from) {
+            return;
+        }
+
+        if (from <= low && high <= to) {
+            if (set) {
+                if (nodes[node] == null) {
+                    nodes[node] = new BitSet();
+                }
+                nodes[node].set(ordinal);
+            } else if (nodes[node] != null) {
+                nodes[node].clear(ordinal);
+            }
+            return;
+        }
+
+        int mid = (low + high) >>> 1;
+        update(node * 2, low, mid, from, to, ordinal, set);
+        update(node * 2 + 1, mid + 1, high, from, to, ordinal, set);
+    }
+}
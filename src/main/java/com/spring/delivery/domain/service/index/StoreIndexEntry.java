@@ -0,0 +1,102 @@
+package com.spring.delivery.domain.service.index;
+
+import com.spring.delivery.domain.domain.entity.Store;
+import com.spring.delivery.domain.domain.repository.search.StoreSearchCondition;
+import com.spring.delivery.global.util.GeoPoint;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+
+// 인메모리 색인에 보관하는 가게 스냅샷 - 후보 검증과 정렬에 필요한 값만 보관
+record StoreIndexEntry(
+        UUID id,
+        String name,
+        boolean openStatus,
+        LocalTime startTime,
+        LocalTime endTime,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        List<String> categoryNames,
+        Double latitude,
+        Double longitude,
+        double averageRating
+) {
+
+    static StoreIndexEntry of(Store store, List<String> categoryNames, GeoPoint location) {
+        return new StoreIndexEntry(
+                store.getId(),
+                store.getName(),
+                store.isOpenStatus(),
+                store.getStartTime(),
+                store.getEndTime(),
+                store.getCreatedAt(),
+                store.getUpdatedAt(),
+                List.copyOf(categoryNames),
+                location != null ? location.latitude() : null,
+                location != null ? location.longitude() : null,
+                store.getAverageRating()
+        );
+    }
+
+    // DB 검색(StoreSearchImpl)과 같은 의미의 조건 확인
+    boolean matches(StoreSearchCondition condition) {
+        if (condition.hasStoreName() && (name == null || !name.contains(condition.getStoreName()))) {
+            return false;
+        }
+        if (condition.hasCategoryName() && !categoryNames.contains(condition.getCategoryName())) {
+            return false;
+        }
+        if (condition.hasCategoryNames() && !matchesCategories(condition.getCategoryNames(), condition.isMatchAllCategories())) {
+            return false;
+        }
+        if (condition.hasOpenStatus() && openStatus != condition.getOpenStatus()) {
+            return false;
+        }
+        if (condition.hasMinRating() && averageRating < condition.getMinRating()) {
+            return false;
+        }
+        if (condition.hasOpenAt() && !isOpenAt(condition.getOpenAt())) {
+            return false;
+        }
+        return !condition.hasNear() || distanceKm(condition.getNear()) <= condition.getRadiusKm();
+    }
+
+    private boolean matchesCategories(List<String> names, boolean matchAll) {
+        return matchAll
+                ? categoryNames.containsAll(names)
+                : names.stream().anyMatch(categoryNames::contains);
+    }
+
+    // 위치를 알 수 없는 가게는 무한대
+    double distanceKm(GeoPoint from) {
+        if (latitude == null || longitude == null) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return from.distanceKm(latitude, longitude);
+    }
+
+    // 영업 상태이면서 영업시간 [시작, 종료) 안인지 확인 (자정을 넘는 영업시간, 시작 = 종료는 24시간 영업)
+    boolean isOpenAt(LocalTime time) {
+        if (!openStatus || startTime == null || endTime == null) {
+            return false;
+        }
+        if (startTime.equals(endTime)) {
+            return true;
+        }
+        if (startTime.isBefore(endTime)) {
+            return !time.isBefore(startTime) && time.isBefore(endTime);
+        }
+        return !time.isBefore(startTime) || time.isBefore(endTime);
+    }
+
+    // DB(uuid 타입)와 같은 순서가 되도록 부호 없는 값으로 비교
+    static int compareIds(UUID a, UUID b) {
+        int compared = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        if (compared != 0) {
+            return compared;
+        }
+        return Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+}
@@ -0,0 +1,479 @@
+package com.spring.delivery.domain.service.index;
+
+import com.spring.delivery.domain.domain.entity.Store;
+import com.spring.delivery.domain.domain.repository.StoreCategoryRepository;
+import com.spring.delivery.domain.domain.repository.StoreRepository;
+import com.spring.delivery.domain.domain.repository.search.StoreSearchCondition;
+import com.spring.delivery.domain.event.CategoryChangedEvent;
+import com.spring.delivery.domain.event.StoreChangedEvent;
+import com.spring.delivery.domain.event.StoreRatingsRebuiltEvent;
+import com.spring.delivery.domain.event.StoresImportedEvent;
+import com.spring.delivery.global.util.GeoPoint;
+import com.spring.delivery.global.util.KeysetCursor;
+import com.spring.delivery.infra.geo.OfflineGeocoder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * 가게 검색용 인메모리 색인.
+ * 가게마다 조밀한 ordinal(int)을 부여하고, 가게 이름의 n-gram 역색인(n-gram -> ordinal BitSet)으로
+ * LIKE '%검색어%' 풀스캔 없이 후보를 추리고, 영업시간 구간 색인, 위치 격자 색인과
+ * 속성 비트맵(카테고리, 영업 상태, 평점 구간)의 AND/OR로 후보를 좁힌 뒤,
+ * 스냅샷으로 최종 조건 확인/정렬/페이징까지 처리한다.
+ * DB에서는 현재 페이지에 해당하는 가게만 id로 조회한다.
+ */
+@Slf4j
+@Component
+public class StoreSearchIndex {
+
+    private static final int LOAD_BATCH_SIZE = 1000;
+
+    private final StoreRepository storeRepository;
+    private final StoreCategoryRepository storeCategoryRepository;
+    private final OfflineGeocoder offlineGeocoder;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Set<UUID> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+    private volatile boolean rebuilding;
+    private volatile boolean ready;
+    private IndexState state = new IndexState();
+
+    public StoreSearchIndex(StoreRepository storeRepository, StoreCategoryRepository storeCategoryRepository,
+                            OfflineGeocoder offlineGeocoder) {
+        this.storeRepository = storeRepository;
+        this.storeCategoryRepository = storeCategoryRepository;
+        this.offlineGeocoder = offlineGeocoder;
+    }
+
+    // 색인이 적재되기 전에는 호출 측에서 DB 검색을 사용
+    public boolean isReady() {
+        return ready;
+    }
+
+    // 애플리케이션 기동 시 전체 활성 가게로 색인 구성 (구성 중에는 기존 색인으로 검색, 구성 중 변경분은 교체 후 재반영)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        rebuilding = true;
+        try {
+            IndexState fresh = new IndexState();
+            UUID lastId = new UUID(0L, 0L);
+            List<Store> batch;
+
+            do {
+                batch = storeRepository.findByDeletedAtIsNullAndIdGreaterThanOrderByIdAsc(lastId, Limit.of(LOAD_BATCH_SIZE));
+                Map<UUID, List<String>> categoriesByStore = findCategoryNamesByStore(batch.stream().map(Store::getId).toList());
+                for (Store store : batch) {
+                    fresh.put(entryOf(store, categoriesByStore));
+                }
+                if (!batch.isEmpty()) {
+                    lastId = batch.get(batch.size() - 1).getId();
+                }
+            } while (batch.size() == LOAD_BATCH_SIZE);
+
+            lock.writeLock().lock();
+            try {
+                state = fresh;
+                ready = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("가게 검색 색인 구성 완료 - {}건", fresh.size());
+        } finally {
+            rebuilding = false;
+        }
+
+        List<UUID> changed = new ArrayList<>(changedDuringRebuild);
+        changedDuringRebuild.removeAll(changed);
+        refresh(changed);
+    }
+
+    // 가게 변경이 커밋된 뒤 해당 가게만 다시 읽어 색인 갱신 (트랜잭션 밖에서 발행된 경우에도 즉시 반영)
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onStoreChanged(StoreChangedEvent event) {
+        refresh(List.of(event.storeId()));
+    }
+
+    // 일괄 등록된 가게는 청크 단위로 한 번에 반영
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onStoresImported(StoresImportedEvent event) {
+        refresh(event.storeIds());
+    }
+
+    // 카테고리 이름이 바뀌면 해당 카테고리의 가게들을 다시 읽어 카테고리 이름 갱신
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        refresh(storeCategoryRepository.findStoreIdsByCategoryId(event.categoryId()));
+    }
+
+    // 평점 집계 재계산은 전체 가게에 영향을 주므로 색인 전체 재구성 (호출한 트랜잭션과 분리된 조회)
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onStoreRatingsRebuilt(StoreRatingsRebuiltEvent event) {
+        rebuild();
+    }
+
+    // 위치 조건이 있으면 가까운 순, 없으면 Pageable 정렬 기준
+    public Page<UUID> searchPage(StoreSearchCondition condition, Pageable pageable) {
+        int offset = (int) Math.min(pageable.getOffset(), Integer.MAX_VALUE - pageable.getPageSize());
+        Selection selection = select(condition, entry -> true, comparator(condition, pageable.getSort()), offset + pageable.getPageSize(), false);
+
+        return new PageImpl<>(selection.ids(offset, pageable.getPageSize()), pageable, selection.total());
+    }
+
+    // 페이지와 함께 검색 결과 전체에 대한 카테고리별 가게 수(facet)를 계산 (결과 비트맵과 카테고리 비트맵의 AND)
+    public FacetedPage searchPageWithFacets(StoreSearchCondition condition, Pageable pageable) {
+        int offset = (int) Math.min(pageable.getOffset(), Integer.MAX_VALUE - pageable.getPageSize());
+        Selection selection = select(condition, entry -> true, comparator(condition, pageable.getSort()), offset + pageable.getPageSize(), true);
+
+        return new FacetedPage(
+                new PageImpl<>(selection.ids(offset, pageable.getPageSize()), pageable, selection.total()),
+                selection.categoryFacets()
+        );
+    }
+
+    public Slice<UUID> searchSlice(StoreSearchCondition condition, Pageable pageable) {
+        int offset = (int) Math.min(pageable.getOffset(), Integer.MAX_VALUE - pageable.getPageSize() - 1);
+        Selection selection = select(condition, entry -> true, comparator(condition, pageable.getSort()), offset + pageable.getPageSize() + 1, false);
+
+        boolean hasNext = selection.top().size() > offset + pageable.getPageSize();
+        return new SliceImpl<>(selection.ids(offset, pageable.getPageSize()), pageable, hasNext);
+    }
+
+    // (createdAt, id) 커서 이후의 가게 id를 limit 건 조회
+    public List<UUID> searchAfter(StoreSearchCondition condition, KeysetCursor cursor, int limit, boolean isAsc) {
+        Comparator<StoreIndexEntry> comparator = Comparator
+                .comparing(StoreIndexEntry::createdAt, Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder()))
+                .thenComparing(StoreIndexEntry::id, StoreIndexEntry::compareIds);
+        if (!isAsc) {
+            comparator = comparator.reversed();
+        }
+
+        Predicate<StoreIndexEntry> afterCursor = entry -> true;
+        if (cursor != null) {
+            StoreIndexEntry boundary = new StoreIndexEntry(cursor.id(), null, false, null, null, cursor.createdAt(), null, List.of(), null, null, 0.0);
+            Comparator<StoreIndexEntry> order = comparator;
+            afterCursor = entry -> order.compare(entry, boundary) > 0;
+        }
+
+        return select(condition, afterCursor, comparator, limit, false).ids(0, limit);
+    }
+
+    private Selection select(StoreSearchCondition condition, Predicate<StoreIndexEntry> filter,
+                             Comparator<StoreIndexEntry> comparator, int limit, boolean withFacets) {
+        lock.readLock().lock();
+        try {
+            BitSet candidates = state.candidates(condition);
+
+            // 정렬 기준 상위 limit 건만 유지 (전체 정렬 없이 O(n log limit))
+            PriorityQueue<StoreIndexEntry> top = new PriorityQueue<>(comparator.reversed());
+            BitSet matched = withFacets ? new BitSet() : null;
+            int total = 0;
+
+            for (int ordinal = candidates.nextSetBit(0); ordinal >= 0; ordinal = candidates.nextSetBit(ordinal + 1)) {
+                StoreIndexEntry entry = state.entry(ordinal);
+                if (!entry.matches(condition) || !filter.test(entry)) {
+                    continue;
+                }
+
+                total++;
+                if (matched != null) {
+                    matched.set(ordinal);
+                }
+                top.offer(entry);
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+
+            List<StoreIndexEntry> sorted = new ArrayList<>(top);
+            sorted.sort(comparator);
+            return new Selection(sorted, total, matched != null ? state.categoryCounts(matched) : Map.of());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Pageable 정렬 조건을 스냅샷 비교 기준으로 변환 (DB 검색과 동일하게 id를 마지막 기준으로 추가)
+    private Comparator<StoreIndexEntry> comparator(StoreSearchCondition condition, Sort sort) {
+        Comparator<StoreIndexEntry> comparator = null;
+
+        if (condition.hasNear()) {
+            GeoPoint near = condition.getNear();
+            comparator = Comparator.comparingDouble(entry -> entry.distanceKm(near));
+            sort = Sort.unsorted();
+        }
+
+        for (Sort.Order order : sort) {
+            Comparator<StoreIndexEntry> next = Comparator.comparing(sortKey(order.getProperty()),
+                    Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder()));
+            if (order.isDescending()) {
+                next = next.reversed();
+            }
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+
+        Comparator<StoreIndexEntry> byId = Comparator.comparing(StoreIndexEntry::id, StoreIndexEntry::compareIds);
+        return comparator == null ? byId : comparator.thenComparing(byId);
+    }
+
+    private Function<StoreIndexEntry, LocalDateTime> sortKey(String property) {
+        return switch (property) {
+            case "createdAt" -> StoreIndexEntry::createdAt;
+            case "updatedAt" -> StoreIndexEntry::updatedAt;
+            default -> throw new IllegalArgumentException("지원하지 않는 정렬 기준입니다: " + property);
+        };
+    }
+
+    private void refresh(Collection<UUID> storeIds) {
+        if (storeIds.isEmpty()) {
+            return;
+        }
+        if (rebuilding) {
+            changedDuringRebuild.addAll(storeIds);
+        }
+
+        List<Store> stores = storeRepository.findAllById(storeIds).stream()
+                .filter(store -> store.getDeletedAt() == null)
+                .toList();
+        Map<UUID, List<String>> categoriesByStore = findCategoryNamesByStore(stores.stream().map(Store::getId).toList());
+
+        lock.writeLock().lock();
+        try {
+            // 조회되지 않은(삭제된) 가게는 색인에서 제거
+            storeIds.forEach(state::remove);
+            stores.forEach(store -> state.put(entryOf(store, categoriesByStore)));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 좌표가 저장되지 않은 기존 가게는 주소로 위치를 구해 색인에만 반영
+    private StoreIndexEntry entryOf(Store store, Map<UUID, List<String>> categoriesByStore) {
+        GeoPoint location = (store.getLatitude() != null && store.getLongitude() != null)
+                ? new GeoPoint(store.getLatitude(), store.getLongitude())
+                : offlineGeocoder.geocode(store.getAddress()).orElse(null);
+
+        return StoreIndexEntry.of(store, categoriesByStore.getOrDefault(store.getId(), List.of()), location);
+    }
+
+    private Map<UUID, List<String>> findCategoryNamesByStore(Collection<UUID> storeIds) {
+        if (storeIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return storeCategoryRepository.findCategoryNamesByStoreIds(storeIds).stream()
+                .collect(Collectors.groupingBy(
+                        StoreCategoryRepository.StoreCategoryName::getStoreId,
+                        Collectors.mapping(StoreCategoryRepository.StoreCategoryName::getCategoryName, Collectors.toList())
+                ));
+    }
+
+    // 검색 결과 페이지 + 카테고리별 가게 수
+    public record FacetedPage(Page<UUID> page, Map<String, Integer> categoryFacets) {
+    }
+
+    private record Selection(List<StoreIndexEntry> top, int total, Map<String, Integer> categoryFacets) {
+
+        List<UUID> ids(int offset, int size) {
+            if (offset >= top.size()) {
+                return List.of();
+            }
+            return top.subList(offset, Math.min(top.size(), offset + size)).stream()
+                    .map(StoreIndexEntry::id)
+                    .toList();
+        }
+    }
+
+    // 색인 데이터 묶음 - 재구성 시 새로 만들어 통째로 교체
+    private static final class IndexState {
+
+        private static final int RATING_BUCKETS = 6;
+
+        private final Map<UUID, Integer> ordinals = new HashMap<>();
+        private final List<StoreIndexEntry> entries = new ArrayList<>();
+        private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+        private final BitSet live = new BitSet();
+        private final NGramIndex names = new NGramIndex();
+        private final OpenHoursIndex openHours = new OpenHoursIndex();
+        private final GeoGridIndex locations = new GeoGridIndex();
+
+        // 속성 비트맵 - 카테고리별, 영업 상태, 평균 평점 구간(0~5점, 1점 단위)
+        private final Map<String, BitSet> categories = new HashMap<>();
+        private final BitSet open = new BitSet();
+        private final BitSet[] ratingBuckets = new BitSet[RATING_BUCKETS];
+
+        int size() {
+            return ordinals.size();
+        }
+
+        StoreIndexEntry entry(int ordinal) {
+            return entries.get(ordinal);
+        }
+
+        // 색인으로 추릴 수 있는 조건을 적용한 후보 (나머지 조건은 스냅샷으로 확인)
+        BitSet candidates(StoreSearchCondition condition) {
+            BitSet candidates = (BitSet) live.clone();
+            if (condition.hasStoreName()) {
+                candidates.and(names.candidates(condition.getStoreName()));
+            }
+            if (condition.hasOpenAt()) {
+                candidates.and(openHours.openAt(condition.getOpenAt()));
+            }
+            if (condition.hasNear()) {
+                candidates.and(locations.within(condition.getNear(), condition.getRadiusKm()));
+            }
+            if (condition.hasCategoryName()) {
+                candidates.and(categories.getOrDefault(condition.getCategoryName(), new BitSet()));
+            }
+            if (condition.hasCategoryNames()) {
+                candidates.and(categoryBitmap(condition.getCategoryNames(), condition.isMatchAllCategories()));
+            }
+            if (condition.hasOpenStatus()) {
+                if (condition.getOpenStatus()) {
+                    candidates.and(open);
+                } else {
+                    candidates.andNot(open);
+                }
+            }
+            if (condition.hasMinRating()) {
+                candidates.and(ratingAtLeast(condition.getMinRating()));
+            }
+            return candidates;
+        }
+
+        // 카테고리 비트맵 OR(하나 이상) / AND(모두)
+        private BitSet categoryBitmap(List<String> names, boolean matchAll) {
+            BitSet result = null;
+            for (String name : names) {
+                BitSet ordinals = categories.getOrDefault(name, new BitSet());
+                if (result == null) {
+                    result = (BitSet) ordinals.clone();
+                } else if (matchAll) {
+                    result.and(ordinals);
+                } else {
+                    result.or(ordinals);
+                }
+            }
+            return result != null ? result : new BitSet();
+        }
+
+        // 최소 평점이 속한 구간부터 최고 구간까지 OR (구간 경계 안쪽은 StoreIndexEntry에서 확인)
+        private BitSet ratingAtLeast(double minRating) {
+            BitSet result = new BitSet();
+            for (int bucket = ratingBucket(minRating); bucket < RATING_BUCKETS; bucket++) {
+                if (ratingBuckets[bucket] != null) {
+                    result.or(ratingBuckets[bucket]);
+                }
+            }
+            return result;
+        }
+
+        Map<String, Integer> categoryCounts(BitSet matched) {
+            Map<String, Integer> counts = new HashMap<>();
+            categories.forEach((name, ordinals) -> {
+                BitSet intersection = (BitSet) ordinals.clone();
+                intersection.and(matched);
+                if (!intersection.isEmpty()) {
+                    counts.put(name, intersection.cardinality());
+                }
+            });
+            return counts;
+        }
+
+        private static int ratingBucket(double rating) {
+            return Math.max(0, Math.min(RATING_BUCKETS - 1, (int) Math.floor(rating)));
+        }
+
+        void put(StoreIndexEntry entry) {
+            remove(entry.id());
+
+            // 삭제된 가게의 ordinal을 재사용해 BitSet을 조밀하게 유지
+            int ordinal = freeOrdinals.isEmpty() ? entries.size() : freeOrdinals.pop();
+            if (ordinal == entries.size()) {
+                entries.add(entry);
+            } else {
+                entries.set(ordinal, entry);
+            }
+
+            ordinals.put(entry.id(), ordinal);
+            live.set(ordinal);
+            names.add(ordinal, entry.name());
+            // 영업 상태인 가게만 영업시간 색인에 등록
+            if (entry.openStatus()) {
+                openHours.add(ordinal, entry.startTime(), entry.endTime());
+            }
+            locations.add(ordinal, entry.latitude(), entry.longitude());
+
+            entry.categoryNames().forEach(name -> categories.computeIfAbsent(name, key -> new BitSet()).set(ordinal));
+            open.set(ordinal, entry.openStatus());
+            int bucket = ratingBucket(entry.averageRating());
+            if (ratingBuckets[bucket] == null) {
+                ratingBuckets[bucket] = new BitSet();
+            }
+            ratingBuckets[bucket].set(ordinal);
+        }
+
+        void remove(UUID storeId) {
+            Integer ordinal = ordinals.remove(storeId);
+            if (ordinal == null) {
+                return;
+            }
+
+            StoreIndexEntry entry = entries.get(ordinal);
+            names.remove(ordinal, entry.name());
+            if (entry.openStatus()) {
+                openHours.remove(ordinal, entry.startTime(), entry.endTime());
+            }
+            locations.remove(ordinal, entry.latitude(), entry.longitude());
+
+            for (String name : entry.categoryNames()) {
+                BitSet ordinals = categories.get(name);
+                if (ordinals != null) {
+                    ordinals.clear(ordinal);
+                    if (ordinals.isEmpty()) {
+                        categories.remove(name);
+                    }
+                }
+            }
+            open.clear(ordinal);
+            ratingBuckets[ratingBucket(entry.averageRating())].clear(ordinal);
+            live.clear(ordinal);
+            entries.set(ordinal, null);
+            freeOrdinals.push(ordinal);
+        }
+    }
+}
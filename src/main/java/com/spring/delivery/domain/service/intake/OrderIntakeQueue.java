@@ -0,0 +1,138 @@
+package com.spring.delivery.domain.service.intake;
+
+import com.spring.delivery.domain.controller.dto.ApiResponseDto;
+import com.spring.delivery.domain.controller.dto.order.OrderIntakeResponseDto;
+import com.spring.delivery.domain.controller.dto.order.OrderRequestDto;
+import com.spring.delivery.domain.controller.dto.order.OrderResponseDto;
+import com.spring.delivery.domain.service.OrderIdempotencyService;
+import com.spring.delivery.global.cache.LruTtlCache;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비동기 주문 접수 큐.
+ * 요청 스레드는 검증된 주문을 고정 크기 원형 버퍼(ArrayBlockingQueue)에 넣고 바로 돌아가며,
+ * 고정 개수의 작업 스레드가 큐를 비우면서 주문/주문 메뉴/결제를 저장한다.
+ * 큐가 가득 차면 접수하지 않으므로(호출자는 429 응답) 피크 시간에도 대기 요청이 무한히 쌓이지 않는다.
+ * 처리 결과는 접수 번호별로 일정 시간 보관해 상태 조회에 사용한다.
+ * 비동기 접수(order.intake.async-enabled)를 켠 경우에만 등록되어, 꺼져 있으면 작업 스레드도 만들지 않는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "order.intake.async-enabled", havingValue = "true")
+public class OrderIntakeQueue {
+
+    private static final long POLL_MILLIS = 200;
+
+    private final OrderIdempotencyService orderIdempotencyService;
+    private final BlockingQueue<Intake> queue;
+    private final LruTtlCache<UUID, OrderIntakeResponseDto> results;
+    private final Duration resultTtl;
+    private final int workerCount;
+    private final ExecutorService workers;
+
+    private volatile boolean running = true;
+
+    public OrderIntakeQueue(OrderIdempotencyService orderIdempotencyService,
+                            @Value("${order.intake.capacity:1000}") int capacity,
+                            @Value("${order.intake.workers:4}") int workerCount,
+                            @Value("${order.intake.result-ttl-minutes:30}") long resultTtlMinutes) {
+        this.orderIdempotencyService = orderIdempotencyService;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        // 대기 중인 접수가 결과 보관소에서 밀려나지 않도록 큐 크기보다 넉넉하게
+        this.results = new LruTtlCache<>(capacity * 10);
+        this.resultTtl = Duration.ofMinutes(resultTtlMinutes);
+        this.workerCount = workerCount;
+        AtomicInteger sequence = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "order-intake-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PostConstruct
+    public void start() {
+        for (int i = 0; i < workerCount; i++) {
+            workers.submit(this::drain);
+        }
+    }
+
+    // 종료 시 더 이상 받지 않고, 이미 접수된 주문은 처리한 뒤 멈춤
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        workers.shutdown();
+        if (!workers.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("주문 접수 큐 종료 대기 시간 초과 - 남은 접수 {}건", queue.size());
+        }
+    }
+
+    // 큐가 가득 찼으면 비어 있음
+    public Optional<OrderIntakeResponseDto> submit(String idempotencyKey, OrderRequestDto orderRequestDto) {
+        if (!running) {
+            return Optional.empty();
+        }
+
+        UUID intakeId = UUID.randomUUID();
+        OrderIntakeResponseDto queued = OrderIntakeResponseDto.queued(intakeId);
+        results.put(intakeId, queued, resultTtl);
+        if (!queue.offer(new Intake(intakeId, idempotencyKey, orderRequestDto))) {
+            results.invalidate(intakeId);
+            return Optional.empty();
+        }
+        return Optional.of(queued);
+    }
+
+    public Optional<OrderIntakeResponseDto> status(UUID intakeId) {
+        return results.getIfPresent(intakeId);
+    }
+
+    public int size() {
+        return queue.size();
+    }
+
+    private void drain() {
+        while (running || !queue.isEmpty()) {
+            try {
+                Intake intake = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (intake != null) {
+                    results.put(intake.intakeId(), process(intake), resultTtl);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private OrderIntakeResponseDto process(Intake intake) {
+        try {
+            ApiResponseDto<OrderResponseDto> response = orderIdempotencyService.createOrder(intake.idempotencyKey(), intake.orderRequestDto());
+            if (response.getData() == null) {
+                return OrderIntakeResponseDto.failed(intake.intakeId(), response.getMessage());
+            }
+            return OrderIntakeResponseDto.created(intake.intakeId(), response.getData().getOrderId());
+        } catch (RuntimeException e) {
+            log.error("비동기 주문 처리 실패: {}", intake.intakeId(), e);
+            return OrderIntakeResponseDto.failed(intake.intakeId(), "주문 처리 중 오류가 발생했습니다.");
+        }
+    }
+
+    private record Intake(UUID intakeId, String idempotencyKey, OrderRequestDto orderRequestDto) {
+    }
+}
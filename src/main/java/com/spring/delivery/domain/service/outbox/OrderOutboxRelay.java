@@ -0,0 +1,124 @@
+package com.spring.delivery.domain.service.outbox;
+
+import com.spring.delivery.domain.domain.entity.OrderOutboxEvent;
+import com.spring.delivery.domain.domain.repository.OrderOutboxEventRepository;
+import com.spring.delivery.domain.event.OrderStatusChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 주문 상태 outbox 전달기.
+ * 미전달 이벤트를 발생 순서대로 batch-size 건씩 읽어 인프로세스 리스너(@EventListener)에게 발행하고,
+ * 발행에 성공한 건만 한 번의 UPDATE 로 전달 완료 처리한다.
+ * 발행 후 완료 표시 전에 서버가 죽으면 다시 전달되므로(at-least-once) 리스너는 eventId 로 중복을 걸러야 한다.
+ * 리스너가 실패한 주문은 같은 batch 의 이후 이벤트도 보류해 주문별 순서를 지킨다.
+ * 실패한 이벤트는 retry-base-ms 부터 두 배씩(최대 retry-max-ms) 늦춰 재시도하고, max-attempts 번 실패하면 보류(dead letter)해
+ * 계속 실패하는 이벤트가 batch 앞자리를 차지해 다른 주문의 전달을 막지 않도록 한다.
+ */
+@Slf4j
+@Component
+public class OrderOutboxRelay {
+
+    private final OrderOutboxEventRepository orderOutboxEventRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long retryBaseMillis;
+    private final long retryMaxMillis;
+
+    public OrderOutboxRelay(OrderOutboxEventRepository orderOutboxEventRepository,
+                            ApplicationEventPublisher eventPublisher,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${order.outbox.batch-size:100}") int batchSize,
+                            @Value("${order.outbox.max-attempts:10}") int maxAttempts,
+                            @Value("${order.outbox.retry-base-ms:1000}") long retryBaseMillis,
+                            @Value("${order.outbox.retry-max-ms:300000}") long retryMaxMillis) {
+        this.orderOutboxEventRepository = orderOutboxEventRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryBaseMillis = retryBaseMillis;
+        this.retryMaxMillis = retryMaxMillis;
+    }
+
+    // 한 batch 전달 - 전달 완료한 건수 반환 (OrderOutboxPoller 에서 주기적으로 호출)
+    public synchronized int dispatchBatch() {
+        List<OrderOutboxEvent> pending = orderOutboxEventRepository.findDue(LocalDateTime.now(), Limit.of(batchSize));
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        // 리스너는 트랜잭션 밖에서 실행 - 리스너 실패가 완료 표시를 롤백시키지 않도록
+        List<UUID> dispatched = new ArrayList<>();
+        List<OrderOutboxEvent> failed = new ArrayList<>();
+        Set<UUID> blockedOrders = new HashSet<>();
+        for (OrderOutboxEvent event : pending) {
+            if (blockedOrders.contains(event.getOrderId())) {
+                continue;
+            }
+            try {
+                eventPublisher.publishEvent(new OrderStatusChangedEvent(event.getId(), event.getOrderId(), event.getStoreId(),
+                        event.getFromStatus(), event.getToStatus(), event.getOccurredAt()));
+                dispatched.add(event.getId());
+            } catch (RuntimeException e) {
+                log.warn("주문 상태 이벤트 전달 실패 ({}회): {} / {}", event.getAttempts() + 1, event.getId(), e.getMessage());
+                failed.add(event);
+                blockedOrders.add(event.getOrderId());
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!dispatched.isEmpty()) {
+                orderOutboxEventRepository.markDispatched(dispatched, LocalDateTime.now());
+            }
+            if (!failed.isEmpty()) {
+                retryOrPark(failed);
+            }
+        });
+        return dispatched.size();
+    }
+
+    private void retryOrPark(List<OrderOutboxEvent> failed) {
+        LocalDateTime now = LocalDateTime.now();
+        List<UUID> parked = new ArrayList<>();
+        for (OrderOutboxEvent event : failed) {
+            if (event.getAttempts() + 1 >= maxAttempts) {
+                log.error("주문 상태 이벤트 전달 포기 (dead letter): {} / 주문 {}", event.getId(), event.getOrderId());
+                parked.add(event.getId());
+            } else {
+                orderOutboxEventRepository.scheduleRetry(event.getId(), now.plusNanos(retryDelayMillis(event.getAttempts()) * 1_000_000));
+            }
+        }
+        if (!parked.isEmpty()) {
+            orderOutboxEventRepository.park(parked, now);
+        }
+    }
+
+    // 지금까지 실패 횟수가 attempts 일 때 다음 재시도까지의 대기 시간
+    private long retryDelayMillis(int attempts) {
+        return Math.min(retryMaxMillis, retryBaseMillis << Math.min(attempts, 20));
+    }
+
+    public int batchSize() {
+        return batchSize;
+    }
+
+    // 보관 기간이 지난 전달 완료 이벤트 삭제
+    public int deleteDispatchedBefore(LocalDateTime before) {
+        return transactionTemplate.execute(status -> orderOutboxEventRepository.deleteDispatchedBefore(before));
+    }
+}
@@ -0,0 +1,121 @@
+package com.spring.delivery.domain.service.rollup;
+
+import com.spring.delivery.domain.domain.entity.StoreDailySales;
+import com.spring.delivery.domain.domain.entity.enumtype.OrderStatus;
+import com.spring.delivery.domain.domain.repository.OrderRepository;
+import com.spring.delivery.domain.domain.repository.StoreDailySalesRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * 가게별 일 매출 집계 (p_store_daily_sales).
+ * 주문 생성/취소/삭제가 같은 트랜잭션에서 증감을 반영하므로, 매출 조회는 원본 주문을 합산하지 않고 집계 행만 읽는다.
+ * 그날 가게의 첫 주문이면 0 인 행을 별도 트랜잭션으로 먼저 만들어, 동시에 첫 주문이 들어와도 주문 트랜잭션이 중복 키로 실패하지 않는다.
+ */
+@Slf4j
+@Component
+public class StoreSalesRollup {
+
+    private final StoreDailySalesRepository storeDailySalesRepository;
+    private final OrderRepository orderRepository;
+    private final TransactionTemplate requiresNew;
+
+    public StoreSalesRollup(StoreDailySalesRepository storeDailySalesRepository,
+                            OrderRepository orderRepository,
+                            PlatformTransactionManager transactionManager) {
+        this.storeDailySalesRepository = storeDailySalesRepository;
+        this.orderRepository = orderRepository;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // 주문 트랜잭션 안에서 호출 - 주문이 롤백되면 증감도 함께 롤백
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void apply(UUID storeId, LocalDate salesDate, long countDelta, long amountDelta) {
+        if (storeId == null || (countDelta == 0 && amountDelta == 0)) {
+            return;
+        }
+        if (storeDailySalesRepository.applyDelta(storeId, salesDate, countDelta, amountDelta) == 0) {
+            createRow(storeId, salesDate);
+            storeDailySalesRepository.applyDelta(storeId, salesDate, countDelta, amountDelta);
+        }
+    }
+
+    // 이미 다른 트랜잭션이 만들었으면 그대로 사용
+    private void createRow(UUID storeId, LocalDate salesDate) {
+        try {
+            requiresNew.executeWithoutResult(status ->
+                    storeDailySalesRepository.saveAndFlush(StoreDailySales.of(storeId, salesDate, 0, 0)));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("일 매출 집계 행이 이미 생성됨: storeId={}, salesDate={}", storeId, salesDate);
+        }
+    }
+
+    /**
+     * from ~ to (포함) 기간의 집계를 p_order 기준 합계와 비교해 어긋난 행을 보정하고, 보정한 행 수를 반환.
+     * 검증 중에도 증감이 계속 반영되는 오늘은 제외하고 호출한다 (StoreSalesReconciliationScheduler).
+     */
+    @Transactional
+    public int reconcile(LocalDate from, LocalDate to) {
+        // store_id 가 있는 주문과, 그 이전에 생성되어 주문 메뉴로 가게를 찾는 주문 (취소/삭제 시 차감과 같은 기준)
+        LocalDateTime start = from.atStartOfDay();
+        LocalDateTime end = to.plusDays(1).atStartOfDay();
+        Map<Key, Totals> expected = new HashMap<>();
+        Stream.concat(orderRepository.sumDailySales(start, end, OrderStatus.CANCELED).stream(),
+                        orderRepository.sumLegacyDailySales(start, end, OrderStatus.CANCELED).stream())
+                .forEach(row -> expected.merge(new Key(row.getStoreId(), row.getSalesDate()),
+                        new Totals(row.getOrderCount(), row.getSalesAmount()), Totals::plus));
+        Map<Key, StoreDailySales> actual = new HashMap<>();
+        for (StoreDailySales sales : storeDailySalesRepository.findBySalesDateBetween(from, to)) {
+            actual.put(new Key(sales.getStoreId(), sales.getSalesDate()), sales);
+        }
+
+        int corrected = 0;
+        for (Map.Entry<Key, StoreDailySales> entry : actual.entrySet()) {
+            Totals totals = expected.remove(entry.getKey());
+            long orderCount = totals != null ? totals.orderCount() : 0;
+            long salesAmount = totals != null ? totals.salesAmount() : 0;
+            StoreDailySales sales = entry.getValue();
+            if (sales.getOrderCount() != orderCount || sales.getSalesAmount() != salesAmount) {
+                log.warn("일 매출 집계 불일치 보정: storeId={}, salesDate={}, 집계={}건/{}원, 주문={}건/{}원", sales.getStoreId(), sales.getSalesDate(),
+                        sales.getOrderCount(), sales.getSalesAmount(), orderCount, salesAmount);
+                sales.correct(orderCount, salesAmount);
+                corrected++;
+            }
+        }
+
+        // 집계 행이 없는 매출 (집계 도입 이전 주문 등)
+        List<StoreDailySales> missing = expected.entrySet().stream()
+                .map(entry -> StoreDailySales.of(entry.getKey().storeId(), entry.getKey().salesDate(),
+                        entry.getValue().orderCount(), entry.getValue().salesAmount()))
+                .toList();
+        missing.forEach(sales -> log.warn("일 매출 집계 누락 보정: storeId={}, salesDate={}, 주문={}건/{}원",
+                sales.getStoreId(), sales.getSalesDate(), sales.getOrderCount(), sales.getSalesAmount()));
+        storeDailySalesRepository.saveAll(missing);
+
+        return corrected + missing.size();
+    }
+
+    private record Key(UUID storeId, LocalDate salesDate) {
+    }
+
+    private record Totals(long orderCount, long salesAmount) {
+        Totals plus(Totals other) {
+            return new Totals(orderCount + other.orderCount, salesAmount + other.salesAmount);
+        }
+    }
+}
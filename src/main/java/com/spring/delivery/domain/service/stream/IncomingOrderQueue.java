@@ -0,0 +1,152 @@
+package com.spring.delivery.domain.service.stream;
+
+import com.spring.delivery.domain.controller.dto.ApiResponseDto;
+import com.spring.delivery.domain.controller.dto.order.IncomingOrderResponseDto;
+import com.spring.delivery.domain.controller.dto.order.IncomingOrdersResponseDto;
+import com.spring.delivery.domain.event.OrderCreatedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 가게별 새 주문 대기열 (메모리).
+ * 가게마다 최근 주문 capacity 건과 증가하는 순번(cursor)을 보관하고, 새 주문이 없으면 요청을 DeferredResult 로 대기시킨다.
+ * 대기 중인 요청은 스레드를 점유하지 않으며, 주문 생성이 커밋되는 즉시 해당 가게의 대기 요청을 모두 깨운다.
+ * 순번은 기동할 때마다 0 부터 시작하므로, 대기열이 이어 줄 수 없는 cursor 는 호출하는 쪽에서 DB 조회로 대신한다.
+ */
+@Component
+public class IncomingOrderQueue {
+
+    private final Map<UUID, StoreQueue> queues = new ConcurrentHashMap<>();
+    private final AtomicInteger waiterCount = new AtomicInteger();
+    private final int capacity;
+    private final int maxWaiters;
+    private final long maxWaitMs;
+
+    public IncomingOrderQueue(@Value("${order.incoming.capacity:100}") int capacity,
+                              @Value("${order.incoming.max-waiters:10000}") int maxWaiters,
+                              @Value("${order.incoming.max-wait-ms:30000}") long maxWaitMs) {
+        this.capacity = capacity;
+        this.maxWaiters = maxWaiters;
+        this.maxWaitMs = maxWaitMs;
+    }
+
+    // 주문이 커밋되면 가게 대기열에 추가하고 대기 중인 요청을 깨움 (DB 조회 없음)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderCreated(OrderCreatedEvent event) {
+        for (UUID storeId : event.storeIds()) {
+            queue(storeId).append(event);
+        }
+    }
+
+    // 현재 cursor - 이 값 이후의 주문은 대기열로 이어 받을 수 있음
+    public long cursor(UUID storeId) {
+        return queue(storeId).cursor();
+    }
+
+    // after 이후의 주문이 모두 대기열에 남아 있는지 (재기동 이전 cursor 이거나 밀려난 주문이 있으면 false)
+    public boolean covers(UUID storeId, long after) {
+        return queue(storeId).covers(after);
+    }
+
+    /**
+     * after 이후 주문이 있으면 바로 응답하고, 없으면 waitMs(최대 max-wait-ms) 동안 대기하다 새 주문이 커밋되면 응답한다.
+     * 시간이 지나면 빈 목록과 같은 cursor 로 응답한다. 대기 요청 수가 한도를 넘으면 비어 있음.
+     */
+    public Optional<DeferredResult<ApiResponseDto<IncomingOrdersResponseDto>>> poll(UUID storeId, long after, long waitMs) {
+        long timeout = Math.min(Math.max(waitMs, 0), maxWaitMs);
+        DeferredResult<ApiResponseDto<IncomingOrdersResponseDto>> result = new DeferredResult<>(timeout,
+                () -> ApiResponseDto.success(IncomingOrdersResponseDto.of(after, List.of())));
+        return queue(storeId).pollOrWait(after, timeout, result) ? Optional.of(result) : Optional.empty();
+    }
+
+    public int waiterCount() {
+        return waiterCount.get();
+    }
+
+    private StoreQueue queue(UUID storeId) {
+        return queues.computeIfAbsent(storeId, key -> new StoreQueue());
+    }
+
+    // 가게 하나의 최근 주문과 대기 요청 - 추가와 대기 등록은 같은 잠금 안에서 해 새 주문을 놓치지 않음
+    private final class StoreQueue {
+        private final ArrayDeque<IncomingOrderResponseDto> recent = new ArrayDeque<>();
+        private final Set<Waiter> waiters = new HashSet<>();
+        private long sequence;
+
+        synchronized long cursor() {
+            return sequence;
+        }
+
+        synchronized boolean covers(long after) {
+            if (after < 0 || after > sequence) {
+                return false;
+            }
+            return recent.isEmpty() ? after == sequence : recent.peekFirst().getSequence() <= after + 1;
+        }
+
+        void append(OrderCreatedEvent event) {
+            List<Waiter> woken;
+            synchronized (this) {
+                if (recent.size() >= capacity) {
+                    recent.pollFirst();
+                }
+                recent.addLast(IncomingOrderResponseDto.from(event, ++sequence));
+                woken = List.copyOf(waiters);
+                waiters.clear();
+                waiterCount.addAndGet(-woken.size());
+            }
+            woken.forEach(waiter -> waiter.result.setResult(since(waiter.after)));
+        }
+
+        // 바로 응답했거나 대기를 등록했으면 true
+        boolean pollOrWait(long after, long timeout, DeferredResult<ApiResponseDto<IncomingOrdersResponseDto>> result) {
+            synchronized (this) {
+                if (sequence <= after && timeout > 0) {
+                    if (waiterCount.incrementAndGet() > maxWaiters) {
+                        waiterCount.decrementAndGet();
+                        return false;
+                    }
+                    Waiter waiter = new Waiter(after, result);
+                    waiters.add(waiter);
+                    result.onCompletion(() -> remove(waiter));
+                    result.onError(error -> remove(waiter));
+                    return true;
+                }
+            }
+            result.setResult(since(after));
+            return true;
+        }
+
+        private synchronized void remove(Waiter waiter) {
+            if (waiters.remove(waiter)) {
+                waiterCount.decrementAndGet();
+            }
+        }
+
+        private synchronized ApiResponseDto<IncomingOrdersResponseDto> since(long after) {
+            List<IncomingOrderResponseDto> orders = new ArrayList<>();
+            for (IncomingOrderResponseDto order : recent) {
+                if (order.getSequence() > after) {
+                    orders.add(order);
+                }
+            }
+            return ApiResponseDto.success(IncomingOrdersResponseDto.of(sequence, orders));
+        }
+    }
+
+    private record Waiter(long after, DeferredResult<ApiResponseDto<IncomingOrdersResponseDto>> result) {
+    }
+}
@@ -0,0 +1,221 @@
+package com.spring.delivery.domain.service.stream;
+
+import com.spring.delivery.domain.controller.dto.order.OrderStatusEventResponseDto;
+import com.spring.delivery.domain.event.OrderStatusChangedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 주문/가게 id 별 주문 상태 구독(SSE) 중계기.
+ * outbox 로 전달된 OrderStatusChangedEvent 를 해당 주문과 가게의 구독자 버퍼에 넣고, 작은 전송 스레드 풀이 버퍼를 비운다.
+ * 구독자별 버퍼는 buffer-size 건으로 제한하고 가득 차면 가장 오래된 이벤트를 버리므로, 느린 클라이언트가 발행을 막지 않는다.
+ * 대기 중인 구독자는 스레드를 점유하지 않으며(비동기 요청), 주기적인 heartbeat 전송이 실패하면 정리된다.
+ */
+@Slf4j
+@Component
+public class OrderEventBroker {
+
+    private static final String EVENT_NAME = "order-status";
+
+    private final Map<String, Set<Subscription>> topics = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ExecutorService sender;
+    private final int maxSubscribers;
+    private final int bufferSize;
+    private final long timeoutMillis;
+
+    public OrderEventBroker(@Value("${order.stream.max-subscribers:10000}") int maxSubscribers,
+                            @Value("${order.stream.buffer-size:16}") int bufferSize,
+                            @Value("${order.stream.timeout-minutes:30}") long timeoutMinutes,
+                            @Value("${order.stream.sender-threads:2}") int senderThreads) {
+        this.maxSubscribers = maxSubscribers;
+        this.bufferSize = bufferSize;
+        this.timeoutMillis = timeoutMinutes * 60_000;
+        AtomicInteger sequence = new AtomicInteger();
+        this.sender = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "order-stream-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public Optional<SseEmitter> subscribeOrder(UUID orderId, OrderStatusEventResponseDto current) {
+        return subscribe(orderTopic(orderId), current);
+    }
+
+    public Optional<SseEmitter> subscribeStore(UUID storeId) {
+        return subscribe(storeTopic(storeId), null);
+    }
+
+    // 구독자 수가 한도를 넘으면 비어 있음 / current 가 있으면 구독 직후 현재 상태를 먼저 보냄
+    private Optional<SseEmitter> subscribe(String topic, OrderStatusEventResponseDto current) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            return Optional.empty();
+        }
+
+        SseEmitter emitter = newEmitter();
+        Subscription subscription = new Subscription(topic, emitter);
+        // 등록/해제는 compute 안에서 해 빈 구독자 집합 제거와 겹치지 않도록 함
+        topics.compute(topic, (key, subscriptions) -> {
+            Set<Subscription> registered = subscriptions != null ? subscriptions : ConcurrentHashMap.newKeySet();
+            registered.add(subscription);
+            return registered;
+        });
+        emitter.onCompletion(() -> unsubscribe(subscription));
+        emitter.onTimeout(() -> unsubscribe(subscription));
+        emitter.onError(error -> unsubscribe(subscription));
+
+        if (current != null) {
+            offer(subscription, current);
+        }
+        return Optional.of(emitter);
+    }
+
+    protected SseEmitter newEmitter() {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    @EventListener
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        OrderStatusEventResponseDto payload = OrderStatusEventResponseDto.from(event);
+        publish(orderTopic(event.orderId()), payload);
+        if (event.storeId() != null) {
+            publish(storeTopic(event.storeId()), payload);
+        }
+    }
+
+    // 연결 유지 확인 - 버퍼가 빈 구독자에게만 주석 한 줄을 보내고, 실패한 연결은 정리 (OrderStreamHeartbeatScheduler 에서 호출)
+    public void heartbeat() {
+        topics.values().forEach(subscriptions -> subscriptions.forEach(subscription -> {
+            if (subscription.isIdle()) {
+                offer(subscription, null);
+            }
+        }));
+    }
+
+    public int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        topics.values().forEach(subscriptions -> subscriptions.forEach(subscription -> subscription.emitter.complete()));
+        sender.shutdownNow();
+    }
+
+    private void publish(String topic, OrderStatusEventResponseDto payload) {
+        Set<Subscription> subscriptions = topics.get(topic);
+        if (subscriptions == null) {
+            return;
+        }
+        for (Subscription subscription : subscriptions) {
+            offer(subscription, payload);
+        }
+    }
+
+    // payload 가 없으면 heartbeat
+    private void offer(Subscription subscription, OrderStatusEventResponseDto payload) {
+        if (subscription.enqueue(payload)) {
+            sender.execute(subscription::drain);
+        }
+    }
+
+    private void unsubscribe(Subscription subscription) {
+        topics.computeIfPresent(subscription.topic, (key, subscriptions) -> {
+            if (subscriptions.remove(subscription)) {
+                subscriberCount.decrementAndGet();
+            }
+            return subscriptions.isEmpty() ? null : subscriptions;
+        });
+    }
+
+    private static String orderTopic(UUID orderId) {
+        return "order:" + orderId;
+    }
+
+    private static String storeTopic(UUID storeId) {
+        return "store:" + storeId;
+    }
+
+    // 구독자 한 명의 전송 버퍼 - 한 번에 한 스레드만 비움
+    private final class Subscription {
+        private static final Object HEARTBEAT = new Object();
+
+        private final String topic;
+        private final SseEmitter emitter;
+        private final ArrayDeque<Object> buffer = new ArrayDeque<>();
+        private boolean draining;
+
+        private Subscription(String topic, SseEmitter emitter) {
+            this.topic = topic;
+            this.emitter = emitter;
+        }
+
+        synchronized boolean isIdle() {
+            return buffer.isEmpty() && !draining;
+        }
+
+        // 전송 작업을 새로 시작해야 하면 true
+        synchronized boolean enqueue(OrderStatusEventResponseDto payload) {
+            if (buffer.size() >= bufferSize) {
+                buffer.pollFirst();
+            }
+            buffer.addLast(payload != null ? payload : HEARTBEAT);
+            if (draining) {
+                return false;
+            }
+            draining = true;
+            return true;
+        }
+
+        void drain() {
+            while (true) {
+                Object next;
+                synchronized (this) {
+                    next = buffer.pollFirst();
+                    if (next == null) {
+                        draining = false;
+                        return;
+                    }
+                }
+                try {
+                    if (next == HEARTBEAT) {
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                    } else {
+                        OrderStatusEventResponseDto payload = (OrderStatusEventResponseDto) next;
+                        SseEmitter.SseEventBuilder event = SseEmitter.event().name(EVENT_NAME).data(payload);
+                        if (payload.getEventId() != null) {
+                            event.id(payload.getEventId().toString());
+                        }
+                        emitter.send(event);
+                    }
+                } catch (IOException | IllegalStateException e) {
+                    // 끊긴 연결 - 남은 버퍼는 버리고 정리
+                    synchronized (this) {
+                        buffer.clear();
+                        draining = false;
+                    }
+                    unsubscribe(this);
+                    emitter.completeWithError(e);
+                    return;
+                }
+            }
+        }
+    }
+}
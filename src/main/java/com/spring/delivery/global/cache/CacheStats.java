@@ -0,0 +1,10 @@
+package com.spring.delivery.global.cache;
+
+// 캐시 적중/미스/제거 통계 스냅샷
+public record CacheStats(long hits, long misses, long evictions, long invalidations, int size) {
+
+    public double hitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 0.0 : (double) hits / requests;
+    }
+}
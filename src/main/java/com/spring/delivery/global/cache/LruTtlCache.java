@@ -0,0 +1,114 @@
+package com.spring.delivery.global.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 최대 건수(LRU)와 항목별 만료 시간(TTL)을 가진 인메모리 캐시.
+ * 조회 중 무효화가 일어나면 조회 결과를 저장하지 않아, 무효화 이전의 값이 다시 캐시되지 않도록 한다.
+ */
+public class LruTtlCache<K, V> {
+
+    private final int maxSize;
+    private final Clock clock;
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    // 무효화 세대 - 조회 시작 이후 무효화가 있었는지 판단
+    private long generation;
+
+    public LruTtlCache(int maxSize) {
+        this(maxSize, Clock.systemUTC());
+    }
+
+    public LruTtlCache(int maxSize, Clock clock) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("캐시 최대 건수는 1 이상이어야 합니다.");
+        }
+        this.maxSize = maxSize;
+        this.clock = clock;
+        // accessOrder = true : 조회할 때마다 가장 최근 항목으로 이동
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    // 캐시된 값을 반환하고, 없거나 만료되었으면 loader로 조회해 저장 (ttl은 조회 결과별로 결정)
+    public V get(K key, Function<K, V> loader, Function<V, Duration> ttl) {
+        long loadGeneration;
+        synchronized (this) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null && !entry.isExpired(clock.millis())) {
+                hits.incrementAndGet();
+                return entry.value();
+            }
+            if (entry != null) {
+                entries.remove(key);
+                evictions.incrementAndGet();
+            }
+            misses.incrementAndGet();
+            loadGeneration = generation;
+        }
+
+        V value = loader.apply(key);
+
+        synchronized (this) {
+            if (loadGeneration == generation) {
+                put(key, value, ttl.apply(value));
+            }
+        }
+        return value;
+    }
+
+    public synchronized Optional<V> getIfPresent(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null || entry.isExpired(clock.millis())) {
+            return Optional.empty();
+        }
+        return Optional.of(entry.value());
+    }
+
+    public synchronized void put(K key, V value, Duration ttl) {
+        entries.put(key, new Entry<>(value, clock.millis() + ttl.toMillis()));
+
+        // 최대 건수를 넘으면 가장 오래 사용되지 않은 항목부터 제거
+        Iterator<Map.Entry<K, Entry<V>>> iterator = entries.entrySet().iterator();
+        while (entries.size() > maxSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            evictions.incrementAndGet();
+        }
+    }
+
+    public synchronized void invalidate(K key) {
+        generation++;
+        if (entries.remove(key) != null) {
+            invalidations.incrementAndGet();
+        }
+    }
+
+    public synchronized void invalidateAll() {
+        generation++;
+        invalidations.addAndGet(entries.size());
+        entries.clear();
+    }
+
+    public synchronized CacheStats stats() {
+        return new CacheStats(hits.get(), misses.get(), evictions.get(), invalidations.get(), entries.size());
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+
+        boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+}
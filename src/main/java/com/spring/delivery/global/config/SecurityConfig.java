@@ -4,6 +4,7 @@ import com.spring.delivery.global.filter.JwtAuthenticationFilter;
 import com.spring.delivery.global.filter.JwtAuthorizationFilter;
 import com.spring.delivery.global.security.UserDetailsServiceImpl;
 import com.spring.delivery.global.util.JwtUtil;
+import jakarta.servlet.DispatcherType;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -65,7 +66,10 @@ public class SecurityConfig{
         http.authorizeHttpRequests(auth -> auth
                 .requestMatchers(PathRequest.toStaticResources().atCommonLocations()).permitAll() // resources 접근 허용
                 .requestMatchers("/api/user/signUp", "/api/user/signIn").permitAll() // 로그인, 회원가입 요청 접근 허용
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll() // SSE 등 비동기 응답 완료 시의 재디스패치 (최초 요청에서 이미 인가됨)
+                .requestMatchers(HttpMethod.GET, "/api/stores/*/orders/events", "/api/stores/*/orders/incoming", "/api/stores/*/sales").authenticated() // 가게 주문 실시간 구독, 새 주문 long-polling, 매출
                 .requestMatchers(HttpMethod.GET, "/api/stores/**").permitAll() // GET 요청에 대해서만 허용
+                .requestMatchers(HttpMethod.GET, "/api/categories/*/top-stores").permitAll() // 카테고리별 인기 가게
                 .requestMatchers(
                         "/v3/api-docs/**",
                         "/swagger-ui/**",
@@ -0,0 +1,17 @@
+package com.spring.delivery.global.util;
+
+// 위도/경도 좌표
+public record GeoPoint(double latitude, double longitude) {
+
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+
+    // 두 좌표 사이의 대원 거리 (haversine, km)
+    public double distanceKm(double latitude, double longitude) {
+        double dLat = Math.toRadians(latitude - this.latitude);
+        double dLng = Math.toRadians(longitude - this.longitude);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(this.latitude)) * Math.cos(Math.toRadians(latitude))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+}
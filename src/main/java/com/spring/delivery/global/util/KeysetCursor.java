@@ -0,0 +1,35 @@
+package com.spring.delivery.global.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+// (createdAt, id) 기준 keyset 페이지네이션 커서 - 클라이언트에는 불투명한 문자열로 전달
+public record KeysetCursor(LocalDateTime createdAt, UUID id) {
+
+    private static final String DELIMITER = "|";
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 빈 문자열은 첫 페이지 요청으로 간주하여 null 반환
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiterIndex = raw.indexOf(DELIMITER);
+            return new KeysetCursor(
+                    LocalDateTime.parse(raw.substring(0, delimiterIndex)),
+                    UUID.fromString(raw.substring(delimiterIndex + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+    }
+}
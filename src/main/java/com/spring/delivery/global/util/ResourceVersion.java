@@ -0,0 +1,35 @@
+package com.spring.delivery.global.util;
+
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * 조건부 GET(If-None-Match / If-Modified-Since) 검증용 리소스 버전.
+ * 응답 본문을 만들지 않고 updatedAt, 건수 같은 값만으로 ETag와 Last-Modified를 만든다.
+ * ETag는 JSON 직렬화 결과의 바이트 단위 동일성을 보장하지 않으므로 약한 ETag(W/)를 사용한다.
+ */
+public record ResourceVersion(String etag, long lastModified) {
+
+    // parts: 응답 내용에 영향을 주는 값들 (updatedAt, 건수 등) / lastModified: 그중 가장 최근 시각 (없으면 -1)
+    public static ResourceVersion of(Object... parts) {
+        String source = Arrays.stream(parts)
+                .map(part -> Objects.toString(part, ""))
+                .collect(Collectors.joining("|"));
+        String etag = "W/\"" + DigestUtils.md5DigestAsHex(source.getBytes(StandardCharsets.UTF_8)) + "\"";
+
+        long lastModified = Arrays.stream(parts)
+                .filter(LocalDateTime.class::isInstance)
+                .map(LocalDateTime.class::cast)
+                .max(LocalDateTime::compareTo)
+                .map(time -> time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli())
+                .orElse(-1L);
+
+        return new ResourceVersion(etag, lastModified);
+    }
+}
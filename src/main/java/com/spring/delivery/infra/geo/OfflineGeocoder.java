@@ -0,0 +1,90 @@
+package com.spring.delivery.infra.geo;
+
+import com.spring.delivery.global.util.GeoPoint;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 외부 API 없이 번들된 행정구역 좌표표(geo/region-coordinates.csv)로 주소를 좌표로 변환한다.
+ * 주소 앞부분의 행정구역(시/도 > 시/군/구 > 읍/면/동)과 가장 길게 일치하는 항목의 중심 좌표를 사용한다.
+ */
+@Slf4j
+@Component
+public class OfflineGeocoder {
+
+    private static final String RESOURCE = "geo/region-coordinates.csv";
+
+    // 시/도 약칭 -> 정식 명칭
+    private static final Map<String, String> PROVINCE_ALIASES = Map.ofEntries(
+            Map.entry("서울", "서울특별시"), Map.entry("서울시", "서울특별시"),
+            Map.entry("부산", "부산광역시"), Map.entry("부산시", "부산광역시"),
+            Map.entry("대구", "대구광역시"), Map.entry("대구시", "대구광역시"),
+            Map.entry("인천", "인천광역시"), Map.entry("인천시", "인천광역시"),
+            Map.entry("광주", "광주광역시"), Map.entry("광주시", "광주광역시"),
+            Map.entry("대전", "대전광역시"), Map.entry("대전시", "대전광역시"),
+            Map.entry("울산", "울산광역시"), Map.entry("울산시", "울산광역시"),
+            Map.entry("세종", "세종특별자치시"), Map.entry("세종시", "세종특별자치시"),
+            Map.entry("경기", "경기도"), Map.entry("강원", "강원특별자치도"), Map.entry("강원도", "강원특별자치도"),
+            Map.entry("충북", "충청북도"), Map.entry("충남", "충청남도"),
+            Map.entry("전북", "전북특별자치도"), Map.entry("전라북도", "전북특별자치도"), Map.entry("전남", "전라남도"),
+            Map.entry("경북", "경상북도"), Map.entry("경남", "경상남도"),
+            Map.entry("제주", "제주특별자치도"), Map.entry("제주도", "제주특별자치도")
+    );
+
+    private final Map<String, GeoPoint> regions;
+
+    public OfflineGeocoder() {
+        this.regions = load();
+        log.info("오프라인 지오코딩 좌표표 적재 - {}건", regions.size());
+    }
+
+    public Optional<GeoPoint> geocode(String address) {
+        if (address == null || address.isBlank()) {
+            return Optional.empty();
+        }
+
+        String[] tokens = address.trim().split("\\s+");
+        tokens[0] = PROVINCE_ALIASES.getOrDefault(tokens[0], tokens[0]);
+
+        // 가장 구체적인 행정구역부터 확인
+        for (int length = Math.min(tokens.length, 3); length > 0; length--) {
+            GeoPoint point = regions.get(String.join(" ", Arrays.copyOf(tokens, length)));
+            if (point != null) {
+                return Optional.of(point);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static Map<String, GeoPoint> load() {
+        Map<String, GeoPoint> regions = new HashMap<>();
+
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(new ClassPathResource(RESOURCE).getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+
+                String[] columns = line.split(",");
+                regions.put(columns[0].trim(), new GeoPoint(Double.parseDouble(columns[1].trim()), Double.parseDouble(columns[2].trim())));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("지오코딩 좌표표를 읽을 수 없습니다: " + RESOURCE, e);
+        }
+
+        return regions;
+    }
+}
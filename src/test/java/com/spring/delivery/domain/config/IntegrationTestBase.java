@@ -1,6 +1,11 @@
 package com.spring.delivery.domain.config;
 
 import com.spring.delivery.domain.fixture.UserFixtureGenerator;
+import com.spring.delivery.domain.service.OrderIdempotencyService;
+import com.spring.delivery.domain.service.cache.MenuPriceTable;
+import com.spring.delivery.domain.service.cache.StoreDetailCache;
+import com.spring.delivery.domain.service.index.CategoryLeaderboard;
+import com.spring.delivery.domain.service.index.StoreSearchIndex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.TestInstance;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -9,7 +14,7 @@ import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 
 @ActiveProfiles("test") // 테스트 전용 프로파일 적용
-@Import({UserFixtureGenerator.class, TearDownExecutor.class})
+@Import({UserFixtureGenerator.class, TearDownExecutor.class, QueryCounter.class, OrderStatusEventRecorder.class})
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 public class IntegrationTestBase {
@@ -17,11 +22,39 @@ public class IntegrationTestBase {
     @Autowired
     protected UserFixtureGenerator userFixtureGenerator;
 
+    @Autowired
+    protected QueryCounter queryCounter;
+
     @Autowired
     private TearDownExecutor tearDownExecutor;
 
+    @Autowired
+    protected OrderStatusEventRecorder orderStatusEventRecorder;
+
+    @Autowired
+    protected StoreSearchIndex storeSearchIndex;
+
+    @Autowired
+    private StoreDetailCache storeDetailCache;
+
+    @Autowired
+    protected CategoryLeaderboard categoryLeaderboard;
+
+    @Autowired
+    private MenuPriceTable menuPriceTable;
+
+    @Autowired
+    private OrderIdempotencyService orderIdempotencyService;
+
     @BeforeEach
     void tearDown() {
         tearDownExecutor.execute();
+        // 테이블을 비웠으므로 인메모리 색인/캐시도 다시 구성
+        storeSearchIndex.rebuild();
+        storeDetailCache.invalidateAll();
+        categoryLeaderboard.rebuild();
+        menuPriceTable.invalidateAll();
+        orderIdempotencyService.invalidateAll();
+        orderStatusEventRecorder.clear();
     }
 }
@@ -0,0 +1,47 @@
+package com.spring.delivery.domain.config;
+
+import com.spring.delivery.domain.event.OrderStatusChangedEvent;
+import org.springframework.boot.test.context.TestComponent;
+import org.springframework.context.event.EventListener;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// outbox 전달 확인용 리스너 - 받은 이벤트를 기록하고, 지정한 횟수만큼(또는 지정한 주문은 항상) 실패해 재전달을 검증
+@TestComponent
+public class OrderStatusEventRecorder {
+
+    private final List<OrderStatusChangedEvent> events = new ArrayList<>();
+    private final AtomicInteger failures = new AtomicInteger();
+    private final Set<UUID> failingOrders = new HashSet<>();
+
+    @EventListener
+    public synchronized void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        if (failingOrders.contains(event.orderId()) || failures.getAndUpdate(remaining -> Math.max(0, remaining - 1)) > 0) {
+            throw new IllegalStateException("테스트용 리스너 실패");
+        }
+        events.add(event);
+    }
+
+    public synchronized List<OrderStatusChangedEvent> events() {
+        return List.copyOf(events);
+    }
+
+    public void failNext(int times) {
+        failures.set(times);
+    }
+
+    public synchronized void failAlways(UUID orderId) {
+        failingOrders.add(orderId);
+    }
+
+    public synchronized void clear() {
+        events.clear();
+        failingOrders.clear();
+        failures.set(0);
+    }
+}
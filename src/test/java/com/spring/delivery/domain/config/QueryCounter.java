@@ -0,0 +1,25 @@
+package com.spring.delivery.domain.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.test.context.TestComponent;
+
+// Hibernate 통계로 실행된 SQL 문 수를 측정 (hibernate.generate_statistics=true 필요)
+@TestComponent
+public class QueryCounter {
+
+    private final Statistics statistics;
+
+    public QueryCounter(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    public void reset() {
+        statistics.clear();
+    }
+
+    public long count() {
+        return statistics.getPrepareStatementCount();
+    }
+}
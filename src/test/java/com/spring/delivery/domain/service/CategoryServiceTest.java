@@ -4,19 +4,32 @@ import com.spring.delivery.domain.config.IntegrationTestBase;
 import com.spring.delivery.domain.controller.dto.ApiResponseDto;
 import com.spring.delivery.domain.controller.dto.category.CategoryListResponseDto;
 import com.spring.delivery.domain.controller.dto.category.CategoryRequestDto;
+import com.spring.delivery.domain.controller.dto.category.CategoryTopStoreResponseDto;
+import com.spring.delivery.domain.controller.dto.menu.MenuRequestDto;
+import com.spring.delivery.domain.controller.dto.order.OrderRequestDto;
+import com.spring.delivery.domain.controller.dto.order.OrderStatusRequestDto;
+import com.spring.delivery.domain.controller.dto.review.ReviewRequestDto;
+import com.spring.delivery.domain.controller.dto.store.StoreCreateRequestDto;
 import com.spring.delivery.domain.domain.entity.Category;
+import com.spring.delivery.domain.domain.entity.Menu;
+import com.spring.delivery.domain.domain.entity.Store;
 import com.spring.delivery.domain.domain.entity.User;
 import com.spring.delivery.domain.domain.entity.enumtype.Role;
 import com.spring.delivery.domain.domain.repository.CategoryRepository;
+import com.spring.delivery.domain.domain.repository.MenuRepository;
+import com.spring.delivery.domain.domain.repository.StoreRepository;
 import com.spring.delivery.domain.domain.repository.UserRepository;
 import com.spring.delivery.global.security.UserDetailsImpl;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.Page;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.time.LocalTime;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -33,6 +46,24 @@ class CategoryServiceTest extends IntegrationTestBase {
     @Autowired
     private CategoryService categoryService;
 
+    @Autowired
+    private StoreService storeService;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Test
     @DisplayName("카테고리 생성 - 권한 있음")
     void testCreateCategorySuccess() {
@@ -223,4 +254,92 @@ class CategoryServiceTest extends IntegrationTestBase {
         assertNotNull(existingCategory); // 카테고리는 여전히 존재해야 함
         assertNull(existingCategory.getDeletedAt()); // 삭제되지 않아야 함
     }
+
+    @Test
+    @DisplayName("카테고리별 인기 가게 - 리뷰/주문/가게 삭제에 따라 순위 갱신")
+    void testGetTopStores() {
+        User masterUser = User.createUser("masterUser", "masterUser@example.com", "password", Role.MASTER);
+        userRepository.save(masterUser);
+        UserDetailsImpl masterUserDetails = new UserDetailsImpl(masterUser);
+
+        UUID chickenId = categoryRepository.save(Category.of("치킨")).getId();
+        UUID pizzaId = categoryRepository.save(Category.of("피자")).getId();
+        UUID storeA = createStore(masterUserDetails, "치킨A", List.of(chickenId));
+        UUID storeB = createStore(masterUserDetails, "치킨B", List.of(chickenId));
+        UUID storeC = createStore(masterUserDetails, "치킨C", List.of(chickenId, pizzaId));
+
+        // 평점순: 리뷰가 반영된 가게만 위로
+        UserDetailsImpl customer = userFixtureGenerator.createdPrincipalFixture();
+        review(customer, storeA, 3.0);
+        review(customer, storeB, 5.0);
+        assertEquals(List.of("치킨B", "치킨A", "치킨C"), topStoreNames(chickenId, "rating"));
+
+        // 주문수순: 주문 생성 이벤트만으로 갱신
+        UUID canceledOrderId = order(masterUser, storeA);
+        order(masterUser, storeA);
+        UUID legacyOrderId = order(masterUser, storeC);
+        assertEquals(List.of("치킨A", "치킨C", "치킨B"), topStoreNames(chickenId, "orders"));
+        assertEquals(2, categoryService.getTopStores(chickenId, 1, "orders").getData().get(0).getRecentOrderCount());
+
+        // 재구성해도 같은 결과 (DB 집계와 증분 갱신 일치)
+        categoryLeaderboard.rebuild();
+        assertEquals(List.of("치킨A", "치킨C", "치킨B"), topStoreNames(chickenId, "orders"));
+
+        // 재구성 시 취소 주문은 제외, store_id 가 없는 이전 주문은 주문 메뉴의 가게로 집계
+        OrderStatusRequestDto cancel = new OrderStatusRequestDto();
+        cancel.setStatus("CANCELED");
+        assertEquals(200, orderService.changeOrderStatus(canceledOrderId, cancel, masterUserDetails).getStatus());
+        jdbcTemplate.update("UPDATE p_order SET store_id = NULL WHERE id = ?", legacyOrderId);
+        categoryLeaderboard.rebuild();
+        List<CategoryTopStoreResponseDto> byOrders = categoryService.getTopStores(chickenId, 3, "orders").getData();
+        assertEquals(List.of(storeA, storeC, storeB), byOrders.stream().map(CategoryTopStoreResponseDto::getStoreId).toList());
+        assertEquals(List.of(1L, 1L, 0L), byOrders.stream().map(CategoryTopStoreResponseDto::getRecentOrderCount).toList());
+
+        // 삭제된 가게는 모든 카테고리 순위에서 제거
+        storeService.deleteStore(masterUserDetails, storeC);
+        assertEquals(List.of("치킨A", "치킨B"), topStoreNames(chickenId, "orders"));
+        assertTrue(topStoreNames(pizzaId, "rating").isEmpty());
+
+        // 조회는 카테고리 존재 확인 1건 외에 DB를 사용하지 않음
+        queryCounter.reset();
+        List<CategoryTopStoreResponseDto> top = categoryService.getTopStores(chickenId, 1, "rating").getData();
+        assertEquals(1, queryCounter.count());
+        assertEquals(1, top.size());
+        assertEquals(1, top.get(0).getRank());
+        assertEquals(storeB, top.get(0).getStoreId());
+
+        assertThrows(IllegalArgumentException.class, () -> categoryService.getTopStores(chickenId, 10, "distance"));
+        assertThrows(IllegalArgumentException.class, () -> categoryService.getTopStores(chickenId, 0, "rating"));
+    }
+
+    private UUID createStore(UserDetailsImpl userDetails, String name, List<UUID> categoryIds) {
+        return (UUID) storeService.createStore(userDetails, new StoreCreateRequestDto(
+                name, categoryIds, "테스트 주소", "010-1234-5678", true, LocalTime.of(9, 0), LocalTime.of(22, 0))).getData();
+    }
+
+    private void review(UserDetailsImpl userDetails, UUID storeId, double rating) {
+        ReviewRequestDto requestDto = new ReviewRequestDto();
+        requestDto.setRating(rating);
+        requestDto.setComment("리뷰");
+        reviewService.createReview(storeId, requestDto, userDetails);
+    }
+
+    private UUID order(User user, UUID storeId) {
+        Store store = storeRepository.findById(storeId).orElseThrow();
+        Menu menu = menuRepository.save(Menu.of(MenuRequestDto.of("메뉴", 10000L, "설명", "", true, storeId), store));
+
+        OrderRequestDto requestDto = new OrderRequestDto();
+        requestDto.setUserId(user);
+        requestDto.setAddress("testAddress");
+        requestDto.setOrderType("DELIVERY");
+        requestDto.setTotalPrice(10000L);
+        requestDto.setMenuInfo(List.of(Map.of(menu.getId(), 1L)));
+        return orderService.createOrder(requestDto).getData().getOrderId();
+    }
+
+    private List<String> topStoreNames(UUID categoryId, String rankBy) {
+        return categoryService.getTopStores(categoryId, 10, rankBy).getData().stream()
+                .map(CategoryTopStoreResponseDto::getName)
+                .toList();
+    }
 }
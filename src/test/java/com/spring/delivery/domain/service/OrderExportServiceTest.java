@@ -0,0 +1,99 @@
+package com.spring.delivery.domain.service;
+
+import com.spring.delivery.domain.config.IntegrationTestBase;
+import com.spring.delivery.domain.controller.dto.menu.MenuRequestDto;
+import com.spring.delivery.domain.controller.dto.order.OrderRequestDto;
+import com.spring.delivery.domain.domain.entity.Menu;
+import com.spring.delivery.domain.domain.entity.Store;
+import com.spring.delivery.domain.domain.entity.User;
+import com.spring.delivery.domain.domain.entity.enumtype.Role;
+import com.spring.delivery.domain.domain.repository.MenuRepository;
+import com.spring.delivery.domain.domain.repository.StoreRepository;
+import com.spring.delivery.domain.domain.repository.UserRepository;
+import com.spring.delivery.global.security.UserDetailsImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.access.AccessDeniedException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderExportServiceTest extends IntegrationTestBase {
+
+    @Autowired
+    private OrderExportService orderExportService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    @DisplayName("주문 CSV 내보내기 - 기간 내 주문을 쿼리 1개로 생성 순서대로 출력, 특수문자 이스케이프")
+    void writeCsv_streamsOrders() throws IOException {
+        User owner = userRepository.save(User.createUser("owner", "owner@test.com", "1234", Role.OWNER));
+        User customer = userRepository.save(User.createUser("customer", "customer@test.com", "1234", Role.CUSTOMER));
+        Store store = storeRepository.save(Store.of("가게, \"본점\"", "testAddress", "010-1234-1234", true, LocalTime.now(), LocalTime.now(), owner));
+        UUID menuId = menuRepository.save(Menu.of(MenuRequestDto.of("menu", 1000L, "d", "d", true, store.getId()), store)).getId();
+        UUID first = createOrder(customer, menuId, "서울시\n강남구");
+        UUID second = createOrder(customer, menuId, "=HYPERLINK(\"x\")");
+        LocalDate today = LocalDate.now();
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        queryCounter.reset();
+        long rows = orderExportService.writeCsv(today, today, output);
+
+        assertEquals(1, queryCounter.count());
+        assertEquals(2, rows);
+        String csv = output.toString(StandardCharsets.UTF_8);
+        assertTrue(csv.startsWith("\uFEFForder_id,created_at,store_id,store_name,"));
+        assertTrue(csv.indexOf(first.toString()) < csv.indexOf(second.toString()));
+        assertTrue(csv.contains(",\"가게, \"\"본점\"\"\","));
+        assertTrue(csv.contains(",\"서울시\n강남구\","));
+        assertTrue(csv.contains(",\"'=HYPERLINK(\"\"x\"\")\","));
+        assertTrue(csv.contains(",PENDING,testOrderType,"));
+        assertEquals(3, csv.split("\r\n").length);
+
+        ByteArrayOutputStream empty = new ByteArrayOutputStream();
+        assertEquals(0, orderExportService.writeCsv(today.minusDays(3), today.minusDays(1), empty));
+    }
+
+    @Test
+    @DisplayName("주문 CSV 내보내기 - 관리자만, 최대 기간 확인")
+    void checkExport_rejectsInvalidRequests() {
+        UserDetailsImpl master = new UserDetailsImpl(userRepository.save(User.createUser("master", "master@test.com", "1234", Role.MASTER)));
+        UserDetailsImpl owner = new UserDetailsImpl(userRepository.save(User.createUser("owner", "owner@test.com", "1234", Role.OWNER)));
+        LocalDate today = LocalDate.now();
+
+        assertDoesNotThrow(() -> orderExportService.checkExport(today.minusDays(30), today, master));
+        assertThrows(AccessDeniedException.class, () -> orderExportService.checkExport(today, today, owner));
+        assertThrows(IllegalArgumentException.class, () -> orderExportService.checkExport(today, today.minusDays(1), master));
+        assertThrows(IllegalArgumentException.class, () -> orderExportService.checkExport(today.minusDays(400), today, master));
+    }
+
+    private UUID createOrder(User customer, UUID menuId, String address) {
+        OrderRequestDto orderRequestDto = new OrderRequestDto();
+        orderRequestDto.setUserId(customer);
+        orderRequestDto.setAddress(address);
+        orderRequestDto.setOrderType("testOrderType");
+        orderRequestDto.setCardNumber("1234-5678");
+        orderRequestDto.setMenuInfo(List.of(Map.of(menuId, 1L)));
+        return orderService.createOrder(orderRequestDto).getData().getOrderId();
+    }
+}
@@ -0,0 +1,177 @@
+package com.spring.delivery.domain.service;
+
+import com.spring.delivery.domain.config.IntegrationTestBase;
+import com.spring.delivery.domain.controller.dto.ApiResponseDto;
+import com.spring.delivery.domain.controller.dto.menu.MenuRequestDto;
+import com.spring.delivery.domain.controller.dto.order.OrderRequestDto;
+import com.spring.delivery.domain.controller.dto.order.OrderResponseDto;
+import com.spring.delivery.domain.domain.entity.IdempotencyRecord;
+import com.spring.delivery.domain.domain.entity.Menu;
+import com.spring.delivery.domain.domain.entity.Store;
+import com.spring.delivery.domain.domain.entity.User;
+import com.spring.delivery.domain.domain.entity.enumtype.Role;
+import com.spring.delivery.domain.domain.repository.IdempotencyRecordRepository;
+import com.spring.delivery.domain.domain.repository.MenuRepository;
+import com.spring.delivery.domain.domain.repository.OrderRepository;
+import com.spring.delivery.domain.domain.repository.PaymentRepository;
+import com.spring.delivery.domain.domain.repository.StoreRepository;
+import com.spring.delivery.domain.domain.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderIdempotencyServiceTest extends IntegrationTestBase {
+
+    @Autowired
+    private OrderIdempotencyService orderIdempotencyService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("같은 키로 재시도 - 주문은 한 번만 생성되고 같은 응답을 돌려줌")
+    void createOrder_replaysSameKey() {
+        OrderRequestDto requestDto = orderRequest(2L);
+
+        ApiResponseDto<OrderResponseDto> first = orderIdempotencyService.createOrder("key-1", requestDto);
+        ApiResponseDto<OrderResponseDto> retried = orderIdempotencyService.createOrder("key-1", requestDto);
+
+        assertEquals(200, first.getStatus());
+        assertEquals(first.getData().getOrderId(), retried.getData().getOrderId());
+        assertEquals(1, orderRepository.count());
+        assertEquals(1, paymentRepository.count());
+        assertEquals(1, idempotencyRecordRepository.count());
+
+        // 키가 없으면 매번 새 주문
+        orderIdempotencyService.createOrder(null, requestDto);
+        assertEquals(2, orderRepository.count());
+    }
+
+    @Test
+    @DisplayName("같은 키로 다른 주문 요청 - 422")
+    void createOrder_rejectsDifferentRequest() {
+        orderIdempotencyService.createOrder("key-1", orderRequest(1L));
+
+        ApiResponseDto<OrderResponseDto> response = orderIdempotencyService.createOrder("key-1", orderRequest(5L));
+
+        assertEquals(422, response.getStatus());
+        assertEquals(1, orderRepository.count());
+    }
+
+    @Test
+    @DisplayName("인메모리 결과가 없어도 DB 기록으로 재생")
+    void createOrder_replaysFromDurableRecord() {
+        OrderRequestDto requestDto = orderRequest(1L);
+        UUID orderId = orderIdempotencyService.createOrder("key-1", requestDto).getData().getOrderId();
+
+        // 재시작 / 다른 서버 상황
+        orderIdempotencyService.invalidateAll();
+        queryCounter.reset();
+        ApiResponseDto<OrderResponseDto> replayed = orderIdempotencyService.createOrder("key-1", requestDto);
+        long statements = queryCounter.count();
+
+        assertEquals(orderId, replayed.getData().getOrderId());
+        assertEquals(1000L, replayed.getData().getTotalPrice());
+        assertEquals(1, orderRepository.count());
+        // 기록 조회 + 주문 조회 (주문 생성 없음)
+        assertEquals(2, statements);
+    }
+
+    @Test
+    @DisplayName("만료되었지만 아직 정리되지 않은 키를 다시 사용 - 새 주문으로 처리")
+    void createOrder_reusesExpiredKey() {
+        UUID firstOrderId = orderIdempotencyService.createOrder("key-1", orderRequest(1L)).getData().getOrderId();
+        jdbcTemplate.update("UPDATE p_idempotency_record SET expires_at = ? WHERE idempotency_key = ?",
+                LocalDateTime.now().minusMinutes(1), "key-1");
+        orderIdempotencyService.invalidateAll();
+
+        // 만료된 기록의 요청과 달라도 새 요청으로 처리
+        ApiResponseDto<OrderResponseDto> reused = orderIdempotencyService.createOrder("key-1", orderRequest(2L));
+
+        assertEquals(200, reused.getStatus());
+        assertNotEquals(firstOrderId, reused.getData().getOrderId());
+        assertEquals(2, orderRepository.count());
+        IdempotencyRecord record = idempotencyRecordRepository.findById("key-1").orElseThrow();
+        assertEquals(reused.getData().getOrderId(), record.getOrderId());
+        assertTrue(record.getExpiresAt().isAfter(LocalDateTime.now()));
+    }
+
+    @Test
+    @DisplayName("같은 키의 동시 요청 - 먼저 들어온 요청만 처리하고 나머지는 결과를 기다려 재생")
+    void createOrder_singleFlight() throws Exception {
+        OrderRequestDto requestDto = orderRequest(1L);
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        try {
+            List<Future<ApiResponseDto<OrderResponseDto>>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return orderIdempotencyService.createOrder("key-1", requestDto);
+                }));
+            }
+            start.countDown();
+
+            UUID orderId = futures.get(0).get().getData().getOrderId();
+            for (Future<ApiResponseDto<OrderResponseDto>> future : futures) {
+                assertEquals(orderId, future.get().getData().getOrderId());
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(1, orderRepository.count());
+        assertEquals(1, paymentRepository.count());
+    }
+
+    private OrderRequestDto orderRequest(long amount) {
+        User user = userRepository.findAll().stream().findFirst()
+                .orElseGet(() -> userRepository.save(User.createUser("MasterUser", "test@test.com", "1234", Role.MASTER)));
+        Store store = storeRepository.findAll().stream().findFirst()
+                .orElseGet(() -> storeRepository.save(Store.of("testName", "testAddress", "010-1234-1234", true, LocalTime.now(), LocalTime.now(), user)));
+        Menu menu = menuRepository.findAll().stream().findFirst()
+                .orElseGet(() -> menuRepository.save(Menu.of(MenuRequestDto.of("menu", 1000L, "d", "d", true, store.getId()), store)));
+
+        OrderRequestDto orderRequestDto = new OrderRequestDto();
+        orderRequestDto.setUserId(user);
+        orderRequestDto.setAddress("testAddress");
+        orderRequestDto.setOrderType("testOrderType");
+        orderRequestDto.setCardNumber("1234-5678");
+        orderRequestDto.setMenuInfo(List.of(Map.of(menu.getId(), amount)));
+        return orderRequestDto;
+    }
+}
@@ -0,0 +1,129 @@
+package com.spring.delivery.domain.service;
+
+import com.spring.delivery.domain.config.IntegrationTestBase;
+import com.spring.delivery.domain.controller.dto.ApiResponseDto;
+import com.spring.delivery.domain.controller.dto.menu.MenuRequestDto;
+import com.spring.delivery.domain.controller.dto.order.OrderIntakeResponseDto;
+import com.spring.delivery.domain.controller.dto.order.OrderRequestDto;
+import com.spring.delivery.domain.domain.entity.Menu;
+import com.spring.delivery.domain.domain.entity.Store;
+import com.spring.delivery.domain.domain.entity.User;
+import com.spring.delivery.domain.domain.entity.enumtype.Role;
+import com.spring.delivery.domain.domain.repository.MenuRepository;
+import com.spring.delivery.domain.domain.repository.OrderRepository;
+import com.spring.delivery.domain.domain.repository.StoreRepository;
+import com.spring.delivery.domain.domain.repository.UserRepository;
+import com.spring.delivery.domain.service.intake.OrderIntakeQueue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestPropertySource(properties = "order.intake.async-enabled=true")
+class OrderIntakeServiceTest extends IntegrationTestBase {
+
+    @Autowired
+    private OrderIntakeService orderIntakeService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderIdempotencyService orderIdempotencyService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Test
+    @DisplayName("비동기 주문 접수 - 202 후 작업 스레드가 주문 저장")
+    void accept_queuesAndCreatesOrder() throws InterruptedException {
+        ApiResponseDto<OrderIntakeResponseDto> accepted = orderIntakeService.accept(null, orderRequest(createMenu()));
+
+        assertEquals(202, accepted.getStatus());
+        UUID intakeId = accepted.getData().getIntakeId();
+        assertEquals("/api/orders/intake/" + intakeId, accepted.getData().getStatusUrl());
+
+        OrderIntakeResponseDto intake = awaitProcessed(intakeId);
+        assertEquals(OrderIntakeResponseDto.Status.CREATED, intake.getStatus());
+        assertTrue(orderRepository.findById(intake.getOrderId()).isPresent());
+    }
+
+    @Test
+    @DisplayName("비동기 주문 접수 - 잘못된 주문은 큐에 넣지 않고 바로 거절")
+    void accept_validatesBeforeQueueing() {
+        ApiResponseDto<OrderIntakeResponseDto> rejected = orderIntakeService.accept(null, orderRequest(UUID.randomUUID()));
+
+        assertEquals(404, rejected.getStatus());
+        assertNull(rejected.getData());
+        assertEquals(404, orderIntakeService.getIntake(UUID.randomUUID()).getStatus());
+    }
+
+    @Test
+    @DisplayName("비동기 주문 접수 - 큐가 가득 차면 429")
+    void accept_rejectsWhenQueueFull() {
+        // 작업 스레드를 시작하지 않은 크기 2의 큐
+        OrderIntakeQueue queue = new OrderIntakeQueue(orderIdempotencyService, 2, 1, 30);
+        OrderIntakeService service = new OrderIntakeService(orderService, Optional.of(queue));
+        OrderRequestDto requestDto = orderRequest(createMenu());
+
+        assertEquals(202, service.accept(null, requestDto).getStatus());
+        assertEquals(202, service.accept(null, requestDto).getStatus());
+        assertEquals(429, service.accept(null, requestDto).getStatus());
+        assertEquals(2, queue.size());
+        assertEquals(0, orderRepository.count());
+    }
+
+    @Test
+    @DisplayName("비동기 접수를 끈 경우 - 큐 없이 503, 접수 조회는 404")
+    void accept_disabled() {
+        OrderIntakeService service = new OrderIntakeService(orderService, Optional.empty());
+
+        assertEquals(503, service.accept(null, orderRequest(createMenu())).getStatus());
+        assertEquals(404, service.getIntake(UUID.randomUUID()).getStatus());
+        assertEquals(0, orderRepository.count());
+    }
+
+    private OrderIntakeResponseDto awaitProcessed(UUID intakeId) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            OrderIntakeResponseDto intake = orderIntakeService.getIntake(intakeId).getData();
+            if (intake.getStatus() != OrderIntakeResponseDto.Status.QUEUED) {
+                return intake;
+            }
+            Thread.sleep(50);
+        }
+        return fail("주문 접수가 처리되지 않았습니다: " + intakeId);
+    }
+
+    private UUID createMenu() {
+        User user = userRepository.save(User.createUser("MasterUser", "test@test.com", "1234", Role.MASTER));
+        Store store = storeRepository.save(Store.of("testName", "testAddress", "010-1234-1234", true, LocalTime.now(), LocalTime.now(), user));
+        return menuRepository.save(Menu.of(MenuRequestDto.of("menu", 1000L, "d", "d", true, store.getId()), store)).getId();
+    }
+
+    private OrderRequestDto orderRequest(UUID menuId) {
+        OrderRequestDto orderRequestDto = new OrderRequestDto();
+        orderRequestDto.setUserId(userRepository.findAll().stream().findFirst().orElse(null));
+        orderRequestDto.setAddress("testAddress");
+        orderRequestDto.setOrderType("testOrderType");
+        orderRequestDto.setCardNumber("1234-5678");
+        orderRequestDto.setMenuInfo(List.of(Map.of(menuId, 1L)));
+        return orderRequestDto;
+    }
+}
@@ -1,19 +1,30 @@
 package com.spring.delivery.domain.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.spring.delivery.domain.config.IntegrationTestBase;
 import com.spring.delivery.domain.controller.dto.ApiResponseDto;
 import com.spring.delivery.domain.controller.dto.menu.MenuRequestDto;
+import com.spring.delivery.domain.controller.dto.order.OrderHistoryCursorResponseDto;
+import com.spring.delivery.domain.controller.dto.order.OrderHistoryResponseDto;
+import com.spring.delivery.domain.controller.dto.order.OrderItemResponseDto;
 import com.spring.delivery.domain.controller.dto.order.OrderMenuResponseDto;
 import com.spring.delivery.domain.controller.dto.order.OrderRequestDto;
 import com.spring.delivery.domain.controller.dto.order.OrderResponseDto;
+import com.spring.delivery.domain.controller.dto.order.OrderStatusRequestDto;
 import com.spring.delivery.domain.domain.entity.*;
 import com.spring.delivery.domain.domain.entity.Order;
+import com.spring.delivery.domain.domain.entity.enumtype.OrderStatus;
 import com.spring.delivery.domain.domain.entity.enumtype.Role;
+import com.spring.delivery.domain.domain.repository.MenuOrderRepository;
 import com.spring.delivery.domain.domain.repository.MenuRepository;
+import com.spring.delivery.domain.domain.repository.OrderOutboxEventRepository;
 import com.spring.delivery.domain.domain.repository.OrderRepository;
 import com.spring.delivery.domain.domain.repository.StoreRepository;
 import com.spring.delivery.domain.domain.repository.UserRepository;
+import com.spring.delivery.domain.event.OrderStatusChangedEvent;
+import com.spring.delivery.domain.service.intake.OrderIntakeQueue;
+import com.spring.delivery.domain.service.outbox.OrderOutboxRelay;
 import com.spring.delivery.global.security.UserDetailsImpl;
 import jakarta.transaction.Transactional;
 import org.junit.jupiter.api.*;
@@ -21,10 +32,16 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.test.context.ActiveProfiles;
 
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalTime;
 import java.util.*;
 
@@ -53,7 +70,23 @@ class OrderServiceTest extends IntegrationTestBase {
     @Autowired
     private MenuRepository menuRepository;
     @Autowired
+    private MenuOrderRepository menuOrderRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
     private StoreRepository storeRepository;
+    @Autowired
+    private MenuService menuService;
+    @Autowired
+    private OrderOutboxRelay orderOutboxRelay;
+    @Autowired
+    private OrderOutboxEventRepository orderOutboxEventRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    @Autowired
+    private ApplicationContext applicationContext;
 
 
     @Test
@@ -95,6 +128,12 @@ class OrderServiceTest extends IntegrationTestBase {
         catch(Exception e){log.error(e.getMessage());}
     }
 
+    @Test
+    @DisplayName("비동기 접수 기본값(꺼짐) - 접수 큐와 작업 스레드를 만들지 않음")
+    void asyncIntakeDisabledByDefault() {
+        assertNull(applicationContext.getBeanProvider(OrderIntakeQueue.class).getIfAvailable());
+    }
+
     @Test
     @DisplayName("주문 수정 성공")
     void updateOrder() {
@@ -124,10 +163,40 @@ class OrderServiceTest extends IntegrationTestBase {
         assertNotNull(orderResponse);
         assertEquals("updateAddress", orderResponse.getData().getAddress());
         assertEquals("updateOrderType", orderResponse.getData().getOrderType());
-        assertEquals(16000L, orderResponse.getData().getTotalPrice());
+        // 요청의 총 금액은 무시 (주문 메뉴가 없으면 기존 금액 유지)
+        assertEquals(15000L, orderResponse.getData().getTotalPrice());
 
     }
 
+    @Test
+    @DisplayName("주문 수정 - 총 금액은 요청값이 아닌 주문 시점 단가 x 수량으로 다시 계산하고 일 매출에 차액 반영, 메뉴 수 갱신")
+    void updateOrder_recomputesTotalPrice() {
+        User user = userRepository.save(User.createUser("MasterUser", "test@test.com", "1234", Role.MASTER));
+        UserDetailsImpl userDetails = new UserDetailsImpl(user);
+        Store store = storeRepository.save(Store.of("testName", "testAddress", "010-1234-1234", true, LocalTime.now(), LocalTime.now(), user));
+        Menu menu = menuRepository.save(Menu.of(MenuRequestDto.of("menu", 1000L, "d", "d", true, store.getId()), store));
+
+        OrderRequestDto createRequest = orderRequest(user, List.of(menu.getId()));
+        createRequest.setMenuInfo(List.of(Map.of(menu.getId(), 2L)));
+        UUID orderId = orderService.createOrder(createRequest).getData().getOrderId();
+        UUID menuOrderId = menuOrderRepository.findByOrderId(orderId).get(0).getId();
+        menuService.updateMenu(menu.getId(), MenuRequestDto.of("menu", 1500L, "d", "d", true, store.getId()), userDetails);
+
+        OrderRequestDto updateRequest = new OrderRequestDto();
+        updateRequest.setTotalPrice(1L);
+        updateRequest.setUpdateMenuIds(List.of(Map.of(menuOrderId, 3L)));
+        assertEquals(3000L, orderService.updateOrder(orderId, updateRequest, userDetails).getData().getTotalPrice());
+
+        // 메뉴 가격이 바뀌어도 주문 메뉴의 단가 스냅샷은 유지
+        OrderMenuResponseDto updated = orderService.getOrder(orderId).getData();
+        assertEquals(3000L, updated.getTotalPrice());
+        assertEquals(1000L, updated.getItems().get(0).getPrice());
+        // 내 주문 내역/CSV 내보내기의 메뉴 수도 수정된 수량 기준
+        assertEquals(3, orderRepository.findById(orderId).orElseThrow().getItemCount());
+        assertEquals(3000L, jdbcTemplate.queryForObject(
+                "SELECT sales_amount FROM p_store_daily_sales WHERE store_id = ?", Long.class, store.getId()));
+    }
+
     @Test
     @DisplayName("주문 삭제 성공")
     void deleteOrder() {
@@ -166,10 +235,11 @@ class OrderServiceTest extends IntegrationTestBase {
         ApiResponseDto<OrderMenuResponseDto> responseDto = orderService.getOrder(order.getId());
 
         assertNotNull(responseDto);
-        assertEquals(user.getId(), responseDto.getData().getOrder().getUser().getId());
-        assertEquals("testAddress", responseDto.getData().getOrder().getAddress());
-        assertEquals("testOrderType", responseDto.getData().getOrder().getOrderType());
-        assertEquals(15000L, responseDto.getData().getOrder().getTotalPrice());
+        assertEquals(user.getId(), responseDto.getData().getUserId());
+        assertEquals("testAddress", responseDto.getData().getAddress());
+        assertEquals("testOrderType", responseDto.getData().getOrderType());
+        assertEquals(15000L, responseDto.getData().getTotalPrice());
+        assertTrue(responseDto.getData().getItems().isEmpty());
     }
 
     @Test
@@ -193,4 +263,295 @@ class OrderServiceTest extends IntegrationTestBase {
 
         assertNotNull(orders);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("주문리스트 조회 - 30건 페이지를 3개 쿼리로 조회")
+    void getOrders_fetchJoinQueryCount() {
+        User user = userRepository.save(User.createUser("MasterUser", "test@test.com", "1234", Role.MASTER));
+        UserDetailsImpl userDetails = new UserDetailsImpl(user);
+        Store store = storeRepository.save(Store.of("testName", "testAddress", "010-1234-1234", true, LocalTime.now(), LocalTime.now(), user));
+        List<Menu> menus = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            menus.add(menuRepository.save(Menu.of(MenuRequestDto.of("menu" + i, 1000L * (i + 1), "d", "d", true, store.getId()), store)));
+        }
+
+        // 31건 중 최신 30건 (다음 페이지가 있어 count 쿼리도 실행됨)
+        for (int i = 0; i < 31; i++) {
+            Order order = orderRepository.save(new Order(null, user, store, OrderStatus.PENDING, "DELIVERY", 6000L, "address" + i, store.getName(), 6, new ArrayList<>()));
+            for (int j = 0; j < menus.size(); j++) {
+                menuOrderRepository.save(MenuOrder.create(order, menus.get(j), menus.get(j).getPrice(), (long) j + 1));
+            }
+        }
+
+        queryCounter.reset();
+        List<OrderMenuResponseDto> orders = orderService.getOrders(user.getId(), "PENDING", "createdAt", "desc", 1, 30, userDetails).getData();
+
+        assertEquals(3, queryCounter.count());
+        assertEquals(30, orders.size());
+        assertEquals("address30", orders.get(0).getAddress());
+        assertEquals(List.of("menu0", "menu1", "menu2"), orders.get(0).getItems().stream()
+                .map(OrderItemResponseDto::getMenuName).sorted().toList());
+        assertEquals(6, orders.get(0).getItems().stream().mapToLong(OrderItemResponseDto::getAmount).sum());
+    }
+
+    @Test
+    @DisplayName("내 주문 내역 - 주문 시점 요약 컬럼을 커서 페이지당 쿼리 1개로 조회")
+    void getMyOrders_cursorPages() {
+        User owner = userRepository.save(User.createUser("OwnerUser", "owner@test.com", "1234", Role.OWNER));
+        User customer = userRepository.save(User.createUser("CustomerUser", "customer@test.com", "1234", Role.CUSTOMER));
+        User otherCustomer = userRepository.save(User.createUser("OtherUser", "other@test.com", "1234", Role.CUSTOMER));
+        Store store = storeRepository.save(Store.of("testName", "testAddress", "010-1234-1234", true, LocalTime.now(), LocalTime.now(), owner));
+        UUID menu1 = menuRepository.save(Menu.of(MenuRequestDto.of("menu1", 1000L, "d", "d", true, store.getId()), store)).getId();
+        UUID menu2 = menuRepository.save(Menu.of(MenuRequestDto.of("menu2", 2500L, "d", "d", true, store.getId()), store)).getId();
+
+        List<UUID> orderIds = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            orderIds.add(orderService.createOrder(orderRequest(customer, List.of(menu1, menu1, menu2))).getData().getOrderId());
+        }
+        orderService.createOrder(orderRequest(otherCustomer, List.of(menu1)));
+        Collections.reverse(orderIds);
+
+        queryCounter.reset();
+        OrderHistoryCursorResponseDto first = orderService.getMyOrders(null, 10, new UserDetailsImpl(customer)).getData();
+
+        assertEquals(1, queryCounter.count());
+        assertTrue(first.isHasNext());
+        assertEquals(orderIds.subList(0, 10), first.getContent().stream().map(OrderHistoryResponseDto::getOrderId).toList());
+        OrderHistoryResponseDto row = first.getContent().get(0);
+        assertEquals("testName", row.getStoreName());
+        assertEquals(3, row.getItemCount());
+        assertEquals(4500L, row.getTotalPrice());
+        assertEquals(OrderStatus.PENDING, row.getOrderStatus());
+
+        queryCounter.reset();
+        OrderHistoryCursorResponseDto second = orderService.getMyOrders(first.getNextCursor(), 10, new UserDetailsImpl(customer)).getData();
+
+        assertEquals(1, queryCounter.count());
+        assertFalse(second.isHasNext());
+        assertNull(second.getNextCursor());
+        assertEquals(orderIds.subList(10, 12), second.getContent().stream().map(OrderHistoryResponseDto::getOrderId).toList());
+
+        assertThrows(IllegalArgumentException.class, () -> orderService.getMyOrders("not-a-cursor", 10, new UserDetailsImpl(customer)));
+    }
+
+    @Test
+    @DisplayName("주문 생성 - 메뉴 수와 무관한 쿼리 수 및 처리량 벤치마크 (1/10/50개)")
+    void createOrder_batchedBenchmark() {
+        User user = userRepository.save(User.createUser("MasterUser", "test@test.com", "1234", Role.MASTER));
+        Store store = storeRepository.save(Store.of("testName", "testAddress", "010-1234-1234", true, LocalTime.now(), LocalTime.now(), user));
+
+        List<UUID> menuIds = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            menuIds.add(menuRepository.save(Menu.of(MenuRequestDto.of("menu" + i, 1000L, "d", "d", true, store.getId()), store)).getId());
+        }
+
+        for (int items : List.of(1, 10, 50)) {
+            OrderRequestDto requestDto = orderRequest(user, menuIds.subList(0, items));
+
+            // 워밍업 후 측정
+            for (int i = 0; i < 5; i++) {
+                orderService.createOrder(requestDto);
+            }
+
+            queryCounter.reset();
+            orderService.createOrder(requestDto);
+            long statements = queryCounter.count();
+
+            int rounds = 30;
+            long started = System.nanoTime();
+            for (int i = 0; i < rounds; i++) {
+                orderService.createOrder(requestDto);
+            }
+            double ordersPerSecond = rounds / ((System.nanoTime() - started) / 1_000_000_000.0);
+            log.info("[benchmark] createOrder {} items: {} statements, {} orders/s", items, statements, String.format("%.1f", ordersPerSecond));
+
+            // 가격표가 채워진 뒤에는 주문 1 + 주문 메뉴 배치 1 + 결제 1 + outbox 1 + 일 매출 증감 1 (메뉴/가격 조회 없음)
+            assertTrue(statements <= 5, "statements=" + statements);
+        }
+    }
+
+    @Test
+    @DisplayName("주문 생성 실패 - 없는 메뉴, 비공개 메뉴, 여러 가게의 메뉴")
+    void createOrder_invalidMenus() {
+        User user = userRepository.save(User.createUser("MasterUser", "test@test.com", "1234", Role.MASTER));
+        Store store = storeRepository.save(Store.of("store1", "testAddress", "010-1234-1234", true, LocalTime.now(), LocalTime.now(), user));
+        Store otherStore = storeRepository.save(Store.of("store2", "testAddress", "010-1234-1234", true, LocalTime.now(), LocalTime.now(), user));
+        UUID menuId = menuRepository.save(Menu.of(MenuRequestDto.of("menu", 1000L, "d", "d", true, store.getId()), store)).getId();
+        UUID hiddenMenuId = menuRepository.save(Menu.of(MenuRequestDto.of("hidden", 1000L, "d", "d", false, store.getId()), store)).getId();
+        UUID otherMenuId = menuRepository.save(Menu.of(MenuRequestDto.of("other", 1000L, "d", "d", true, otherStore.getId()), otherStore)).getId();
+        long orderCount = orderRepository.count();
+
+        assertEquals(404, orderService.createOrder(orderRequest(user, List.of(menuId, UUID.randomUUID()))).getStatus());
+        assertEquals(400, orderService.createOrder(orderRequest(user, List.of(menuId, hiddenMenuId))).getStatus());
+        assertEquals("한 주문에는 한 가게의 메뉴만 담을 수 있습니다.",
+                orderService.createOrder(orderRequest(user, List.of(menuId, otherMenuId))).getMessage());
+        assertEquals(orderCount, orderRepository.count());
+    }
+
+    @Test
+    @DisplayName("주문 생성 - 단가 스냅샷과 서버 계산 총액, 메뉴 수정 시 가격표 무효화")
+    void createOrder_snapshotsUnitPrice() {
+        User user = userRepository.save(User.createUser("MasterUser", "test@test.com", "1234", Role.MASTER));
+        UserDetailsImpl userDetails = new UserDetailsImpl(user);
+        Store store = storeRepository.save(Store.of("testName", "testAddress", "010-1234-1234", true, LocalTime.now(), LocalTime.now(), user));
+        Menu menu = menuRepository.save(Menu.of(MenuRequestDto.of("menu", 1000L, "d", "d", true, store.getId()), store));
+
+        // 요청의 총 금액(1000)은 무시하고 단가 x 수량으로 계산
+        OrderRequestDto requestDto = orderRequest(user, List.of(menu.getId()));
+        requestDto.setMenuInfo(List.of(Map.of(menu.getId(), 3L)));
+        UUID firstOrderId = orderService.createOrder(requestDto).getData().getOrderId();
+
+        menuService.updateMenu(menu.getId(), MenuRequestDto.of("menu", 2500L, "d", "d", true, store.getId()), userDetails);
+        UUID secondOrderId = orderService.createOrder(requestDto).getData().getOrderId();
+
+        OrderMenuResponseDto first = orderService.getOrder(firstOrderId).getData();
+        OrderMenuResponseDto second = orderService.getOrder(secondOrderId).getData();
+        assertEquals(3000L, first.getTotalPrice());
+        assertEquals(1000L, first.getItems().get(0).getPrice());
+        assertEquals(7500L, second.getTotalPrice());
+        assertEquals(2500L, second.getItems().get(0).getPrice());
+    }
+
+    @Test
+    @DisplayName("주문 상태 변경 - 허용된 전이만 가능하고 outbox 를 거쳐 순서대로 전달")
+    void changeOrderStatus_transitionsAndOutbox() {
+        User user = userRepository.save(User.createUser("MasterUser", "test@test.com", "1234", Role.MASTER));
+        UserDetailsImpl master = new UserDetailsImpl(user);
+        UserDetailsImpl customer = userFixtureGenerator.createdPrincipalFixture();
+        Store store = storeRepository.save(Store.of("testName", "testAddress", "010-1234-1234", true, LocalTime.now(), LocalTime.now(), user));
+        UUID menuId = menuRepository.save(Menu.of(MenuRequestDto.of("menu", 1000L, "d", "d", true, store.getId()), store)).getId();
+        UUID orderId = orderService.createOrder(orderRequest(user, List.of(menuId))).getData().getOrderId();
+
+        assertEquals(OrderStatus.ACCEPTED, orderService.changeOrderStatus(orderId, statusRequest("accepted"), master).getData().getOrderStatus());
+        assertEquals(409, orderService.changeOrderStatus(orderId, statusRequest("COMPLETED"), master).getStatus());
+        assertEquals(403, orderService.changeOrderStatus(orderId, statusRequest("COOKING"), customer).getStatus());
+        // 다른 가게 주인은 상태 변경/취소 불가
+        UserDetailsImpl otherOwner = new UserDetailsImpl(userRepository.save(User.createUser("OtherOwner", "owner@test.com", "1234", Role.OWNER)));
+        storeRepository.save(Store.of("otherStore", "testAddress", "010-1234-1234", true, LocalTime.now(), LocalTime.now(), otherOwner.getUser()));
+        assertEquals(403, orderService.changeOrderStatus(orderId, statusRequest("COOKING"), otherOwner).getStatus());
+        assertEquals(403, orderService.changeOrderStatus(orderId, statusRequest("CANCELED"), otherOwner).getStatus());
+        assertEquals(400, orderService.changeOrderStatus(orderId, statusRequest("UNKNOWN"), master).getStatus());
+        assertEquals(404, orderService.changeOrderStatus(UUID.randomUUID(), statusRequest("COOKING"), master).getStatus());
+        assertEquals(2, orderOutboxEventRepository.count());
+
+        // 리스너 실패 시 완료 표시하지 않고, 같은 주문의 이후 이벤트도 보류
+        orderStatusEventRecorder.failNext(1);
+        assertEquals(0, orderOutboxRelay.dispatchBatch());
+        assertTrue(orderStatusEventRecorder.events().isEmpty());
+
+        assertEquals(2, orderOutboxRelay.dispatchBatch());
+        assertEquals(0, orderOutboxRelay.dispatchBatch());
+        List<OrderStatusChangedEvent> events = orderStatusEventRecorder.events();
+        assertEquals(List.of(OrderStatus.PENDING, OrderStatus.ACCEPTED), events.stream().map(OrderStatusChangedEvent::toStatus).toList());
+        assertNull(events.get(0).fromStatus());
+        assertEquals(orderId, events.get(1).orderId());
+    }
+
+    @Test
+    @DisplayName("outbox 전달 - 계속 실패하는 이벤트는 재시도를 늦추다 보류하고, 다른 주문의 이벤트는 계속 전달")
+    void dispatchBatch_parksPoisonEvents() {
+        User user = userRepository.save(User.createUser("MasterUser", "test@test.com", "1234", Role.MASTER));
+        UserDetailsImpl master = new UserDetailsImpl(user);
+        Store store = storeRepository.save(Store.of("testName", "testAddress", "010-1234-1234", true, LocalTime.now(), LocalTime.now(), user));
+        UUID menuId = menuRepository.save(Menu.of(MenuRequestDto.of("menu", 1000L, "d", "d", true, store.getId()), store)).getId();
+        UUID failing1 = orderService.createOrder(orderRequest(user, List.of(menuId))).getData().getOrderId();
+        UUID failing2 = orderService.createOrder(orderRequest(user, List.of(menuId))).getData().getOrderId();
+        UUID healthy = orderService.createOrder(orderRequest(user, List.of(menuId))).getData().getOrderId();
+        orderStatusEventRecorder.failAlways(failing1);
+        orderStatusEventRecorder.failAlways(failing2);
+
+        // batch 크기(2)만큼 실패 - 재시도 대기 중인 이벤트는 건너뛰고 다음 주문을 전달
+        OrderOutboxRelay backoffRelay = new OrderOutboxRelay(orderOutboxEventRepository, eventPublisher, transactionManager, 2, 3, 60_000, 60_000);
+        assertEquals(0, backoffRelay.dispatchBatch());
+        // 같은 주문의 앞선 이벤트가 재시도 대기 중이면 이후 이벤트는 시도하지 않음
+        orderService.changeOrderStatus(failing1, statusRequest("ACCEPTED"), master);
+        assertEquals(1, backoffRelay.dispatchBatch());
+        assertEquals(0, backoffRelay.dispatchBatch());
+        assertEquals(0, orderOutboxEventRepository.findAll().stream()
+                .filter(event -> event.getToStatus() == OrderStatus.ACCEPTED)
+                .findFirst().orElseThrow().getAttempts());
+
+        // 재시도 시각이 지난 뒤 max-attempts(3) 번째 실패에서 보류(dead letter), 이후 이벤트는 계속 전달
+        jdbcTemplate.update("UPDATE p_order_outbox SET next_attempt_at = NULL");
+        OrderOutboxRelay immediateRelay = new OrderOutboxRelay(orderOutboxEventRepository, eventPublisher, transactionManager, 2, 3, 0, 0);
+        for (int i = 0; i < 5; i++) {
+            immediateRelay.dispatchBatch();
+        }
+        UUID later = orderService.createOrder(orderRequest(user, List.of(menuId))).getData().getOrderId();
+        assertEquals(1, immediateRelay.dispatchBatch());
+
+        List<OrderOutboxEvent> parked = orderOutboxEventRepository.findAll().stream()
+                .filter(event -> event.getParkedAt() != null)
+                .toList();
+        assertEquals(3, parked.size());
+        assertTrue(parked.stream().allMatch(event -> event.getAttempts() == 3 && event.getDispatchedAt() == null));
+        assertEquals(List.of(healthy, later), orderStatusEventRecorder.events().stream().map(OrderStatusChangedEvent::orderId).toList());
+    }
+
+    @Test
+    @DisplayName("주문 상태 변경 - 상태 컬럼 추가 이전 주문(상태 NULL)은 접수 상태로 간주")
+    void changeOrderStatus_legacyNullStatus() {
+        User user = userRepository.save(User.createUser("MasterUser", "test@test.com", "1234", Role.MASTER));
+        UserDetailsImpl master = new UserDetailsImpl(user);
+        Store store = storeRepository.save(Store.of("testName", "testAddress", "010-1234-1234", true, LocalTime.now(), LocalTime.now(), user));
+        UUID menuId = menuRepository.save(Menu.of(MenuRequestDto.of("menu", 1000L, "d", "d", true, store.getId()), store)).getId();
+        UUID orderId = orderService.createOrder(orderRequest(user, List.of(menuId))).getData().getOrderId();
+        jdbcTemplate.update("UPDATE p_order SET order_status = NULL WHERE id = ?", orderId);
+
+        ApiResponseDto<OrderResponseDto> responseDto = orderService.changeOrderStatus(orderId, statusRequest("ACCEPTED"), master);
+
+        assertEquals(200, responseDto.getStatus());
+        assertEquals(OrderStatus.ACCEPTED, responseDto.getData().getOrderStatus());
+        assertEquals(OrderStatus.ACCEPTED, orderRepository.findById(orderId).orElseThrow().getOrderStatus());
+    }
+
+    @Test
+    @DisplayName("주문 단건/생성 응답 - 직렬화 크기와 쿼리 수 측정")
+    void orderResponses_payloadAndQueryCount() {
+        User user = userRepository.save(User.createUser("MasterUser", "test@test.com", "1234", Role.MASTER));
+        Store store = storeRepository.save(Store.of("testName", "testAddress", "010-1234-1234", true, LocalTime.now(), LocalTime.now(), user));
+        List<UUID> menuIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            menuIds.add(menuRepository.save(Menu.of(MenuRequestDto.of("menu" + i, 1000L, "d", "d", true, store.getId()), store)).getId());
+        }
+        UUID orderId = orderService.createOrder(orderRequest(user, menuIds)).getData().getOrderId();
+
+        // open-in-view 와 같이 영속성 컨텍스트가 열린 상태에서 직렬화 (지연 로딩이 일어나면 쿼리 수에 포함됨)
+        queryCounter.reset();
+        String body = new TransactionTemplate(transactionManager).execute(status -> {
+            try {
+                return objectMapper.writeValueAsString(orderService.getOrder(orderId));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        long statements = queryCounter.count();
+        int payloadBytes = body.getBytes(StandardCharsets.UTF_8).length;
+        log.info("[benchmark] getOrder: {} statements, {} bytes", statements, payloadBytes);
+
+        // 주문/주문 메뉴/메뉴 fetch join 1
+        assertEquals(1, statements);
+        assertTrue(payloadBytes < 1024, "payloadBytes=" + payloadBytes);
+        assertTrue(body.contains("menu2"));
+    }
+
+    private OrderStatusRequestDto statusRequest(String status) {
+        OrderStatusRequestDto requestDto = new OrderStatusRequestDto();
+        requestDto.setStatus(status);
+        return requestDto;
+    }
+
+    private OrderRequestDto orderRequest(User user, List<UUID> menuIds) {
+        OrderRequestDto orderRequestDto = new OrderRequestDto();
+        orderRequestDto.setUserId(user);
+        orderRequestDto.setAddress("testAddress");
+        orderRequestDto.setOrderType("testOrderType");
+        orderRequestDto.setTotalPrice(1000L * menuIds.size());
+        orderRequestDto.setCardNumber("1234-5678");
+
+        List<Map<UUID, Long>> menuList = new ArrayList<>();
+        menuIds.forEach(menuId -> menuList.add(Map.of(menuId, 1L)));
+        orderRequestDto.setMenuInfo(menuList);
+        return orderRequestDto;
+    }
+}
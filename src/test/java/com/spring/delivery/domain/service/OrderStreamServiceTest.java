@@ -0,0 +1,241 @@
+package com.spring.delivery.domain.service;
+
+import com.spring.delivery.domain.config.IntegrationTestBase;
+import com.spring.delivery.domain.controller.dto.ApiResponseDto;
+import com.spring.delivery.domain.controller.dto.menu.MenuRequestDto;
+import com.spring.delivery.domain.controller.dto.order.IncomingOrderResponseDto;
+import com.spring.delivery.domain.controller.dto.order.IncomingOrdersResponseDto;
+import com.spring.delivery.domain.controller.dto.order.OrderRequestDto;
+import com.spring.delivery.domain.controller.dto.order.OrderStatusEventResponseDto;
+import com.spring.delivery.domain.controller.dto.order.OrderStatusRequestDto;
+import com.spring.delivery.domain.domain.entity.Menu;
+import com.spring.delivery.domain.domain.entity.Store;
+import com.spring.delivery.domain.domain.entity.User;
+import com.spring.delivery.domain.domain.entity.enumtype.OrderStatus;
+import com.spring.delivery.domain.domain.entity.enumtype.Role;
+import com.spring.delivery.domain.domain.repository.MenuOrderRepository;
+import com.spring.delivery.domain.domain.repository.MenuRepository;
+import com.spring.delivery.domain.domain.repository.OrderRepository;
+import com.spring.delivery.domain.domain.repository.StoreRepository;
+import com.spring.delivery.domain.domain.repository.UserRepository;
+import com.spring.delivery.domain.service.outbox.OrderOutboxRelay;
+import com.spring.delivery.domain.service.stream.IncomingOrderQueue;
+import com.spring.delivery.domain.service.stream.OrderEventBroker;
+import com.spring.delivery.global.security.UserDetailsImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderStreamServiceTest extends IntegrationTestBase {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderOutboxRelay orderOutboxRelay;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private MenuOrderRepository menuOrderRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private IncomingOrderQueue incomingOrderQueue;
+
+    // 보낸 내용을 기록하는 emitter 를 쓰는 중계기 (구독자 한도 3, 버퍼 2)
+    private RecordingBroker broker;
+    private OrderStreamService orderStreamService;
+
+    @BeforeEach
+    void setUpBroker() {
+        broker = new RecordingBroker();
+        orderStreamService = new OrderStreamService(orderRepository, menuOrderRepository, storeRepository, broker, incomingOrderQueue);
+    }
+
+    @Test
+    @DisplayName("주문/가게 구독 - 현재 상태 후 outbox 로 전달된 상태 변경을 순서대로 수신")
+    void subscribe_receivesStatusChanges() throws InterruptedException {
+        UserDetailsImpl owner = principal("owner", Role.OWNER);
+        UserDetailsImpl customer = principal("customer", Role.CUSTOMER);
+        UserDetailsImpl master = principal("master", Role.MASTER);
+        Store store = storeRepository.save(Store.of("testName", "testAddress", "010-1234-1234", true, LocalTime.now(), LocalTime.now(), owner.getUser()));
+        UUID orderId = createOrder(customer.getUser(), store);
+
+        RecordingEmitter orderEmitter = (RecordingEmitter) orderStreamService.subscribeOrder(orderId, customer);
+        RecordingEmitter storeEmitter = (RecordingEmitter) orderStreamService.subscribeStore(store.getId(), owner);
+        orderStreamService.subscribeOrder(orderId, owner);
+
+        OrderStatusRequestDto requestDto = new OrderStatusRequestDto();
+        requestDto.setStatus("ACCEPTED");
+        orderService.changeOrderStatus(orderId, requestDto, master);
+        orderOutboxRelay.dispatchBatch();
+        orderStatusEventRecorder.events().forEach(broker::onOrderStatusChanged);
+
+        assertEquals(List.of(OrderStatus.PENDING, OrderStatus.PENDING, OrderStatus.ACCEPTED), orderEmitter.awaitStatuses(3));
+        assertEquals(List.of(OrderStatus.PENDING, OrderStatus.ACCEPTED), storeEmitter.awaitStatuses(2));
+        assertEquals(store.getId(), ((OrderStatusEventResponseDto) storeEmitter.sent.get(1)).getStoreId());
+    }
+
+    @Test
+    @DisplayName("구독 권한/대상 확인 및 구독자 한도 초과 시 503")
+    void subscribe_checksAccessAndLimit() {
+        UserDetailsImpl owner = principal("owner", Role.OWNER);
+        UserDetailsImpl customer = principal("customer", Role.CUSTOMER);
+        UserDetailsImpl otherCustomer = principal("other", Role.CUSTOMER);
+        UserDetailsImpl otherOwner = principal("otherOwner", Role.OWNER);
+        Store store = storeRepository.save(Store.of("testName", "testAddress", "010-1234-1234", true, LocalTime.now(), LocalTime.now(), owner.getUser()));
+        UUID orderId = createOrder(customer.getUser(), store);
+
+        assertThrows(AccessDeniedException.class, () -> orderStreamService.subscribeOrder(orderId, otherCustomer));
+        assertThrows(AccessDeniedException.class, () -> orderStreamService.subscribeOrder(orderId, otherOwner));
+        assertThrows(AccessDeniedException.class, () -> orderStreamService.subscribeStore(store.getId(), customer));
+        assertThrows(NoSuchElementException.class, () -> orderStreamService.subscribeOrder(UUID.randomUUID(), customer));
+
+        for (int i = 0; i < 3; i++) {
+            orderStreamService.subscribeStore(store.getId(), owner);
+        }
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class, () -> orderStreamService.subscribeStore(store.getId(), owner));
+        assertEquals(503, exception.getStatusCode().value());
+    }
+
+    @Test
+    @DisplayName("heartbeat - 유휴 구독자에게 전송하고 끊긴 연결은 정리")
+    void heartbeat_removesBrokenSubscribers() throws InterruptedException {
+        UserDetailsImpl owner = principal("owner", Role.OWNER);
+        Store store = storeRepository.save(Store.of("testName", "testAddress", "010-1234-1234", true, LocalTime.now(), LocalTime.now(), owner.getUser()));
+
+        RecordingEmitter alive = (RecordingEmitter) orderStreamService.subscribeStore(store.getId(), owner);
+        RecordingEmitter broken = (RecordingEmitter) orderStreamService.subscribeStore(store.getId(), owner);
+        broken.broken = true;
+        assertEquals(2, broker.subscriberCount());
+
+        broker.heartbeat();
+
+        alive.awaitSent(1);
+        for (int i = 0; i < 100 && broker.subscriberCount() > 1; i++) {
+            Thread.sleep(20);
+        }
+        assertEquals(1, broker.subscriberCount());
+    }
+
+    @Test
+    @DisplayName("가게 새 주문 long-polling - 대기 중인 요청이 주문 커밋 즉시 응답, cursor 가 없으면 DB 의 접수 대기 주문")
+    void pollIncoming_wakesOnOrderCreated() {
+        UserDetailsImpl owner = principal("owner", Role.OWNER);
+        UserDetailsImpl customer = principal("customer", Role.CUSTOMER);
+        Store store = storeRepository.save(Store.of("testName", "testAddress", "010-1234-1234", true, LocalTime.now(), LocalTime.now(), owner.getUser()));
+
+        IncomingOrdersResponseDto initial = resultOf(orderStreamService.pollIncoming(store.getId(), null, 5000, owner));
+        assertEquals(0, initial.getCursor());
+        assertTrue(initial.getOrders().isEmpty());
+
+        DeferredResult<ApiResponseDto<IncomingOrdersResponseDto>> waiting = orderStreamService.pollIncoming(store.getId(), initial.getCursor(), 5000, owner);
+        assertFalse(waiting.hasResult());
+        int waiters = incomingOrderQueue.waiterCount();
+
+        UUID orderId = createOrder(customer.getUser(), store);
+
+        IncomingOrdersResponseDto woken = resultOf(waiting);
+        assertEquals(1, woken.getCursor());
+        assertEquals(1, woken.getOrders().size());
+        assertEquals(orderId, woken.getOrders().get(0).getOrderId());
+        assertEquals("testAddress", woken.getOrders().get(0).getAddress());
+        assertEquals(waiters - 1, incomingOrderQueue.waiterCount());
+
+        // 대기열이 이어 줄 수 없는 cursor (재기동 이전 등) - store_id 로 DB 조회
+        IncomingOrdersResponseDto snapshot = resultOf(orderStreamService.pollIncoming(store.getId(), 99L, 5000, owner));
+        assertEquals(1, snapshot.getCursor());
+        assertEquals(List.of(orderId), snapshot.getOrders().stream().map(IncomingOrderResponseDto::getOrderId).toList());
+
+        assertFalse(orderStreamService.pollIncoming(store.getId(), 1L, 5000, owner).hasResult());
+        assertThrows(AccessDeniedException.class, () -> orderStreamService.pollIncoming(store.getId(), null, 5000, customer));
+    }
+
+    @SuppressWarnings("unchecked")
+    private IncomingOrdersResponseDto resultOf(DeferredResult<ApiResponseDto<IncomingOrdersResponseDto>> result) {
+        assertTrue(result.hasResult());
+        return ((ApiResponseDto<IncomingOrdersResponseDto>) result.getResult()).getData();
+    }
+
+    private UUID createOrder(User customer, Store store) {
+        UUID menuId = menuRepository.save(Menu.of(MenuRequestDto.of("menu", 1000L, "d", "d", true, store.getId()), store)).getId();
+        OrderRequestDto orderRequestDto = new OrderRequestDto();
+        orderRequestDto.setUserId(customer);
+        orderRequestDto.setAddress("testAddress");
+        orderRequestDto.setOrderType("testOrderType");
+        orderRequestDto.setCardNumber("1234-5678");
+        orderRequestDto.setMenuInfo(List.of(Map.of(menuId, 1L)));
+        return orderService.createOrder(orderRequestDto).getData().getOrderId();
+    }
+
+    private UserDetailsImpl principal(String username, Role role) {
+        return new UserDetailsImpl(userRepository.save(User.createUser(username, username + "@test.com", "1234", role)));
+    }
+
+    private static class RecordingBroker extends OrderEventBroker {
+        RecordingBroker() {
+            super(3, 2, 1, 1);
+        }
+
+        @Override
+        protected SseEmitter newEmitter() {
+            return new RecordingEmitter();
+        }
+    }
+
+    // 전송 대신 보낸 데이터(payload, heartbeat 주석)를 기록
+    private static class RecordingEmitter extends SseEmitter {
+        private final List<Object> sent = new CopyOnWriteArrayList<>();
+        private volatile boolean broken;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (broken) {
+                throw new IOException("연결 끊김");
+            }
+            builder.build().stream()
+                    .map(data -> data.getData())
+                    .filter(data -> data instanceof OrderStatusEventResponseDto || data.toString().startsWith(":"))
+                    .forEach(sent::add);
+        }
+
+        List<Object> awaitSent(int count) throws InterruptedException {
+            for (int i = 0; i < 100 && sent.size() < count; i++) {
+                Thread.sleep(20);
+            }
+            assertEquals(count, sent.size());
+            return sent;
+        }
+
+        List<OrderStatus> awaitStatuses(int count) throws InterruptedException {
+            return awaitSent(count).stream()
+                    .map(data -> ((OrderStatusEventResponseDto) data).getToStatus())
+                    .toList();
+        }
+    }
+}
@@ -170,4 +170,71 @@ class ReviewServiceTest extends IntegrationTestBase {
         );
         assertEquals("이미 삭제된 리뷰입니다.", exception.getMessage());
     }
+
+    @Test
+    @DisplayName("리뷰 생성/수정/삭제 시 가게 평점 집계 갱신")
+    void storeRatingAggregate_followsReviewChanges() {
+        UserDetailsImpl userDetails = userFixtureGenerator.createdPrincipalFixture();
+
+        User user = userDetails.getUser();
+
+        Store dummyStore = Store.of("testStore", "test","010-1234-1234",true, LocalTime.now(),LocalTime.now(), user);
+        dummyStore = storeRepository.save(dummyStore);
+        UUID dummyStoreId = dummyStore.getId();
+
+        ReviewRequestDto firstDto = new ReviewRequestDto();
+        firstDto.setRating(4.0);
+        firstDto.setComment("Good");
+        UUID firstReviewId = reviewService.createReview(dummyStoreId, firstDto, userDetails).getId();
+
+        ReviewRequestDto secondDto = new ReviewRequestDto();
+        secondDto.setRating(2.0);
+        secondDto.setComment("Bad");
+        UUID secondReviewId = reviewService.createReview(dummyStoreId, secondDto, userDetails).getId();
+
+        Store store = storeRepository.findById(dummyStoreId).orElseThrow();
+        assertEquals(2, store.getRatingCount());
+        assertEquals(3.0, store.getAverageRating());
+
+        reviewService.updateReview(firstReviewId, ReviewUpdateRequestDto.builder().rating(5.0).comment("Great").build(), userDetails);
+
+        store = storeRepository.findById(dummyStoreId).orElseThrow();
+        assertEquals(2, store.getRatingCount());
+        assertEquals(3.5, store.getAverageRating());
+
+        reviewService.deleteReview(secondReviewId, userDetails);
+
+        store = storeRepository.findById(dummyStoreId).orElseThrow();
+        assertEquals(1, store.getRatingCount());
+        assertEquals(5.0, store.getAverageRating());
+    }
+
+    @Test
+    @DisplayName("가게 평점 집계 재계산 성공")
+    void rebuildStoreRatings_success() {
+        UserDetailsImpl userDetails = userFixtureGenerator.createdPrincipalFixture();
+
+        User user = userDetails.getUser();
+
+        Store dummyStore = Store.of("testStore", "test","010-1234-1234",true, LocalTime.now(),LocalTime.now(), user);
+        dummyStore = storeRepository.save(dummyStore);
+        UUID dummyStoreId = dummyStore.getId();
+
+        // 집계를 거치지 않고 직접 저장된 리뷰 (드리프트 상황)
+        for (int i = 1; i <= 4; i++) {
+            reviewRepository.save(Review.builder()
+                    .score((double) i)
+                    .contents("Review " + i)
+                    .user(user)
+                    .store(dummyStore)
+                    .build());
+        }
+        assertEquals(0.0, storeRepository.findById(dummyStoreId).orElseThrow().getAverageRating());
+
+        reviewService.rebuildStoreRatings();
+
+        Store store = storeRepository.findById(dummyStoreId).orElseThrow();
+        assertEquals(4, store.getRatingCount());
+        assertEquals(2.5, store.getAverageRating());
+    }
 }
@@ -0,0 +1,157 @@
+package com.spring.delivery.domain.service;
+
+import com.spring.delivery.domain.config.IntegrationTestBase;
+import com.spring.delivery.domain.controller.dto.ApiResponseDto;
+import com.spring.delivery.domain.controller.dto.store.StoreBulkImportLineDto;
+import com.spring.delivery.domain.controller.dto.store.StoreBulkImportResponseDto;
+import com.spring.delivery.domain.domain.entity.Category;
+import com.spring.delivery.domain.domain.entity.Store;
+import com.spring.delivery.domain.domain.entity.User;
+import com.spring.delivery.domain.domain.entity.enumtype.Role;
+import com.spring.delivery.domain.domain.repository.CategoryRepository;
+import com.spring.delivery.domain.domain.repository.StoreCategoryRepository;
+import com.spring.delivery.domain.domain.repository.StoreRepository;
+import com.spring.delivery.domain.domain.repository.UserRepository;
+import com.spring.delivery.domain.domain.repository.search.StoreSearchCondition;
+import com.spring.delivery.global.security.UserDetailsImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StoreImportServiceTest extends IntegrationTestBase {
+
+    @Autowired
+    private StoreImportService storeImportService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private StoreCategoryRepository storeCategoryRepository;
+
+    @Test
+    @DisplayName("가게 일괄 등록 - NDJSON, 줄별 결과 보고")
+    void importStores_ndjson() {
+        UserDetailsImpl master = createMaster();
+        UUID categoryId = categoryRepository.save(Category.of("치킨")).getId();
+        UUID unknownId = UUID.randomUUID();
+
+        String body = String.join("\n",
+                "{\"name\":\"가게1\",\"categoryIds\":[\"" + categoryId + "\"],\"address\":\"서울특별시 강남구 역삼동 1\",\"tel\":\"010-0000-0001\",\"openStatus\":true,\"startTime\":\"09:00\",\"endTime\":\"22:00\"}",
+                "",
+                "{\"name\":\"가게2\",\"categoryIds\":[\"" + unknownId + "\"],\"address\":\"서울특별시\",\"tel\":\"010-0000-0002\",\"openStatus\":true,\"startTime\":\"09:00\",\"endTime\":\"22:00\"}",
+                "{\"name\":",
+                "{\"name\":\" \",\"categoryIds\":[],\"address\":\"서울특별시\",\"tel\":\"010\",\"openStatus\":true,\"startTime\":\"09:00\",\"endTime\":\"22:00\"}");
+
+        ApiResponseDto<StoreBulkImportResponseDto> response = storeImportService.importStores(master, stream(body), StoreImportService.NDJSON);
+
+        assertEquals(200, response.getStatus());
+        StoreBulkImportResponseDto report = response.getData();
+        assertEquals(4, report.getTotal());
+        assertEquals(1, report.getCreated());
+        assertEquals(3, report.getFailed());
+
+        List<StoreBulkImportLineDto> results = report.getResults();
+        assertEquals(List.of(1L, 3L, 4L, 5L), results.stream().map(StoreBulkImportLineDto::getLine).toList());
+        assertTrue(results.get(0).isSuccess());
+        assertEquals("유효하지 않은 카테고리 ID: " + unknownId, results.get(1).getMessage());
+        assertEquals("JSON 형식이 올바르지 않습니다.", results.get(2).getMessage());
+        assertEquals("가게 이름은 필수입니다.", results.get(3).getMessage());
+
+        Store store = storeRepository.findById(results.get(0).getStoreId()).orElseThrow();
+        assertEquals("가게1", store.getName());
+        assertEquals(LocalTime.of(22, 0), store.getEndTime());
+        assertNotNull(store.getLatitude()); // 주소 지오코딩
+        assertEquals(1, storeRepository.count());
+        assertEquals(1, storeCategoryRepository.count());
+    }
+
+    @Test
+    @DisplayName("가게 일괄 등록 - CSV (따옴표 필드, 다중 카테고리)")
+    void importStores_csv() {
+        UserDetailsImpl master = createMaster();
+        UUID chicken = categoryRepository.save(Category.of("치킨")).getId();
+        UUID pizza = categoryRepository.save(Category.of("피자")).getId();
+
+        String body = String.join("\n",
+                "name,address,tel,openStatus,startTime,endTime,categoryIds",
+                "\"치킨, 피자 \"\"본점\"\"\",서울특별시 강남구,010-1111-1111,true,10:00,02:00," + chicken + "|" + pizza,
+                "피자집,서울특별시,010-2222-2222,maybe,10:00,22:00," + pizza,
+                "치킨집,서울특별시,010-3333-3333,false,25:00,22:00," + chicken);
+
+        StoreBulkImportResponseDto report = storeImportService.importStores(master, stream(body), StoreImportService.CSV).getData();
+
+        assertEquals(3, report.getTotal());
+        assertEquals(1, report.getCreated());
+        assertEquals(2, report.getResults().get(0).getLine());
+        assertEquals("영업 상태는 true 또는 false 여야 합니다.", report.getResults().get(1).getMessage());
+        assertEquals("유효하지 않은 시간 형식입니다. (HH:mm)", report.getResults().get(2).getMessage());
+
+        Store store = storeRepository.findById(report.getResults().get(0).getStoreId()).orElseThrow();
+        assertEquals("치킨, 피자 \"본점\"", store.getName());
+        assertEquals(2, storeCategoryRepository.count());
+
+        // 헤더에 필수 컬럼이 없으면 요청 전체 실패
+        assertEquals(400, storeImportService.importStores(master, stream("name,address\n가게,주소"), StoreImportService.CSV).getStatus());
+    }
+
+    @Test
+    @DisplayName("가게 일괄 등록 - 청크 단위 배치 저장 및 검색 색인 반영")
+    void importStores_batchedAndIndexed() {
+        UserDetailsImpl master = createMaster();
+        UUID categoryId = categoryRepository.save(Category.of("분식")).getId();
+
+        int count = StoreImportService.CHUNK_SIZE * 2 + 50;
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            body.append("{\"name\":\"분식집").append(i).append("\",\"categoryIds\":[\"").append(categoryId)
+                    .append("\"],\"address\":\"서울특별시\",\"tel\":\"010\",\"openStatus\":true,\"startTime\":\"09:00\",\"endTime\":\"22:00\"}\n");
+        }
+
+        queryCounter.reset();
+        StoreBulkImportResponseDto report = storeImportService.importStores(master, stream(body.toString()), StoreImportService.NDJSON).getData();
+        long statements = queryCounter.count();
+
+        assertEquals(count, report.getCreated());
+        assertEquals(count, storeRepository.count());
+        assertEquals(count, storeCategoryRepository.count());
+        // 줄 수(250)와 무관하게 청크(3개)마다 상수 개의 문장만 실행 (카테고리 조회 + 배치 INSERT 2종 + 색인 갱신)
+        assertTrue(statements <= 1 + 3 * 8, "statements=" + statements);
+
+        StoreSearchCondition condition = StoreSearchCondition.builder().categoryNames(List.of("분식")).build();
+        assertEquals(count, storeSearchIndex.searchPage(condition, PageRequest.of(0, 10)).getTotalElements());
+    }
+
+    @Test
+    @DisplayName("가게 일괄 등록 - 권한 없음")
+    void importStores_forbidden() {
+        UserDetailsImpl customer = userFixtureGenerator.createdPrincipalFixture();
+
+        assertEquals(403, storeImportService.importStores(customer, stream(""), StoreImportService.NDJSON).getStatus());
+    }
+
+    private UserDetailsImpl createMaster() {
+        User master = User.createUser("masterUser", "masterUser@example.com", "password", Role.MASTER);
+        return new UserDetailsImpl(userRepository.save(master));
+    }
+
+    private InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,212 @@
+package com.spring.delivery.domain.service;
+
+import com.spring.delivery.domain.config.IntegrationTestBase;
+import com.spring.delivery.domain.controller.dto.ApiResponseDto;
+import com.spring.delivery.domain.controller.dto.menu.MenuRequestDto;
+import com.spring.delivery.domain.controller.dto.order.OrderRequestDto;
+import com.spring.delivery.domain.controller.dto.order.OrderResponseDto;
+import com.spring.delivery.domain.controller.dto.order.OrderStatusRequestDto;
+import com.spring.delivery.domain.controller.dto.store.StoreDailySalesResponseDto;
+import com.spring.delivery.domain.controller.dto.store.StoreSalesResponseDto;
+import com.spring.delivery.domain.domain.entity.Menu;
+import com.spring.delivery.domain.domain.entity.Store;
+import com.spring.delivery.domain.domain.entity.StoreDailySales;
+import com.spring.delivery.domain.domain.entity.User;
+import com.spring.delivery.domain.domain.entity.enumtype.Role;
+import com.spring.delivery.domain.domain.repository.MenuRepository;
+import com.spring.delivery.domain.domain.repository.StoreDailySalesRepository;
+import com.spring.delivery.domain.domain.repository.StoreRepository;
+import com.spring.delivery.domain.domain.repository.UserRepository;
+import com.spring.delivery.domain.service.rollup.StoreSalesRollup;
+import com.spring.delivery.global.security.UserDetailsImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StoreSalesServiceTest extends IntegrationTestBase {
+
+    @Autowired
+    private StoreSalesService storeSalesService;
+
+    @Autowired
+    private StoreSalesRollup storeSalesRollup;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private StoreDailySalesRepository storeDailySalesRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("일 매출 - 주문 생성/취소/삭제가 집계에 반영되고, 조회는 집계 행만 읽음")
+    void getDailySales_followsOrderLifecycle() {
+        UserDetailsImpl owner = principal("owner", Role.OWNER);
+        UserDetailsImpl customer = principal("customer", Role.CUSTOMER);
+        UserDetailsImpl master = principal("master", Role.MASTER);
+        Store store = store(owner);
+        UUID menu = menu(store, 1500L);
+
+        UUID first = createOrder(customer.getUser(), menu, 1L);
+        UUID second = createOrder(customer.getUser(), menu, 2L);
+        createOrder(customer.getUser(), menu, 3L);
+        LocalDate today = LocalDate.now();
+        assertSales(store, today, 3, 9000L);
+
+        // 취소, 삭제는 차감 / 이미 취소된 주문의 삭제는 변화 없음
+        assertEquals(200, orderService.changeOrderStatus(first, status("CANCELED"), customer).getStatus());
+        assertSales(store, today, 2, 7500L);
+        orderService.deleteOrder(second, master);
+        assertSales(store, today, 1, 4500L);
+        orderService.deleteOrder(first, master);
+        assertSales(store, today, 1, 4500L);
+
+        queryCounter.reset();
+        StoreSalesResponseDto sales = storeSalesService.getDailySales(store.getId(), today.minusDays(2), today, owner).getData();
+
+        assertEquals(2, queryCounter.count());
+        assertEquals(1, sales.getOrderCount());
+        assertEquals(4500L, sales.getSalesAmount());
+        assertEquals(List.of(0L, 0L, 4500L), sales.getDays().stream().map(StoreDailySalesResponseDto::getSalesAmount).toList());
+        assertEquals(today, sales.getDays().get(2).getDate());
+
+        assertEquals(403, storeSalesService.getDailySales(store.getId(), today, today, principal("other", Role.OWNER)).getStatus());
+        assertEquals(403, storeSalesService.getDailySales(store.getId(), today, today, customer).getStatus());
+        assertEquals(400, storeSalesService.getDailySales(store.getId(), today, today.minusDays(1), owner).getStatus());
+        assertEquals(404, storeSalesService.getDailySales(UUID.randomUUID(), today, today, owner).getStatus());
+    }
+
+    @Test
+    @DisplayName("일 매출 검증 - 어긋나거나 누락된 집계를 p_order 기준으로 보정")
+    void reconcile_correctsDrift() {
+        UserDetailsImpl owner = principal("owner", Role.OWNER);
+        UserDetailsImpl customer = principal("customer", Role.CUSTOMER);
+        Store store = store(owner);
+        UUID menu = menu(store, 1000L);
+        createOrder(customer.getUser(), menu, 2L);
+        createOrder(customer.getUser(), menu, 1L);
+        LocalDate today = LocalDate.now();
+
+        assertEquals(0, storeSalesRollup.reconcile(today, today));
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                storeSalesRollup.apply(store.getId(), today, 5, 5000L));
+        assertSales(store, today, 7, 8000L);
+        assertEquals(1, storeSalesRollup.reconcile(today, today));
+        assertSales(store, today, 2, 3000L);
+
+        storeDailySalesRepository.deleteAll();
+        assertEquals(1, storeSalesRollup.reconcile(today, today));
+        assertSales(store, today, 2, 3000L);
+    }
+
+    @Test
+    @DisplayName("일 매출 검증 - 상태/store_id 컬럼 추가 이전 주문도 합계에 포함 (취소 시 차감과 같은 기준)")
+    void reconcile_includesLegacyOrders() {
+        UserDetailsImpl owner = principal("owner", Role.OWNER);
+        UserDetailsImpl customer = principal("customer", Role.CUSTOMER);
+        Store store = store(owner);
+        UUID menu = menu(store, 1000L);
+        UUID legacy = createOrder(customer.getUser(), menu, 2L);
+        UUID legacyCanceled = createOrder(customer.getUser(), menu, 3L);
+        createOrder(customer.getUser(), menu, 1L);
+        jdbcTemplate.update("UPDATE p_order SET order_status = NULL, store_id = NULL WHERE id IN (?, ?)", legacy, legacyCanceled);
+        LocalDate today = LocalDate.now();
+
+        assertEquals(200, orderService.changeOrderStatus(legacyCanceled, status("CANCELED"), customer).getStatus());
+        assertSales(store, today, 2, 3000L);
+
+        assertEquals(0, storeSalesRollup.reconcile(today, today));
+        assertSales(store, today, 2, 3000L);
+    }
+
+    @Test
+    @DisplayName("일 매출 - 그날 가게의 첫 주문이 동시에 들어와도 모두 반영")
+    void createOrder_concurrentFirstOrders() throws Exception {
+        UserDetailsImpl owner = principal("owner", Role.OWNER);
+        UserDetailsImpl customer = principal("customer", Role.CUSTOMER);
+        Store store = store(owner);
+        UUID menu = menu(store, 1000L);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<UUID>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> createOrder(customer.getUser(), menu, 1L)));
+            }
+            for (Future<UUID> future : futures) {
+                assertNotNull(future.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertSales(store, LocalDate.now(), 8, 8000L);
+    }
+
+    private void assertSales(Store store, LocalDate date, long orderCount, long salesAmount) {
+        List<StoreDailySales> rows = storeDailySalesRepository.findByStoreIdAndSalesDateBetweenOrderBySalesDateAsc(store.getId(), date, date);
+        assertEquals(1, rows.size());
+        assertEquals(orderCount, rows.get(0).getOrderCount());
+        assertEquals(salesAmount, rows.get(0).getSalesAmount());
+    }
+
+    private UUID createOrder(User customer, UUID menuId, long amount) {
+        OrderRequestDto orderRequestDto = new OrderRequestDto();
+        orderRequestDto.setUserId(customer);
+        orderRequestDto.setAddress("testAddress");
+        orderRequestDto.setOrderType("testOrderType");
+        orderRequestDto.setCardNumber("1234-5678");
+        orderRequestDto.setMenuInfo(List.of(Map.of(menuId, amount)));
+        ApiResponseDto<OrderResponseDto> response = orderService.createOrder(orderRequestDto);
+        assertEquals(200, response.getStatus());
+        return response.getData().getOrderId();
+    }
+
+    private OrderStatusRequestDto status(String status) {
+        OrderStatusRequestDto requestDto = new OrderStatusRequestDto();
+        requestDto.setStatus(status);
+        return requestDto;
+    }
+
+    private Store store(UserDetailsImpl owner) {
+        return storeRepository.save(Store.of("testName", "testAddress", "010-1234-1234", true, LocalTime.now(), LocalTime.now(), owner.getUser()));
+    }
+
+    private UUID menu(Store store, long price) {
+        return menuRepository.save(Menu.of(MenuRequestDto.of("menu", price, "d", "d", true, store.getId()), store)).getId();
+    }
+
+    private UserDetailsImpl principal(String username, Role role) {
+        return new UserDetailsImpl(userRepository.save(User.createUser(username, username + "@test.com", "1234", role)));
+    }
+}
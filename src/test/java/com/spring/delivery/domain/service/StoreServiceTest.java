@@ -2,6 +2,8 @@ package com.spring.delivery.domain.service;
 
 import com.spring.delivery.domain.config.IntegrationTestBase;
 import com.spring.delivery.domain.controller.dto.ApiResponseDto;
+import com.spring.delivery.domain.controller.dto.category.CategoryRequestDto;
+import com.spring.delivery.domain.controller.dto.review.ReviewRequestDto;
 import com.spring.delivery.domain.controller.dto.store.*;
 import com.spring.delivery.domain.domain.entity.Category;
 import com.spring.delivery.domain.domain.entity.Store;
@@ -9,18 +11,36 @@ import com.spring.delivery.domain.domain.entity.StoreCategory;
 import com.spring.delivery.domain.domain.entity.User;
 import com.spring.delivery.domain.domain.entity.enumtype.Role;
 import com.spring.delivery.domain.domain.repository.CategoryRepository;
+import com.spring.delivery.domain.domain.repository.DeliveryAddressRepository;
 import com.spring.delivery.domain.domain.repository.StoreCategoryRepository;
 import com.spring.delivery.domain.domain.repository.StoreRepository;
 import com.spring.delivery.domain.domain.repository.UserRepository;
+import com.spring.delivery.domain.domain.repository.search.StoreSearchCondition;
+import com.spring.delivery.domain.fixture.DeliveryAddressFixtureGenerator;
 import com.spring.delivery.global.security.UserDetailsImpl;
 import org.junit.jupiter.api.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -28,6 +48,8 @@ import static org.junit.jupiter.api.Assertions.*;
 
 class StoreServiceTest extends IntegrationTestBase {
 
+    private static final Logger log = LoggerFactory.getLogger(StoreServiceTest.class);
+
     @Autowired
     private UserRepository userRepository;
 
@@ -43,6 +65,21 @@ class StoreServiceTest extends IntegrationTestBase {
     @Autowired
     private StoreService storeService;
 
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private DeliveryAddressService deliveryAddressService;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private DeliveryAddressRepository deliveryAddressRepository;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
 
     @Test
     @DisplayName("가게 등록 - 권한 있음")
@@ -394,5 +431,491 @@ class StoreServiceTest extends IntegrationTestBase {
         assertEquals(403, response.getStatus());
         assertEquals("가게를 삭제할 권한이 없습니다.", response.getMessage());
     }
-}
 
+    @Test
+    @DisplayName("가게 목록 조회 - 페이지 크기와 무관하게 SQL 실행 수 일정")
+    void testGetAllStoresRunsConstantNumberOfQueries() {
+        User masterUser = User.createUser("masterUser", "masterUser@example.com", "password", Role.MASTER);
+        userRepository.save(masterUser);
+
+        Category korean = categoryRepository.save(Category.of("한식"));
+        Category chinese = categoryRepository.save(Category.of("중식"));
+
+        for (int i = 0; i < 20; i++) {
+            Store store = storeRepository.save(Store.of("테스트 가게 " + i, "테스트 주소", "010-1234-5678", true,
+                    LocalTime.of(9, 0), LocalTime.of(22, 0), masterUser));
+            storeCategoryRepository.save(StoreCategory.of(store, korean));
+            storeCategoryRepository.save(StoreCategory.of(store, chinese));
+        }
+
+        queryCounter.reset();
+        ApiResponseDto<Page<StoreListResponseDto>> smallPage = storeService.getAllStores(0, 5, "createdAt", true);
+        long smallPageQueries = queryCounter.count();
+
+        queryCounter.reset();
+        ApiResponseDto<Page<StoreListResponseDto>> largePage = storeService.getAllStores(0, 20, "createdAt", true);
+        long largePageQueries = queryCounter.count();
+
+        assertEquals(5, smallPage.getData().getContent().size());
+        assertEquals(20, largePage.getData().getContent().size());
+        assertEquals(2, largePage.getData().getContent().get(0).getCategories().size());
+        assertTrue(largePage.getData().getContent().get(0).getCategories().containsAll(List.of("한식", "중식")));
+
+        // 가게 목록 + 전체 건수 + 카테고리 일괄 조회
+        assertEquals(3, largePageQueries);
+        assertEquals(smallPageQueries, largePageQueries);
+    }
+
+    @Test
+    @DisplayName("가게 목록 조회 - 커서 기반 페이지네이션")
+    void testGetStoresByCursor() {
+        User masterUser = User.createUser("masterUser", "masterUser@example.com", "password", Role.MASTER);
+        userRepository.save(masterUser);
+
+        for (int i = 0; i < 25; i++) {
+            storeRepository.save(Store.of("테스트 가게 " + i, "테스트 주소", "010-1234-5678", true,
+                    LocalTime.of(9, 0), LocalTime.of(22, 0), masterUser));
+        }
+
+        Set<UUID> visited = new HashSet<>();
+        String cursor = "";
+        int pages = 0;
+
+        do {
+            queryCounter.reset();
+            ApiResponseDto<StoreCursorResponseDto> response = storeService.getStoresByCursor(null, null, cursor, 10, false);
+
+            // 가게 목록 + 카테고리 일괄 조회 (count 쿼리 없음)
+            assertEquals(2, queryCounter.count());
+
+            response.getData().getContent().forEach(store -> assertTrue(visited.add(store.getStoreId())));
+            cursor = response.getData().getNextCursor();
+            assertEquals(response.getData().isHasNext(), cursor != null);
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(3, pages);
+        assertEquals(25, visited.size());
+
+        assertThrows(IllegalArgumentException.class,
+                () -> storeService.getStoresByCursor(null, null, "not-a-cursor", 10, false));
+    }
+
+    @Test
+    @DisplayName("가게 검색 - 중복 없는 건수 및 count 쿼리 생략")
+    void testSearchStoresCountStrategy() {
+        User masterUser = User.createUser("masterUser", "masterUser@example.com", "password", Role.MASTER);
+        userRepository.save(masterUser);
+
+        Category korean = categoryRepository.save(Category.of("한식"));
+        Category chinese = categoryRepository.save(Category.of("중식"));
+
+        for (int i = 0; i < 12; i++) {
+            Store store = storeRepository.save(Store.of("검색 가게 " + i, "테스트 주소", "010-1234-5678", true,
+                    LocalTime.of(9, 0), LocalTime.of(22, 0), masterUser));
+            storeCategoryRepository.save(StoreCategory.of(store, korean));
+            if (i % 4 == 0) {
+                storeCategoryRepository.save(StoreCategory.of(store, chinese));
+            }
+        }
+
+        // 카테고리 조인이 있어도 가게는 한 번씩만 집계
+        queryCounter.reset();
+        Page<StoreListResponseDto> fullPage = storeService.searchStores(null, "한식", 0, 10, "createdAt", true).getData();
+        assertEquals(3, queryCounter.count());
+        assertEquals(12, fullPage.getTotalElements());
+        assertEquals(10, fullPage.getContent().size());
+
+        // 첫 페이지가 size보다 적으면 count 쿼리 생략
+        queryCounter.reset();
+        Page<StoreListResponseDto> partialPage = storeService.searchStores(null, "중식", 0, 10, "createdAt", true).getData();
+        assertEquals(2, queryCounter.count());
+        assertEquals(3, partialPage.getTotalElements()); // 0, 4, 8
+
+        // Slice는 count 없이 hasNext만 제공
+        queryCounter.reset();
+        Slice<StoreListResponseDto> slice = storeService.searchStoresSlice(null, "한식", 0, 10, "createdAt", true).getData();
+        assertEquals(2, queryCounter.count());
+        assertEquals(10, slice.getContent().size());
+        assertTrue(slice.hasNext());
+    }
+
+    @Test
+    @DisplayName("가게 이름 검색 - n-gram 색인으로 후보를 구하고 페이지의 가게만 조회")
+    void testSearchStoresByNameUsesIndex() {
+        User masterUser = User.createUser("masterUser", "masterUser@example.com", "password", Role.MASTER);
+        userRepository.save(masterUser);
+        UserDetailsImpl masterUserDetails = new UserDetailsImpl(masterUser);
+
+        Category korean = categoryRepository.save(Category.of("한식"));
+        Category chinese = categoryRepository.save(Category.of("중식"));
+
+        // 기동 시 적재 대상 (리포지토리로 직접 저장 후 색인 재구성)
+        for (int i = 0; i < 15; i++) {
+            Store store = storeRepository.save(Store.of("김밥천국 " + i + "호점", "테스트 주소", "010-1234-5678", true,
+                    LocalTime.of(9, 0), LocalTime.of(22, 0), masterUser));
+            storeCategoryRepository.save(StoreCategory.of(store, i % 2 == 0 ? korean : chinese));
+        }
+        storeRepository.save(Store.of("천국반점", "테스트 주소", "010-1234-5678", true,
+                LocalTime.of(9, 0), LocalTime.of(22, 0), masterUser));
+        storeSearchIndex.rebuild();
+
+        // 서비스로 등록한 가게는 커밋 이후 색인에 반영
+        UUID createdId = (UUID) storeService.createStore(masterUserDetails, new StoreCreateRequestDto(
+                "김밥나라", List.of(korean.getId()), "테스트 주소", "010-1234-5678", true,
+                LocalTime.of(9, 0), LocalTime.of(22, 0))).getData();
+
+        queryCounter.reset();
+        Page<StoreListResponseDto> page = storeService.searchStores("김밥천국", null, 1, 10, "createdAt", true).getData();
+        // 페이지의 가게 조회 + 카테고리 일괄 조회 (LIKE 검색, count 쿼리 없음)
+        assertEquals(2, queryCounter.count());
+        assertEquals(15, page.getTotalElements());
+        assertEquals(5, page.getContent().size());
+        assertTrue(page.getContent().stream().allMatch(store -> store.getName().contains("김밥천국")));
+
+        assertEquals(8, storeService.searchStores("김밥천국", "한식", 0, 10, "createdAt", true).getData().getTotalElements());
+        assertEquals(16, storeService.searchStores("천국", null, 0, 10, "createdAt", true).getData().getTotalElements());
+        assertEquals(1, storeService.searchStores("밥나", null, 0, 10, "createdAt", true).getData().getTotalElements());
+        assertEquals(0, storeService.searchStores("김밥지옥", null, 0, 10, "createdAt", true).getData().getTotalElements());
+
+        // 이름 변경 및 삭제도 색인에 반영
+        storeService.updateStore(masterUserDetails, createdId,
+                new StoreUpdateRequestDto("분식나라", null, null, null, true, null, null));
+        assertEquals(0, storeService.searchStores("김밥나라", null, 0, 10, "createdAt", true).getData().getTotalElements());
+        assertEquals(1, storeService.searchStores("분식", null, 0, 10, "createdAt", true).getData().getTotalElements());
+
+        storeService.deleteStore(masterUserDetails, createdId);
+        assertEquals(0, storeService.searchStores("분식", null, 0, 10, "createdAt", true).getData().getTotalElements());
+
+        // 색인 기반 커서/Slice 검색
+        Set<UUID> visited = new HashSet<>();
+        String cursor = "";
+        do {
+            StoreCursorResponseDto response = storeService.getStoresByCursor("김밥", null, cursor, 10, false).getData();
+            response.getContent().forEach(store -> assertTrue(visited.add(store.getStoreId())));
+            cursor = response.getNextCursor();
+        } while (cursor != null);
+        assertEquals(15, visited.size());
+
+        Slice<StoreListResponseDto> slice = storeService.searchStoresSlice("호점", null, 1, 10, "createdAt", false).getData();
+        assertEquals(5, slice.getContent().size());
+        assertFalse(slice.hasNext());
+    }
+
+    @Test
+    @DisplayName("가게 단건 조회 캐시 - 적중/미스/무효화")
+    void testGetStoreByIdCache() {
+        User masterUser = User.createUser("masterUser", "masterUser@example.com", "password", Role.MASTER);
+        userRepository.save(masterUser);
+        UserDetailsImpl masterUserDetails = new UserDetailsImpl(masterUser);
+
+        Category category = categoryRepository.save(Category.of("한식"));
+        UUID storeId = (UUID) storeService.createStore(masterUserDetails, new StoreCreateRequestDto(
+                "캐시 가게", List.of(category.getId()), "테스트 주소", "010-1234-5678", true,
+                LocalTime.of(9, 0), LocalTime.of(22, 0))).getData();
+
+        // 통계는 누적값이므로 테스트 시작 시점 기준으로 비교
+        StoreCacheStatsResponseDto before = storeService.getCacheStats(masterUserDetails).getData();
+
+        // 첫 조회는 버전 + 가게 + 카테고리 이름 조회, 이후 조회는 DB를 사용하지 않음
+        queryCounter.reset();
+        storeService.getStoreById(storeId);
+        assertEquals(3, queryCounter.count());
+
+        queryCounter.reset();
+        StoreDetailResponseDto cached = storeService.getStoreById(storeId).getData();
+        assertEquals(0, queryCounter.count());
+        assertEquals("캐시 가게", cached.getName());
+        assertEquals(List.of("한식"), cached.getCategories());
+
+        // 존재하지 않는 가게도 캐시 (negative caching)
+        UUID unknownId = UUID.randomUUID();
+        assertThrows(IllegalArgumentException.class, () -> storeService.getStoreById(unknownId));
+        queryCounter.reset();
+        assertThrows(IllegalArgumentException.class, () -> storeService.getStoreById(unknownId));
+        assertEquals(0, queryCounter.count());
+
+        // 가게 수정 시 캐시 제거
+        storeService.updateStore(masterUserDetails, storeId,
+                new StoreUpdateRequestDto("수정된 가게", null, null, null, true, null, null));
+        assertEquals("수정된 가게", storeService.getStoreById(storeId).getData().getName());
+
+        // 카테고리 이름 변경 시 캐시 제거 (검색 색인의 카테고리 이름도 갱신)
+        categoryService.updateCategory(masterUserDetails, category.getId(), CategoryRequestDto.builder().name("분식").build());
+        assertEquals(List.of("분식"), storeService.getStoreById(storeId).getData().getCategories());
+        assertEquals(1, storeService.searchStores("수정", "분식", 0, 10, "createdAt", true).getData().getTotalElements());
+
+        StoreCacheStatsResponseDto stats = storeService.getCacheStats(masterUserDetails).getData();
+        assertEquals(2, stats.getHits() - before.getHits());
+        assertEquals(4, stats.getMisses() - before.getMisses());
+        assertEquals(3, stats.getInvalidations() - before.getInvalidations());
+
+        User customerUser = User.createUser("customerUser", "customerUser@example.com", "password", Role.CUSTOMER);
+        userRepository.save(customerUser);
+        assertEquals(403, storeService.getCacheStats(new UserDetailsImpl(customerUser)).getStatus());
+    }
+
+    @Test
+    @DisplayName("영업 시각 검색 - 자정을 넘는 영업시간 포함 구간 색인 조회")
+    void testSearchStoresOpenAt() {
+        User masterUser = User.createUser("masterUser", "masterUser@example.com", "password", Role.MASTER);
+        userRepository.save(masterUser);
+        UserDetailsImpl masterUserDetails = new UserDetailsImpl(masterUser);
+
+        storeRepository.save(Store.of("주간 가게", "테스트 주소", "010-1234-5678", true, LocalTime.of(9, 0), LocalTime.of(22, 0), masterUser));
+        storeRepository.save(Store.of("야간 가게", "테스트 주소", "010-1234-5678", true, LocalTime.of(22, 0), LocalTime.of(2, 0), masterUser));
+        storeRepository.save(Store.of("24시 가게", "테스트 주소", "010-1234-5678", true, LocalTime.of(0, 0), LocalTime.of(0, 0), masterUser));
+        storeRepository.save(Store.of("점심 가게", "테스트 주소", "010-1234-5678", true, LocalTime.of(11, 0), LocalTime.of(14, 0), masterUser));
+        Store closed = storeRepository.save(Store.of("휴업 가게", "테스트 주소", "010-1234-5678", false, LocalTime.of(9, 0), LocalTime.of(22, 0), masterUser));
+        storeSearchIndex.rebuild();
+
+        assertEquals(Set.of("야간 가게", "24시 가게"), openStoreNames("23:00"));
+        assertEquals(Set.of("야간 가게", "24시 가게"), openStoreNames("01:30"));
+        assertEquals(Set.of("24시 가게"), openStoreNames("02:00")); // 종료 시각은 포함하지 않음
+        assertEquals(Set.of("주간 가게", "24시 가게"), openStoreNames("10:00"));
+        assertEquals(Set.of("주간 가게", "점심 가게", "24시 가게"), openStoreNames("12:00"));
+
+        // 색인 준비 전 사용하는 DB 조건도 같은 결과
+        for (String time : List.of("23:00", "01:30", "02:00", "10:00", "12:00")) {
+            StoreSearchCondition condition = StoreSearchCondition.builder().openAt(LocalTime.parse(time)).build();
+            Set<String> fromDatabase = new HashSet<>();
+            storeRepository.searchStores(condition, PageRequest.of(0, 10, Sort.by("createdAt")))
+                    .forEach(store -> fromDatabase.add(store.getName()));
+            assertEquals(openStoreNames(time), fromDatabase);
+        }
+
+        // 영업 상태/시간 변경은 색인에 반영
+        storeService.updateStore(masterUserDetails, closed.getId(),
+                new StoreUpdateRequestDto(null, null, null, null, true, LocalTime.of(20, 0), LocalTime.of(1, 0)));
+        assertEquals(Set.of("야간 가게", "24시 가게", "휴업 가게"), openStoreNames("23:00"));
+
+        // 이름 조건과 함께 사용
+        StoreSearchCondition nameAndTime = StoreSearchCondition.builder()
+                .storeName("가게")
+                .openAt(StoreSearchCondition.resolveOpenAt(false, "12:30"))
+                .build();
+        assertEquals(3, storeService.searchStores(nameAndTime, 0, 10, "createdAt", true).getData().getTotalElements());
+
+        assertThrows(IllegalArgumentException.class, () -> StoreSearchCondition.resolveOpenAt(false, "25:00"));
+        assertNotNull(StoreSearchCondition.resolveOpenAt(true, null));
+    }
+
+    private Set<String> openStoreNames(String openAt) {
+        StoreSearchCondition condition = StoreSearchCondition.builder()
+                .openAt(StoreSearchCondition.resolveOpenAt(false, openAt))
+                .build();
+
+        Set<String> names = new HashSet<>();
+        storeService.searchStores(condition, 0, 10, "createdAt", true).getData().getContent()
+                .forEach(store -> names.add(store.getName()));
+        return names;
+    }
+
+    @Test
+    @DisplayName("위치 검색 - 배송지 기준 반경 내 가게를 가까운 순으로 조회")
+    void testSearchStoresNearDeliveryAddress() {
+        User masterUser = User.createUser("masterUser", "masterUser@example.com", "password", Role.MASTER);
+        userRepository.save(masterUser);
+        UserDetailsImpl masterUserDetails = new UserDetailsImpl(masterUser);
+
+        for (String address : List.of("서울특별시 송파구 잠실동 1", "서울특별시 강남구 삼성동 2", "서울특별시 강남구 역삼동 3",
+                "서울 마포구 서교동 4", "부산광역시 해운대구 5", "주소 미상")) {
+            storeService.createStore(masterUserDetails, new StoreCreateRequestDto(
+                    address, List.of(), address, "010-1234-5678", true, LocalTime.of(9, 0), LocalTime.of(22, 0)));
+        }
+
+        // 등록 시 주소를 좌표로 변환 (변환할 수 없는 주소는 좌표 없음)
+        Store yeoksam = storeRepository.findAll().stream()
+                .filter(store -> store.getName().startsWith("서울특별시 강남구 역삼동")).findFirst().orElseThrow();
+        assertEquals(37.5006, yeoksam.getLatitude());
+        assertEquals(127.0366, yeoksam.getLongitude());
+
+        UserDetailsImpl customer = userFixtureGenerator.createdPrincipalFixture();
+        deliveryAddressService.createDeliveryAddress(DeliveryAddressFixtureGenerator.createDto("서울 강남구 역삼동 123", "문 앞"), customer);
+        UUID addressId = deliveryAddressRepository.findByUser_Id(customer.getUser().getId()).get(0).getId();
+
+        assertEquals(List.of("서울특별시 강남구 역삼동 3", "서울특별시 강남구 삼성동 2"), nearStoreNames(customer, addressId, 3));
+        assertEquals(List.of("서울특별시 강남구 역삼동 3", "서울특별시 강남구 삼성동 2", "서울특별시 송파구 잠실동 1"),
+                nearStoreNames(customer, addressId, 5));
+        assertEquals(List.of("서울특별시 강남구 역삼동 3", "서울특별시 강남구 삼성동 2", "서울특별시 송파구 잠실동 1", "서울 마포구 서교동 4"),
+                nearStoreNames(customer, addressId, 20));
+
+        // 다른 사용자의 배송지, 허용 범위를 벗어난 반경은 사용할 수 없음
+        assertThrows(IllegalArgumentException.class, () -> storeService.locateDeliveryAddress(masterUserDetails, addressId));
+        assertThrows(IllegalArgumentException.class, () -> StoreSearchCondition.checkRadiusKm(0));
+        assertThrows(IllegalArgumentException.class, () -> StoreSearchCondition.checkRadiusKm(50));
+    }
+
+    private List<String> nearStoreNames(UserDetailsImpl userDetails, UUID deliveryAddressId, double radiusKm) {
+        StoreSearchCondition condition = StoreSearchCondition.builder()
+                .near(storeService.locateDeliveryAddress(userDetails, deliveryAddressId))
+                .radiusKm(StoreSearchCondition.checkRadiusKm(radiusKm))
+                .build();
+
+        return storeService.searchStores(condition, 0, 10, "createdAt", false).getData().getContent().stream()
+                .map(StoreListResponseDto::getName)
+                .toList();
+    }
+
+    @Test
+    @DisplayName("속성 비트맵 검색 - 여러 카테고리 AND/OR, 영업 상태, 평점 필터와 카테고리별 가게 수")
+    void testSearchStoresWithBitmapFiltersAndFacets() {
+        User masterUser = User.createUser("masterUser", "masterUser@example.com", "password", Role.MASTER);
+        userRepository.save(masterUser);
+        UserDetailsImpl masterUserDetails = new UserDetailsImpl(masterUser);
+
+        UUID korean = categoryRepository.save(Category.of("한식")).getId();
+        UUID chinese = categoryRepository.save(Category.of("중식")).getId();
+        UUID snack = categoryRepository.save(Category.of("분식")).getId();
+
+        UUID first = createStore(masterUserDetails, "첫째 가게", true, List.of(korean, snack));
+        UUID second = createStore(masterUserDetails, "둘째 가게", true, List.of(korean));
+        createStore(masterUserDetails, "셋째 가게", true, List.of(chinese));
+        createStore(masterUserDetails, "넷째 가게", false, List.of(snack));
+
+        // 리뷰로 바뀐 평점도 커밋 이후 색인에 반영
+        UserDetailsImpl customer = userFixtureGenerator.createdPrincipalFixture();
+        ReviewRequestDto good = new ReviewRequestDto();
+        good.setRating(4.5);
+        good.setComment("Good");
+        reviewService.createReview(first, good, customer);
+        ReviewRequestDto soso = new ReviewRequestDto();
+        soso.setRating(3.0);
+        soso.setComment("Soso");
+        reviewService.createReview(second, soso, customer);
+
+        assertEquals(Set.of("첫째 가게", "둘째 가게", "넷째 가게"),
+                filteredStoreNames(StoreSearchCondition.builder().categoryNames(List.of("한식", "분식")).build()));
+        assertEquals(Set.of("첫째 가게"),
+                filteredStoreNames(StoreSearchCondition.builder().categoryNames(List.of("한식", "분식")).matchAllCategories(true).build()));
+        assertEquals(Set.of("첫째 가게", "둘째 가게"),
+                filteredStoreNames(StoreSearchCondition.builder().categoryNames(List.of("한식")).openStatus(true).build()));
+        assertEquals(Set.of("넷째 가게"),
+                filteredStoreNames(StoreSearchCondition.builder().openStatus(false).build()));
+        assertEquals(Set.of("첫째 가게"),
+                filteredStoreNames(StoreSearchCondition.builder().minRating(4.0).build()));
+        assertEquals(Set.of("첫째 가게", "둘째 가게"),
+                filteredStoreNames(StoreSearchCondition.builder().minRating(3.0).openStatus(true).build()));
+
+        // 카테고리별 가게 수는 추가 SQL 없이 계산 (가게 조회 + 카테고리 일괄 조회만 실행)
+        queryCounter.reset();
+        StoreFacetSearchResponseDto faceted = storeService.searchStoresWithFacets(
+                StoreSearchCondition.builder().categoryNames(List.of("한식", "분식")).build(), 0, 10, "createdAt", true).getData();
+        assertEquals(2, queryCounter.count());
+        assertEquals(3, faceted.getStores().getTotalElements());
+        assertEquals(Map.of("한식", 2, "분식", 2), faceted.getCategoryFacets());
+
+        assertEquals(Map.of("한식", 2, "중식", 1, "분식", 1), storeService.searchStoresWithFacets(
+                StoreSearchCondition.builder().openStatus(true).build(), 0, 10, "createdAt", true).getData().getCategoryFacets());
+
+        assertThrows(IllegalArgumentException.class, () -> StoreSearchCondition.resolveMatchAll("some"));
+    }
+
+    @Test
+    @DisplayName("가게 수정 - 카테고리 50개 교체 시 쿼리 수가 카테고리 수와 무관")
+    void testUpdateStoreCategoryDiffQueryCount() {
+        User masterUser = User.createUser("masterUser", "masterUser@example.com", "password", Role.MASTER);
+        userRepository.save(masterUser);
+        UserDetailsImpl masterUserDetails = new UserDetailsImpl(masterUser);
+
+        List<UUID> categoryIds = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            categoryIds.add(categoryRepository.save(Category.of("카테고리" + i)).getId());
+        }
+        List<UUID> before = categoryIds.subList(0, 50);
+        List<UUID> after = categoryIds.subList(50, 100);
+        UUID storeId = createStore(masterUserDetails, "카테고리 많은 가게", true, before);
+
+        // 워밍업 (before -> after -> before) 후 측정
+        storeService.updateStore(masterUserDetails, storeId, new StoreUpdateRequestDto(null, after, null, null, true, null, null));
+        storeService.updateStore(masterUserDetails, storeId, new StoreUpdateRequestDto(null, before, null, null, true, null, null));
+
+        queryCounter.reset();
+        ApiResponseDto<StoreUpdateResponseDto> response = storeService.updateStore(masterUserDetails, storeId,
+                new StoreUpdateRequestDto(null, after, null, null, true, null, null));
+        long statements = queryCounter.count();
+
+        assertEquals(200, response.getStatus());
+        assertEquals(new HashSet<>(after), new HashSet<>(response.getData().getCategoryIds()));
+        assertEquals(new HashSet<>(after), new HashSet<>(storeCategoryRepository.findByStoreId(storeId).stream()
+                .map(storeCategory -> storeCategory.getCategory().getId()).toList()));
+
+        // before <-> after 교체 반복 (짝수 회라 after 로 끝남)
+        int rounds = 20;
+        long started = System.nanoTime();
+        for (int i = 0; i < rounds; i++) {
+            storeService.updateStore(masterUserDetails, storeId,
+                    new StoreUpdateRequestDto(null, i % 2 == 0 ? before : after, null, null, true, null, null));
+        }
+        double millisPerUpdate = (System.nanoTime() - started) / 1_000_000.0 / rounds;
+        log.info("[benchmark] updateStore 50-category swap: {} statements, {} ms/update", statements, String.format("%.1f", millisPerUpdate));
+
+        // 가게 조회 1 + 기존 카테고리 1 + 추가 카테고리 검증 1 + 벌크 DELETE 1 + 배치 INSERT 1
+        // + 커밋 후 검색 색인/카테고리 순위표 갱신 각 2 (카테고리별 쿼리 없음)
+        assertTrue(statements <= 9, "statements=" + statements);
+
+        // 존재하지 않는 카테고리가 있으면 전체 실패
+        UUID unknownId = UUID.randomUUID();
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> storeService.updateStore(masterUserDetails, storeId,
+                new StoreUpdateRequestDto(null, List.of(after.get(0), unknownId), null, null, true, null, null)));
+        assertEquals("유효하지 않은 카테고리 ID: " + unknownId, exception.getMessage());
+        assertEquals(50, storeCategoryRepository.findByStoreId(storeId).size());
+    }
+
+    @Test
+    @DisplayName("가게 상세 조회 - ETag/Last-Modified 조건부 GET")
+    void testGetStoreByIdConditional() {
+        User masterUser = User.createUser("masterUser", "masterUser@example.com", "password", Role.MASTER);
+        userRepository.save(masterUser);
+        UserDetailsImpl masterUserDetails = new UserDetailsImpl(masterUser);
+
+        Category category = categoryRepository.save(Category.of("중식"));
+        UUID storeId = createStore(masterUserDetails, "짜장집", true, List.of(category.getId()));
+        String url = "/api/stores/" + storeId;
+
+        ResponseEntity<String> first = restTemplate.getForEntity(url, String.class);
+        assertEquals(HttpStatus.OK, first.getStatusCode());
+        String etag = first.getHeaders().getETag();
+        assertNotNull(etag);
+        assertTrue(first.getHeaders().getLastModified() > 0);
+
+        // 변경이 없으면 상세 캐시에 보관된 버전으로 DB 조회 없이 본문 없는 304
+        queryCounter.reset();
+        ResponseEntity<String> notModified = conditionalGet(url, etag);
+        assertEquals(HttpStatus.NOT_MODIFIED, notModified.getStatusCode());
+        assertNull(notModified.getBody());
+        assertEquals(0, queryCounter.count());
+
+        // 카테고리 이름이 바뀌면 가게 행이 그대로여도 새 버전
+        categoryService.updateCategory(masterUserDetails, category.getId(), CategoryRequestDto.builder().name("중화요리").build());
+        ResponseEntity<String> renamed = conditionalGet(url, etag);
+        assertEquals(HttpStatus.OK, renamed.getStatusCode());
+        assertTrue(renamed.getBody().contains("중화요리"));
+        assertNotEquals(etag, renamed.getHeaders().getETag());
+
+        // 카테고리 연결만 바뀌어도 새 버전
+        etag = renamed.getHeaders().getETag();
+        UUID otherCategoryId = categoryRepository.save(Category.of("분식")).getId();
+        storeService.updateStore(masterUserDetails, storeId,
+                new StoreUpdateRequestDto(null, List.of(category.getId(), otherCategoryId), null, null, true, null, null));
+        assertEquals(HttpStatus.OK, conditionalGet(url, etag).getStatusCode());
+    }
+
+    private ResponseEntity<String> conditionalGet(String url, String etag) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch(etag);
+        return restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+    }
+
+    private UUID createStore(UserDetailsImpl userDetails, String name, boolean openStatus, List<UUID> categoryIds) {
+        return (UUID) storeService.createStore(userDetails, new StoreCreateRequestDto(
+                name, categoryIds, "테스트 주소", "010-1234-5678", openStatus, LocalTime.of(9, 0), LocalTime.of(22, 0))).getData();
+    }
+
+    private Set<String> filteredStoreNames(StoreSearchCondition condition) {
+        Set<String> names = new HashSet<>();
+        storeService.searchStores(condition, 0, 10, "createdAt", true).getData().getContent()
+                .forEach(store -> names.add(store.getName()));
+        return names;
+    }
+}